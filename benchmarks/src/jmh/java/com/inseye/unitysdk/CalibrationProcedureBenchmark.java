@@ -0,0 +1,107 @@
+/*
+ * Last edit: 17.10.2026, 03:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import android.os.RemoteException;
+
+import com.inseye.shared.communication.ActionResult;
+import com.inseye.shared.communication.CalibrationPoint;
+import com.inseye.shared.communication.CalibrationPointResponse;
+import com.inseye.shared.communication.ICalibrationCallback;
+import com.inseye.shared.communication.IServiceCalibrationCallback;
+import com.inseye.unitysdk.metrics.MetricsRegistry;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Measures service to Unity calibration point round trip.
+ * Synchronous mode reads response and writes next point through JNA pointers,
+ * pipelined mode drains response queue and queues next point, Unity side of both queues is simulated.
+ */
+@State(Scope.Thread)
+public class CalibrationProcedureBenchmark {
+    private static final int QUEUE_SIZE = NativeRingBuffer.HEADER_SIZE + 64 * CalibrationProcedure.RESPONSE_SLOT_SIZE;
+
+    @Param({"false", "true"})
+    public boolean pipelined;
+
+    private final CalibrationPoint nextPoint = new CalibrationPoint(0.25f, -0.5f);
+    private Memory memory;
+    private Memory pointQueueMemory;
+    private Memory responseQueueMemory;
+    private ByteBuffer pointQueue;
+    private ByteBuffer responseQueue;
+    private ICalibrationCallback callback;
+
+    @Setup
+    public void setup() {
+        // request (8 bytes), response (16 bytes), status (int), point index (int)
+        memory = new Memory(64);
+        memory.clear();
+        long address = Pointer.nativeValue(memory);
+        CalibrationProcedure procedure = new CalibrationProcedure(address, address + 8, address + 24, address + 28, new MetricsRegistry());
+        if (pipelined) {
+            pointQueueMemory = new Memory(QUEUE_SIZE);
+            responseQueueMemory = new Memory(QUEUE_SIZE);
+            procedure.enablePipelinedMode(Pointer.nativeValue(pointQueueMemory), QUEUE_SIZE, Pointer.nativeValue(responseQueueMemory), QUEUE_SIZE);
+            pointQueue = pointQueueMemory.getByteBuffer(0, QUEUE_SIZE);
+            responseQueue = responseQueueMemory.getByteBuffer(0, QUEUE_SIZE);
+            procedure.setServiceCalibrationCallback(new IServiceCalibrationCallback() {
+                @Override
+                public ActionResult readyToRecieveCalibrationPoint(CalibrationPoint initialPoint) {
+                    return ActionResult.success();
+                }
+
+                @Override
+                public ActionResult abortCalibrationProcedure() {
+                    return ActionResult.success();
+                }
+            });
+            // service asks for next point after first point was displayed
+            procedure.markReadyForPointDisplay();
+            simulateUnity();
+        }
+        callback = procedure.getCalibrationCallback();
+    }
+
+    @Benchmark
+    public CalibrationPointResponse showNextCalibrationPoint() throws RemoteException {
+        CalibrationPointResponse response = callback.showNextCalibrationPoint(nextPoint);
+        if (pipelined)
+            simulateUnity();
+        return response;
+    }
+
+    private void simulateUnity() {
+        // consume queued points: readIndex = writeIndex
+        long pointWriteIndex = pointQueue.getLong(0);
+        int pointSlot = NativeRingBuffer.HEADER_SIZE + (int) ((pointWriteIndex - 1) & (pointQueue.getInt(132) - 1)) * CalibrationProcedure.POINT_SLOT_SIZE;
+        int pointIndex = pointQueue.getInt(pointSlot);
+        pointQueue.putLong(64, pointWriteIndex);
+        // publish display response of newest point
+        long writeIndex = responseQueue.getLong(0);
+        int capacity = responseQueue.getInt(132);
+        int slot = NativeRingBuffer.HEADER_SIZE + (int) (writeIndex & (capacity - 1)) * CalibrationProcedure.RESPONSE_SLOT_SIZE;
+        responseQueue.putInt(slot, pointIndex);
+        responseQueue.putFloat(slot + 4, 0.25f);
+        responseQueue.putFloat(slot + 8, -0.5f);
+        responseQueue.putLong(slot + 16, writeIndex);
+        responseQueue.putLong(0, writeIndex + 1);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Last edit: 17.10.2026, 02:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import com.inseye.unitysdk.trace.FlightRecorder;
+import com.inseye.unitysdk.trace.TraceEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+ * Measures flight recorder event cost, compare with LogBenchmark.disabledConcatenatedMessage.
+ */
+@State(Scope.Benchmark)
+public class FlightRecorderBenchmark {
+    @Param({"true", "false"})
+    public boolean enabled;
+
+    private final FlightRecorder recorder = new FlightRecorder(4096);
+
+    @Setup
+    public void setup() {
+        recorder.setEnabled(enabled);
+    }
+
+    @Benchmark
+    public void recordEvent() {
+        recorder.record(TraceEvent.CalibrationPointRequested, Float.floatToRawIntBits(0.25f), Float.floatToRawIntBits(-0.5f), 7);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordEventContended() {
+        recorder.record(TraceEvent.CalibrationPointRequested, Float.floatToRawIntBits(0.25f), Float.floatToRawIntBits(-0.5f), 7);
+    }
+}
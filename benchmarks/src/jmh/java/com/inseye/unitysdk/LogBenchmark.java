@@ -0,0 +1,40 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Measures cost of log calls made at levels below Log.CurrentLevel, which is what hot paths pay in release builds.
+ */
+@State(Scope.Thread)
+public class LogBenchmark {
+    public float x = 0.25f;
+    public float y = -0.5f;
+    public int index = 7;
+
+    @Setup
+    public void setup() {
+        Log.CurrentLevel = Log.Level.ERROR;
+    }
+
+    @Benchmark
+    public void disabledConstantMessage() {
+        Log.d("next calibration point");
+    }
+
+    @Benchmark
+    public void disabledConcatenatedMessage() {
+        Log.d("next calibration point - x: " + x + " y: " + y + " index: " + index);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Last edit: 17.10.2026, 02:34
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Measures state transition cost with and without write to Unity state pointer.
+ */
+@State(Scope.Thread)
+public class SDKStateBenchmark {
+    @Param({"true", "false"})
+    public boolean withUnityPointer;
+
+    private final SDKState state = new SDKState();
+    private Memory memory;
+
+    @Setup
+    public void setup() throws Exception {
+        Log.CurrentLevel = Log.Level.ERROR;
+        if (withUnityPointer) {
+            memory = new Memory(4);
+            state.setUnityPointer(Pointer.nativeValue(memory));
+        }
+        state.transition(SDKStateTransition.Connect);
+    }
+
+    @Benchmark
+    public boolean attachAndDetach() {
+        state.transition(SDKStateTransition.AttachGazeStream);
+        return state.transition(SDKStateTransition.DetachGazeStream);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Last edit: 17.10.2026, 02:38
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.clock;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Measures clock observations made for every gaze batch and time conversion.
+ */
+@State(Scope.Thread)
+public class ClockSyncBenchmark {
+    private final ClockSync clockSync = new ClockSync();
+    private final GazeSampleBatch batch = new GazeSampleBatch(1);
+    private long timestamp;
+
+    @Benchmark
+    public void observeGazeBatch() {
+        batch.clear();
+        batch.add(timestamp++, 0, 0, 0, 0, 0);
+        clockSync.onGazeBatch(batch);
+    }
+
+    @Benchmark
+    public double convertGazeToWallClock() {
+        return clockSync.convert(ClockDomain.ServiceGaze, ClockDomain.WallClock, timestamp);
+    }
+}
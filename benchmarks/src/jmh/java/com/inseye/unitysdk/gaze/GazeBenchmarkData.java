@@ -0,0 +1,52 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Synthetic gaze data shared by gaze benchmarks: smooth pursuit with small noise sampled every 2 ms.
+ */
+final class GazeBenchmarkData {
+    static final int BATCH_CAPACITY = 256;
+    // samples that fit in single datagram received by GazeReceiver
+    static final int DATAGRAM_SAMPLES = 1472 / 28;
+
+    private GazeBenchmarkData() {}
+
+    static GazeSampleBatch createBatch(int samples) {
+        GazeSampleBatch batch = new GazeSampleBatch(BATCH_CAPACITY);
+        fill(batch, samples, 0);
+        return batch;
+    }
+
+    static void fill(GazeSampleBatch batch, int samples, long startTime) {
+        batch.clear();
+        for (int i = 0; i < samples; i++) {
+            float x = (float) Math.sin(i * 0.01) + noise(i);
+            float y = (float) Math.cos(i * 0.01) + noise(i + 1);
+            batch.add(startTime + i * 2L, x, y, x + 0.01f, y - 0.01f, 0);
+        }
+    }
+
+    static ByteBuffer createDatagram() {
+        GazeSampleBatch batch = createBatch(DATAGRAM_SAMPLES);
+        ByteBuffer datagram = ByteBuffer.allocateDirect(DATAGRAM_SAMPLES * 28).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < batch.size(); i++)
+            GazeBatchDecoder.writeSample(batch, i, datagram);
+        datagram.flip();
+        return datagram;
+    }
+
+    private static float noise(int i) {
+        return ((i * 7919) % 101 - 50) * 0.0001f;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Last edit: 17.10.2026, 03:03
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Compares single broadcast ring read by N consumers with N separate ring buffers holding copy of the stream.
+ * All consumers read at full rate and are simulated by moving their read index up to write index after every batch.
+ */
+@State(Scope.Thread)
+public class GazeBroadcastBenchmark {
+    private static final int SLOTS = 1024;
+    private static final int BROADCAST_SIZE = GazeBroadcastRing.HEADER_SIZE + SLOTS * GazeBroadcastRing.SLOT_SIZE;
+    private static final int RING_SIZE = NativeRingBuffer.HEADER_SIZE + SLOTS * GazeRingBufferWriter.SLOT_SIZE;
+
+    @Param({"1", "4"})
+    public int consumers;
+
+    private final GazeSampleBatch batch = GazeBenchmarkData.createBatch(GazeBenchmarkData.BATCH_CAPACITY);
+    private Memory broadcastMemory;
+    private ByteBuffer broadcastHeader;
+    private GazeBroadcastRing broadcastRing;
+    private Memory[] ringMemories;
+    private ByteBuffer[] ringHeaders;
+    private GazeRingBufferWriter[] ringBufferWriters;
+
+    @Setup
+    public void setup() {
+        broadcastMemory = new Memory(BROADCAST_SIZE);
+        broadcastRing = new GazeBroadcastRing(Pointer.nativeValue(broadcastMemory), BROADCAST_SIZE, 0);
+        for (int i = 0; i < consumers; i++)
+            broadcastRing.addConsumer(GazeOverflowPolicy.DropOldest, 0);
+        broadcastHeader = broadcastMemory.getByteBuffer(0, GazeBroadcastRing.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ringMemories = new Memory[consumers];
+        ringHeaders = new ByteBuffer[consumers];
+        ringBufferWriters = new GazeRingBufferWriter[consumers];
+        for (int i = 0; i < consumers; i++) {
+            ringMemories[i] = new Memory(RING_SIZE);
+            ringBufferWriters[i] = new GazeRingBufferWriter(Pointer.nativeValue(ringMemories[i]), RING_SIZE);
+            ringHeaders[i] = ringMemories[i].getByteBuffer(0, NativeRingBuffer.HEADER_SIZE);
+        }
+    }
+
+    @Benchmark
+    public long writeBroadcastRing() {
+        broadcastRing.onGazeBatch(batch);
+        long writeIndex = broadcastHeader.getLong(GazeBroadcastRing.WRITE_INDEX_OFFSET);
+        for (int i = 0; i < consumers; i++)
+            broadcastHeader.putLong(GazeBroadcastRing.CONSUMERS_OFFSET + i * GazeBroadcastRing.CONSUMER_SIZE, writeIndex);
+        return writeIndex;
+    }
+
+    @Benchmark
+    public long writeRingBufferPerConsumer() {
+        long dropped = 0;
+        for (int i = 0; i < consumers; i++) {
+            ringBufferWriters[i].onGazeBatch(batch);
+            ringHeaders[i].putLong(64, ringHeaders[i].getLong(0));
+            dropped += ringBufferWriters[i].getDroppedCount();
+        }
+        return dropped;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Measures decoding of single full datagram into gaze sample batch.
+ */
+@State(Scope.Thread)
+public class GazeDecodeBenchmark {
+    private final GazeSampleBatch batch = new GazeSampleBatch(GazeBenchmarkData.BATCH_CAPACITY);
+    private ByteBuffer datagram;
+
+    @Setup
+    public void setup() {
+        datagram = GazeBenchmarkData.createDatagram();
+    }
+
+    @Benchmark
+    public int decodeDatagram() {
+        datagram.rewind();
+        batch.clear();
+        return GazeBatchDecoder.decode(datagram, batch);
+    }
+}
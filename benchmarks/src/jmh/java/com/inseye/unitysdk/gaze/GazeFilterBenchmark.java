@@ -0,0 +1,56 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.gaze.filters.GazeFilter;
+import com.inseye.unitysdk.gaze.filters.GazeFilterType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Measures single filter applied to full batch, batch is refilled with the same samples before every invocation.
+ */
+@State(Scope.Thread)
+public class GazeFilterBenchmark {
+    @Param({"OneEuro", "Median", "Kalman"})
+    public GazeFilterType type;
+
+    private final GazeSampleBatch source = GazeBenchmarkData.createBatch(GazeBenchmarkData.BATCH_CAPACITY);
+    private final GazeSampleBatch batch = new GazeSampleBatch(GazeBenchmarkData.BATCH_CAPACITY);
+    private GazeFilter filter;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case OneEuro:
+                filter = type.create(1.0f, 0.007f, 1.0f);
+                break;
+            case Median:
+                filter = type.create(5, 0, 0);
+                break;
+            case Kalman:
+                filter = type.create(0.0001f, 0.01f, 0);
+                break;
+        }
+    }
+
+    @Benchmark
+    public GazeSampleBatch applyFilter() {
+        batch.clear();
+        for (int i = 0; i < source.size(); i++)
+            batch.add(source.timestamps[i], source.leftX[i], source.leftY[i], source.rightX[i], source.rightY[i], source.gazeEvents[i]);
+        filter.apply(batch);
+        return batch;
+    }
+}
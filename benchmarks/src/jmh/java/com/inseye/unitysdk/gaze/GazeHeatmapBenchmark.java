@@ -0,0 +1,58 @@
+/*
+ * Last edit: 17.10.2026, 03:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.gaze.heatmap.GazeHeatmap;
+import com.inseye.unitysdk.gaze.heatmap.HeatmapTextureFormat;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Measures accumulation of single datagram of gaze samples into 256x256 heatmap with decay
+ * and conversion of full resolution level to 8 bit texture.
+ */
+@State(Scope.Thread)
+public class GazeHeatmapBenchmark {
+    private static final int SIZE = 256;
+
+    @Param({"1", "4"})
+    public float sigma;
+
+    private final GazeSampleBatch batch = GazeBenchmarkData.createBatch(GazeBenchmarkData.DATAGRAM_SAMPLES);
+    private GazeHeatmap heatmap;
+    private Memory texture;
+
+    @Setup
+    public void setup() {
+        heatmap = new GazeHeatmap(SIZE, SIZE, sigma, 5000);
+        // benchmark gaze moves on unit circle
+        heatmap.setViewportMapping(new ViewportMapping(0.4f, 0.5f, 0.4f, 0.5f));
+        texture = new Memory(SIZE * SIZE);
+    }
+
+    @Benchmark
+    public long accumulateDatagram() {
+        heatmap.onGazeBatch(batch);
+        for (int i = 0; i < batch.size(); i++)
+            batch.timestamps[i] += 2L * batch.size();
+        return heatmap.getSampleCount();
+    }
+
+    @Benchmark
+    public void copyToTexture() {
+        heatmap.copyTo(Pointer.nativeValue(texture), SIZE * SIZE, 0, HeatmapTextureFormat.R8);
+    }
+}
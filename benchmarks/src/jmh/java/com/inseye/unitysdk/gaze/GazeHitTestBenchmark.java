@@ -0,0 +1,77 @@
+/*
+ * Last edit: 17.10.2026, 03:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.gaze.targets.GazeHitEventQueue;
+import com.inseye.unitysdk.gaze.targets.GazeHitTester;
+import com.inseye.unitysdk.gaze.targets.GazeTargetGrid;
+import com.inseye.unitysdk.gaze.targets.GazeTargetShape;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/*
+ * Measures hit testing of single datagram of gaze samples against randomly placed rectangles and circles.
+ * Targets are registered directly in the grid, Unity event consumer is simulated by moving read index
+ * up to write index after every batch.
+ */
+@State(Scope.Thread)
+public class GazeHitTestBenchmark {
+    private static final int QUEUE_SIZE = NativeRingBuffer.HEADER_SIZE + 1024 * GazeHitTester.COMMAND_SLOT_SIZE;
+
+    @Param({"100", "1000"})
+    public int targets;
+
+    private final GazeSampleBatch batch = GazeBenchmarkData.createBatch(GazeBenchmarkData.DATAGRAM_SAMPLES);
+    private Memory commandMemory;
+    private Memory eventMemory;
+    private ByteBuffer eventHeader;
+    private GazeHitTester hitTester;
+
+    @Setup
+    public void setup() {
+        commandMemory = new Memory(QUEUE_SIZE);
+        eventMemory = new Memory(QUEUE_SIZE);
+        eventHeader = eventMemory.getByteBuffer(0, NativeRingBuffer.HEADER_SIZE);
+        GazeTargetGrid grid = new GazeTargetGrid(targets, 16, 16);
+        Random random = new Random(1);
+        for (int id = 0; id < targets; id++) {
+            float x = random.nextFloat() * 0.95f;
+            float y = random.nextFloat() * 0.95f;
+            if (id % 2 == 0)
+                grid.set(id, GazeTargetShape.Rectangle, x, y, x + 0.05f, y + 0.03f, 500);
+            else
+                grid.set(id, GazeTargetShape.Circle, x, y, 0.02f, 0, 500);
+        }
+        hitTester = new GazeHitTester(
+                new NativeRingBufferReader(Pointer.nativeValue(commandMemory), QUEUE_SIZE, GazeHitTester.COMMAND_SLOT_SIZE),
+                new GazeHitEventQueue(Pointer.nativeValue(eventMemory), QUEUE_SIZE), grid, 0.01f, 50);
+        // benchmark gaze moves on unit circle
+        hitTester.setViewportMapping(new ViewportMapping(0.5f, 0.5f, 0.5f, 0.5f));
+    }
+
+    @Benchmark
+    public long hitTestDatagram() {
+        hitTester.onGazeBatch(batch);
+        // consume everything: readIndex = writeIndex
+        eventHeader.putLong(64, eventHeader.getLong(0));
+        return hitTester.getDroppedEventCount();
+    }
+}
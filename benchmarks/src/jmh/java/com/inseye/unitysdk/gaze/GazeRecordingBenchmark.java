@@ -0,0 +1,60 @@
+/*
+ * Last edit: 17.10.2026, 02:47
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.recording.GazeSessionRecorder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+
+/*
+ * Measures cost added to receiver thread by session recording of single datagram worth of samples.
+ * File grows during the run, so segment switches and background flushes are part of the measurement.
+ * Recording is restarted after every MAX_RECORDS records to keep the file size bounded.
+ */
+@State(Scope.Thread)
+public class GazeRecordingBenchmark {
+    private static final long MAX_RECORDS = 1 << 22;
+
+    private final GazeSampleBatch batch = GazeBenchmarkData.createBatch(GazeBenchmarkData.DATAGRAM_SAMPLES);
+    private File file;
+    private GazeSessionRecorder recorder;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("gaze-session", ".bin");
+        startRecording();
+    }
+
+    @TearDown
+    public void tearDown() {
+        recorder.close();
+        file.delete();
+    }
+
+    @Benchmark
+    public void recordBatch() throws IOException {
+        recorder.onGazeBatch(batch);
+        if (recorder.getRecordCount() > MAX_RECORDS) {
+            recorder.close();
+            startRecording();
+        }
+    }
+
+    private void startRecording() throws IOException {
+        recorder = new GazeSessionRecorder(file, "1.0.0\n1.0.0", 0, 4 << 20, 100);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Measures publishing of full batch to native ring buffer and latest sample slot.
+ * Unity consumer is simulated by moving read index up to write index after every batch.
+ */
+@State(Scope.Thread)
+public class GazeRingBufferBenchmark {
+    private static final int RING_SIZE = NativeRingBuffer.HEADER_SIZE + 1024 * GazeRingBufferWriter.SLOT_SIZE;
+
+    private final GazeSampleBatch batch = GazeBenchmarkData.createBatch(GazeBenchmarkData.BATCH_CAPACITY);
+    private Memory ringMemory;
+    private Memory slotMemory;
+    private ByteBuffer ringHeader;
+    private GazeRingBufferWriter ringBufferWriter;
+    private LatestGazeSlot latestGazeSlot;
+
+    @Setup
+    public void setup() {
+        ringMemory = new Memory(RING_SIZE);
+        slotMemory = new Memory(LatestGazeSlot.SIZE);
+        ringBufferWriter = new GazeRingBufferWriter(Pointer.nativeValue(ringMemory), RING_SIZE);
+        latestGazeSlot = new LatestGazeSlot(Pointer.nativeValue(slotMemory));
+        ringHeader = ringMemory.getByteBuffer(0, NativeRingBuffer.HEADER_SIZE);
+    }
+
+    @Benchmark
+    public long writeRingBuffer() {
+        ringBufferWriter.onGazeBatch(batch);
+        // consume everything: readIndex = writeIndex
+        ringHeader.putLong(64, ringHeader.getLong(0));
+        return ringBufferWriter.getDroppedCount();
+    }
+
+    @Benchmark
+    public void publishLatestSample() {
+        latestGazeSlot.onGazeBatch(batch);
+    }
+}
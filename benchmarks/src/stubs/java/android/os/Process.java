@@ -0,0 +1,22 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package android.os;
+
+/*
+ * JVM stand-in for android.os.Process, thread priorities are ignored.
+ */
+public final class Process {
+    public static final int THREAD_PRIORITY_URGENT_DISPLAY = -8;
+
+    private Process() {}
+
+    public static void setThreadPriority(int priority) {
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.shared;
+
+import java.nio.ByteBuffer;
+
+/*
+ * JVM stand-in for serializer interface from Inseye SDK Android API.
+ */
+public interface IByteSerializer<T> {
+    int getSizeInBytes();
+
+    void readFromBuffer(T object, ByteBuffer buffer);
+
+    void writeToBuffer(T object, ByteBuffer buffer);
+}
@@ -0,0 +1,24 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.shared.communication;
+
+/*
+ * JVM stand-in for ActionResult from Inseye SDK Android API.
+ */
+public class ActionResult {
+    public boolean successful;
+    public String errorMessage;
+
+    public static ActionResult success() {
+        ActionResult result = new ActionResult();
+        result.successful = true;
+        return result;
+    }
+}
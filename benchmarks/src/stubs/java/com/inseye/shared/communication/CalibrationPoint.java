@@ -0,0 +1,26 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.shared.communication;
+
+/*
+ * JVM stand-in for CalibrationPoint from Inseye SDK Android API.
+ */
+public class CalibrationPoint {
+    public float x;
+    public float y;
+
+    public CalibrationPoint() {
+    }
+
+    public CalibrationPoint(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.shared.communication;
+
+/*
+ * JVM stand-in for CalibrationPointResponse from Inseye SDK Android API.
+ */
+public class CalibrationPointResponse {
+    public float x;
+    public float y;
+    public long displayStartMs;
+    public long responseTimeMs;
+
+    public CalibrationPointResponse(float x, float y, long displayStartMs, long responseTimeMs) {
+        this.x = x;
+        this.y = y;
+        this.displayStartMs = displayStartMs;
+        this.responseTimeMs = responseTimeMs;
+    }
+}
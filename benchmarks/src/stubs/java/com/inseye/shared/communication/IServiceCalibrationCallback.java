@@ -0,0 +1,21 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.shared.communication;
+
+import android.os.RemoteException;
+
+/*
+ * JVM stand-in for AIDL interface from Inseye SDK Android API.
+ */
+public interface IServiceCalibrationCallback {
+    ActionResult readyToRecieveCalibrationPoint(CalibrationPoint initialPoint) throws RemoteException;
+
+    ActionResult abortCalibrationProcedure() throws RemoteException;
+}
@@ -0,0 +1,19 @@
+/*
+ * Last edit: 17.10.2026, 02:28
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package kotlin;
+
+/*
+ * JVM stand-in for kotlin.NotImplementedError.
+ */
+public class NotImplementedError extends Error {
+    public NotImplementedError() {
+        super("An operation is not implemented.");
+    }
+}
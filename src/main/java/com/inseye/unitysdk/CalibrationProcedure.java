@@ -1,5 +1,5 @@
 /*
- * Last edit: 26.04.2023, 14:29
+ * Last edit: 17.10.2026, 03:53
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -19,14 +19,31 @@ import com.inseye.shared.communication.CalibrationPoint;
 import com.inseye.shared.communication.CalibrationPointResponse;
 import com.inseye.shared.communication.ICalibrationCallback;
 import com.inseye.shared.communication.IServiceCalibrationCallback;
+import com.inseye.unitysdk.metrics.MetricsRegistry;
+import com.inseye.unitysdk.metrics.RemoteMethod;
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
 import com.sun.jna.Pointer;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import kotlin.NotImplementedError;
 
 public class CalibrationProcedure {
+    // pipelined mode queue slot layouts must match struct layouts from UnitySDK C# code
+    // in classes Inseye.Internal.QueuedCalibrationPoint and Inseye.Internal.QueuedCalibrationPointResponse
+    // point: 1 int (point index), 2 floats (x, y), 4 bytes padding
+    public static final int POINT_SLOT_SIZE = 16;
+    // response: 1 int (point index), 2 floats (x, y), 4 bytes padding, 1 long (display start ms)
+    public static final int RESPONSE_SLOT_SIZE = 24;
+    // time Unity has to report display of point after service asked for next one
+    static final long RESPONSE_TIMEOUT_MS = 1000;
+    private static final long RESPONSE_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
 
     private static final IByteSerializer<CalibrationPoint> CALIBRATION_POINT_SERIALIZER = new IByteSerializer<CalibrationPoint>() {
         // this serializer implementation must much much struct layout from UnitySDK C# code
@@ -71,11 +88,18 @@ public class CalibrationProcedure {
         }
     };
 
+    // response queue is read by one binder call at a time, guarded separately so waiting does not block buffer users
+    private final Object responseLock = new Object();
     private final ByteBuffer buffer = ByteBuffer.wrap(new byte[Math.max(CALIBRATION_POINT_SERIALIZER.getSizeInBytes(), CALIBRATION_RESPONSE_SERIALIZER.getSizeInBytes())]).order(ByteOrder.LITTLE_ENDIAN);
     private final Pointer calibrationPointRequestPointer;
     private final Pointer calibrationPointResponsePointer;
     private final Pointer calibrationStatusPointer;
     private final Pointer pointIndexPointer;
+    private final MetricsRegistry metrics;
+    @Nullable
+    private NativeRingBuffer pointQueue;
+    @Nullable
+    private NativeRingBufferReader responseQueue;
     private int pointIndex;
     private String errorMessage;
     private CalibrationStatus calibrationStatus;
@@ -86,15 +110,36 @@ public class CalibrationProcedure {
         @Override
         public CalibrationPointResponse showNextCalibrationPoint(CalibrationPoint nextPoint) throws RemoteException {
             CalibrationPointResponse calibrationPointResponse = new CalibrationPointResponse(0, 0, 0, System.currentTimeMillis());
+            NativeRingBufferReader queue;
+            int index;
             synchronized (buffer) {
-                // read displayed calibration point
-                calibrationPointResponsePointer.read(0, buffer.array(), 0, CALIBRATION_RESPONSE_SERIALIZER.getSizeInBytes());
-                buffer.position(0);
-                CALIBRATION_RESPONSE_SERIALIZER.readFromBuffer(calibrationPointResponse, buffer);
-                Log.d("displayed point x: " + calibrationPointResponse.x + " y: " + calibrationPointResponse.y + " tStart: " + calibrationPointResponse.displayStartMs);
-                // write new calibration point
-                setCalibrationPoint(nextPoint);
+                queue = responseQueue;
+                index = pointIndex;
+                if (null == queue) {
+                    // read displayed calibration point
+                    calibrationPointResponsePointer.read(0, buffer.array(), 0, CALIBRATION_RESPONSE_SERIALIZER.getSizeInBytes());
+                    buffer.position(0);
+                    CALIBRATION_RESPONSE_SERIALIZER.readFromBuffer(calibrationPointResponse, buffer);
+                    Trace.event(TraceEvent.CalibrationPointDisplayed, calibrationPointResponse.x, calibrationPointResponse.y, calibrationPointResponse.displayStartMs);
+                }
             }
+            if (null != queue) {
+                // pipelined mode, service is told about display of the point queued last,
+                // waiting for Unity does not hold the lock, so Unity thread is not blocked by it
+                boolean displayed;
+                synchronized (responseLock) {
+                    displayed = readResponse(queue, index, calibrationPointResponse);
+                }
+                if (!displayed) {
+                    String message = "Display of calibration point " + index + " was not reported by Unity.";
+                    if (!isCalibrationFinished())
+                        setStatus(CalibrationStatus.FinishedFailed, message);
+                    // response of other point would corrupt calibration data
+                    throw new IllegalStateException(message);
+                }
+            }
+            // write new calibration point
+            setCalibrationPoint(nextPoint);
             return calibrationPointResponse;
         }
 
@@ -110,7 +155,8 @@ public class CalibrationProcedure {
         }
     };
 
-    CalibrationProcedure(long calibrationPointRequestPointer, long calibrationPointResponsePointer, long calibrationStatusPointer, long pointIndexPointer) {
+    CalibrationProcedure(long calibrationPointRequestPointer, long calibrationPointResponsePointer, long calibrationStatusPointer, long pointIndexPointer, MetricsRegistry metrics) {
+        this.metrics = metrics;
         this.calibrationPointRequestPointer = new Pointer(calibrationPointRequestPointer);
         this.calibrationPointResponsePointer = new Pointer(calibrationPointResponsePointer);
         this.calibrationStatusPointer = new Pointer(calibrationStatusPointer);
@@ -121,9 +167,13 @@ public class CalibrationProcedure {
     }
 
     private void setCalibrationPoint(CalibrationPoint calibrationPoint) {
-        pointIndex++;
-        Log.d("next calibration point - x: " + calibrationPoint.x + " y: " + calibrationPoint.y + " index: " + pointIndex);
         synchronized (buffer) {
+            pointIndex++;
+            Trace.event(TraceEvent.CalibrationPointRequested, calibrationPoint.x, calibrationPoint.y, pointIndex);
+            if (null != pointQueue) {
+                queueCalibrationPoint(pointQueue, calibrationPoint);
+                return;
+            }
             buffer.position(0);
             CALIBRATION_POINT_SERIALIZER.writeToBuffer(calibrationPoint, buffer);
             calibrationPointRequestPointer.write(0, buffer.array(), 0, CALIBRATION_POINT_SERIALIZER.getSizeInBytes());
@@ -131,6 +181,73 @@ public class CalibrationProcedure {
         }
     }
 
+    private void queueCalibrationPoint(NativeRingBuffer queue, CalibrationPoint calibrationPoint) {
+        int slot = queue.claim();
+        if (slot < 0) {
+            // dropped point would silently corrupt calibration
+            if (!isCalibrationFinished())
+                setStatus(CalibrationStatus.FinishedFailed, "Calibration point queue overflow.");
+            return;
+        }
+        ByteBuffer target = queue.getBuffer();
+        target.putInt(slot, pointIndex);
+        target.putFloat(slot + 4, calibrationPoint.x);
+        target.putFloat(slot + 8, calibrationPoint.y);
+        queue.publish();
+    }
+
+    /*
+     * Reads response Unity wrote for point with given index, waiting for it up to response timeout.
+     * Responses for older points are left from steps that already failed and are skipped,
+     * response for newer point means Unity and SDK disagree on point order.
+     */
+    private boolean readResponse(NativeRingBufferReader queue, int index, CalibrationPointResponse response) {
+        if (0 == index)
+            return false;
+        ByteBuffer source = queue.getBuffer();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MS);
+        while (true) {
+            int slot = queue.peek();
+            if (slot < 0) {
+                if (System.nanoTime() - deadline > 0)
+                    return false;
+                LockSupport.parkNanos(RESPONSE_POLL_NANOS);
+                continue;
+            }
+            int responseIndex = source.getInt(slot);
+            if (responseIndex > index)
+                return false;
+            float x = source.getFloat(slot + 4);
+            float y = source.getFloat(slot + 8);
+            long displayStartMs = source.getLong(slot + 16);
+            queue.release();
+            Trace.event(TraceEvent.CalibrationPointDisplayed, x, y, displayStartMs);
+            if (responseIndex == index) {
+                response.x = x;
+                response.y = y;
+                response.displayStartMs = displayStartMs;
+                return true;
+            }
+        }
+    }
+
+    /*
+     * Called from Unity before markReadyForPointDisplay.
+     * Points are queued in native ring consumed by Unity and display responses are written by Unity
+     * to second ring, so Unity neither polls request memory nor reports display through a separate call.
+     * Service still asks for next point only after display of previous one is reported, so one point is
+     * in flight and queues hold at most one entry. Every response carries index of displayed point,
+     * calibration fails if display of point is not reported within response timeout.
+     */
+    public void enablePipelinedMode(long pointQueuePointer, int pointQueueSize, long responseQueuePointer, int responseQueueSize) {
+        synchronized (buffer) {
+            if (pointIndex != 0)
+                throw new RuntimeException("Pipelined mode must be enabled before first calibration point.");
+            pointQueue = new NativeRingBuffer(pointQueuePointer, pointQueueSize, POINT_SLOT_SIZE);
+            responseQueue = new NativeRingBufferReader(responseQueuePointer, responseQueueSize, RESPONSE_SLOT_SIZE);
+        }
+    }
+
     void setServiceCalibrationCallback(IServiceCalibrationCallback serviceCalibrationCallback) {
         this.serviceCalibrationCallback = serviceCalibrationCallback;
     }
@@ -143,8 +260,15 @@ public class CalibrationProcedure {
             throw new RuntimeException("ServiceCalibrationCallback is null!");
         CalibrationPoint initialCalibrationPoint = new CalibrationPoint();
         ActionResult result;
+        long start = MetricsRegistry.start();
+        boolean failed = true;
         try {
-            result = this.serviceCalibrationCallback.readyToRecieveCalibrationPoint(initialCalibrationPoint);
+            try {
+                result = this.serviceCalibrationCallback.readyToRecieveCalibrationPoint(initialCalibrationPoint);
+                failed = !result.successful;
+            } finally {
+                metrics.record(RemoteMethod.ReadyToReceiveCalibrationPoint, start, failed);
+            }
             if (!result.successful)
                 setStatus(CalibrationStatus.FinishedFailed, result.errorMessage);
             else
@@ -169,8 +293,11 @@ public class CalibrationProcedure {
         if (null == this.serviceCalibrationCallback)
             throw new RuntimeException("ServiceCalibrationCallback is null!");
         String optionalErrorMessage = null;
+        long start = MetricsRegistry.start();
+        boolean failed = true;
         try {
             ActionResult result = serviceCalibrationCallback.abortCalibrationProcedure();
+            failed = !result.successful;
             if (!result.successful)
                 optionalErrorMessage = result.errorMessage;
             else
@@ -179,6 +306,7 @@ public class CalibrationProcedure {
             e.printStackTrace();
         }
         finally {
+            metrics.record(RemoteMethod.AbortCalibrationProcedure, start, failed);
             if (!isCalibrationFinished())
                 setStatus(CalibrationStatus.FinishedFailed, optionalErrorMessage);
         }
@@ -205,6 +333,7 @@ public class CalibrationProcedure {
             throw new RuntimeException("Attempt to change status of already finished calibration was made.");
         CalibrationStatus oldStatus = calibrationStatus;
         calibrationStatus = newStatus;
+        Trace.event(TraceEvent.CalibrationStatusChanged, oldStatus.intValue, newStatus.intValue);
         calibrationStatusPointer.setInt(0, newStatus.intValue);
         this.errorMessage = errorMessage;
         if (null != calibrationListener)
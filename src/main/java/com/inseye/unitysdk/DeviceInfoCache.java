@@ -0,0 +1,242 @@
+/*
+ * Last edit: 17.10.2026, 03:25
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.shared.communication.ISharedService;
+import com.inseye.shared.communication.Version;
+import com.inseye.shared.communication.VisibleFov;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Snapshot of device information so getters called every frame do not cross the binder.
+ * Values are fetched in parallel on background threads after connection and published to optional native struct.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.DeviceInfo:
+ *
+ * offset  0: long  sequence - odd while struct is written (seqlock)
+ * offset  8: int   mask of valid fields
+ * offset 12: int   tracker availability
+ * offset 16: int   dominant eye
+ * offset 20: int   is calibrated (0 or 1)
+ * offset 24: float visible fov horizontal
+ * offset 28: float visible fov vertical
+ */
+class DeviceInfoCache {
+    static final int SIZE = 32;
+    static final int AVAILABILITY = 1;
+    static final int DOMINANT_EYE = 2;
+    static final int VERSIONS = 4;
+    static final int VISIBLE_FOV = 8;
+    static final int CALIBRATED = 16;
+
+    private static final int FETCH_THREADS = 3;
+    // created on refresh, released on dispose
+    @Nullable
+    private ExecutorService executor;
+    private int validMask;
+    private int generation;
+    private int availability;
+    private int dominantEye;
+    private boolean calibrated;
+    private float fovHorizontal;
+    private float fovVertical;
+    private String versions;
+    @Nullable
+    private ByteBuffer nativeBuffer;
+    private long sequence;
+
+    synchronized void setNativePointer(long pointer) {
+        nativeBuffer = 0 == pointer ? null : NativeMemory.wrap(pointer, SIZE);
+        sequence = 0;
+        publish();
+    }
+
+    /*
+     * Drops all values and fetches them again from service.
+     */
+    void refresh(ISharedService service) {
+        int refreshGeneration;
+        ExecutorService executor;
+        synchronized (this) {
+            refreshGeneration = ++generation;
+            validMask = 0;
+            publish();
+            if (null == this.executor) {
+                this.executor = Executors.newFixedThreadPool(FETCH_THREADS, runnable -> {
+                    Thread thread = new Thread(runnable, "InseyeDeviceInfo");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            executor = this.executor;
+        }
+        executor.execute(() -> {
+            try {
+                setAvailability(refreshGeneration, service.getTrackerAvailability().value);
+                setCalibrated(refreshGeneration, service.isCalibrated());
+            } catch (Exception e) {
+                Log.e("Failed to read tracker availability: " + e.getMessage());
+            }
+        });
+        executor.execute(() -> {
+            try {
+                int eye = service.getDominantEye().value;
+                Version serviceVersion = new Version();
+                Version firmwareVersion = new Version();
+                Version calibrationVersion = new Version();
+                service.getVersions(serviceVersion, firmwareVersion, calibrationVersion);
+                synchronized (this) {
+                    if (refreshGeneration != generation)
+                        return;
+                    dominantEye = eye;
+                    versions = serviceVersion.toString() + '\n' + firmwareVersion;
+                    validMask |= DOMINANT_EYE | VERSIONS;
+                    publish();
+                }
+            } catch (Exception e) {
+                Log.e("Failed to read device versions: " + e.getMessage());
+            }
+        });
+        executor.execute(() -> {
+            try {
+                VisibleFov fov = service.getVisibleFov();
+                if (null == fov)
+                    return;
+                synchronized (this) {
+                    if (refreshGeneration == generation)
+                        setVisibleFov(fov.horizontal, fov.vertical);
+                }
+            } catch (Exception e) {
+                Log.e("Failed to read visible fov: " + e.getMessage());
+            }
+        });
+    }
+
+    synchronized void invalidate() {
+        generation++;
+        validMask = 0;
+        publish();
+    }
+
+    /*
+     * Invalidates values and stops fetch threads, next refresh starts them again.
+     */
+    synchronized void shutdown() {
+        invalidate();
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /*
+     * Availability reported by service event, calibration state may have changed together with it.
+     */
+    synchronized void onAvailabilityChanged(int availability) {
+        this.availability = availability;
+        validMask = (validMask | AVAILABILITY) & ~CALIBRATED;
+        publish();
+    }
+
+    synchronized void invalidateCalibrated() {
+        validMask &= ~CALIBRATED;
+        publish();
+    }
+
+    synchronized boolean isValid(int field) {
+        return (validMask & field) == field;
+    }
+
+    synchronized int getAvailability() {
+        return availability;
+    }
+
+    synchronized int getDominantEye() {
+        return dominantEye;
+    }
+
+    synchronized boolean isCalibrated() {
+        return calibrated;
+    }
+
+    synchronized String getVersions() {
+        return versions;
+    }
+
+    synchronized void setAvailability(int availability) {
+        this.availability = availability;
+        validMask |= AVAILABILITY;
+        publish();
+    }
+
+    synchronized void setCalibrated(boolean calibrated) {
+        this.calibrated = calibrated;
+        validMask |= CALIBRATED;
+        publish();
+    }
+
+    synchronized void setDominantEye(int dominantEye) {
+        this.dominantEye = dominantEye;
+        validMask |= DOMINANT_EYE;
+        publish();
+    }
+
+    synchronized void setVersions(String versions) {
+        this.versions = versions;
+        validMask |= VERSIONS;
+        publish();
+    }
+
+    synchronized void setVisibleFov(float horizontal, float vertical) {
+        fovHorizontal = horizontal;
+        fovVertical = vertical;
+        validMask |= VISIBLE_FOV;
+        publish();
+    }
+
+    /*
+     * Writes horizontal and vertical visible fov to result.
+     */
+    synchronized void getVisibleFov(float[] result) {
+        result[0] = fovHorizontal;
+        result[1] = fovVertical;
+    }
+
+    private synchronized void setAvailability(int refreshGeneration, int availability) {
+        if (refreshGeneration == generation)
+            setAvailability(availability);
+    }
+
+    private synchronized void setCalibrated(int refreshGeneration, boolean calibrated) {
+        if (refreshGeneration == generation)
+            setCalibrated(calibrated);
+    }
+
+    private void publish() {
+        ByteBuffer buffer = nativeBuffer;
+        if (null == buffer)
+            return;
+        buffer.putLong(0, ++sequence);
+        NativeMemory.fullFence();
+        buffer.putInt(8, validMask);
+        buffer.putInt(12, availability);
+        buffer.putInt(16, dominantEye);
+        buffer.putInt(20, calibrated ? 1 : 0);
+        buffer.putFloat(24, fovHorizontal);
+        buffer.putFloat(28, fovVertical);
+        NativeMemory.fullFence();
+        buffer.putLong(0, ++sequence);
+    }
+}
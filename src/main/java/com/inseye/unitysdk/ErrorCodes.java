@@ -1,5 +1,5 @@
 /*
- * Last edit: 20.06.2023, 12:10
+ * Last edit: 17.10.2026, 03:03
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -19,13 +19,19 @@ public class ErrorCodes {
     public static final int SDKAlreadyConnected = 10;
     public static final int FailedToBindToService = 11;
     public static final int InitializationTimeout = 12;
+    public static final int InitializationInProgress = 13;
     // calibration error codes
     public static final int AnotherCalibrationIsOngoing = 20;
     public static final int NoCalibrationIsOngoing = 21;
     public static final int CalibrationTimeout = 22;
     // reading gaze data
     public static final int NoValidGazeAvailable = 30;
+    public static final int GazeDataStreamAlreadyAttached = 31;
+    public static final int GazeBroadcastNotStarted = 32;
+    public static final int TooManyGazeConsumers = 33;
     // events
     public static final int AlreadySubscribedToEvents = 40;
+    // raw data
+    public static final int RawDataStreamAlreadyStarted = 50;
     private ErrorCodes() {}
 }
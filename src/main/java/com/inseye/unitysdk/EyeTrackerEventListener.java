@@ -1,5 +1,5 @@
 /*
- * Last edit: 06.11.2023, 09:33
+ * Last edit: 17.10.2026, 02:32
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -10,19 +10,40 @@
 package com.inseye.unitysdk;
 import android.os.RemoteException;
 
+import androidx.annotation.Nullable;
+
 import com.inseye.shared.communication.IEyetrackerEventListener;
 import com.inseye.shared.communication.TrackerAvailability;
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
 import com.unity3d.player.UnityPlayer;
 
 public class EyeTrackerEventListener extends IEyetrackerEventListener.Stub {
     private final String listenerGameObjectName;
-    public EyeTrackerEventListener(String listenerGameObjectName) {
+    private final DeviceInfoCache deviceInfoCache;
+    @Nullable
+    private volatile SDKEventQueue eventQueue;
+    EyeTrackerEventListener(String listenerGameObjectName, @Nullable SDKEventQueue eventQueue, DeviceInfoCache deviceInfoCache) {
         this.listenerGameObjectName = listenerGameObjectName;
+        this.eventQueue = eventQueue;
+        this.deviceInfoCache = deviceInfoCache;
+    }
+
+    /*
+     * Events are written to binary queue when it is set, UnitySendMessage is used otherwise.
+     */
+    public void setEventQueue(@Nullable SDKEventQueue eventQueue) {
+        this.eventQueue = eventQueue;
     }
 
     public void setTrackerAvailability(TrackerAvailability availability) {
-        Log.d("handleTrackerAvailabilityChanged: " + availability.toString());
-        UnityPlayer.UnitySendMessage(listenerGameObjectName, "InvokeEyeTrackerAvailabilityChanged", Integer.toString(availability.value));
+        Trace.event(TraceEvent.TrackerAvailabilityChanged, availability.value);
+        deviceInfoCache.onAvailabilityChanged(availability.value);
+        SDKEventQueue queue = eventQueue;
+        if (null != queue)
+            queue.write(SDKEventType.TrackerAvailabilityChanged, availability.value, 0);
+        else
+            UnityPlayer.UnitySendMessage(listenerGameObjectName, "InvokeEyeTrackerAvailabilityChanged", Integer.toString(availability.value));
     }
     @Override
     public void handleTrackerAvailabilityChanged(TrackerAvailability availability) throws RemoteException {
@@ -0,0 +1,18 @@
+/*
+ * Last edit: 17.10.2026, 02:34
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+/*
+ * Notified on thread that performed transition, notifications from different threads may arrive out of order,
+ * version tells which one is newer.
+ */
+public interface ISDKStateListener {
+    void onSDKStateChanged(int oldState, int newState, int version);
+}
@@ -0,0 +1,43 @@
+/*
+ * Last edit: 17.10.2026, 02:21
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Progress of asynchronous initialization published to native memory polled by Unity.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.InitializationStatus:
+ * 1 int (progress), 1 int (one of ErrorCodes, valid when progress is Finished)
+ */
+class InitializationStatus {
+    static final int SIZE = 8;
+    static final int Binding = 1;
+    static final int Finished = 2;
+
+    private final ByteBuffer buffer;
+
+    InitializationStatus(long statusPointer) {
+        buffer = NativeMemory.wrap(statusPointer, SIZE);
+    }
+
+    void setBinding() {
+        buffer.putInt(4, ErrorCodes.Successful);
+        NativeMemory.fullFence();
+        buffer.putInt(0, Binding);
+    }
+
+    void setFinished(int errorCode) {
+        buffer.putInt(4, errorCode);
+        NativeMemory.fullFence();
+        buffer.putInt(0, Finished);
+    }
+}
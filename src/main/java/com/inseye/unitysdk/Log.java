@@ -1,5 +1,5 @@
 /*
- * Last edit: 15.11.2023, 12:32
+ * Last edit: 17.10.2026, 02:32
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -9,6 +9,8 @@
 
 package com.inseye.unitysdk;
 
+import com.inseye.unitysdk.trace.Trace;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,11 +44,13 @@ public final class Log {
     public static void e(String message) {
         if (CurrentLevel.value <= Level.ERROR.value)
             android.util.Log.e(TAG, message);
+        Trace.onError();
     }
 
     public static void e(String message, Exception e) {
         if (CurrentLevel.value <= Level.ERROR.value)
             android.util.Log.e(TAG, message, e);
+        Trace.onError();
     }
 
     public static void logp(java.util.logging.Level level, String classIdentifier, String methodIdentifier, String message) {
@@ -0,0 +1,113 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import android.os.Handler;
+
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Schedules rebind attempts after binding died with exponential backoff and jitter.
+ * Jitter keeps many clients from hammering restarted service at the same moment.
+ * Requested bind that does not connect within connect timeout is treated as failed attempt.
+ * All methods must be called on handler thread.
+ */
+class ReconnectionManager {
+    interface IRebindAction {
+        /**
+         * Binding requested by previous attempt, if any, must be released before new bind is requested.
+         *
+         * @return true if bind was requested successfully
+         */
+        boolean rebind();
+    }
+
+    private final Handler handler;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final long connectTimeoutMs;
+    private final Runnable attempt = this::attemptRebind;
+    private final Runnable connectTimeout = this::onConnectTimeout;
+    private IRebindAction rebindAction;
+    private int attemptCount;
+    private boolean scheduled;
+
+    ReconnectionManager(Handler handler, long initialDelayMs, long maxDelayMs, long connectTimeoutMs) {
+        this.handler = handler;
+        this.initialDelayMs = initialDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    void scheduleReconnect(IRebindAction rebindAction) {
+        this.rebindAction = rebindAction;
+        handler.removeCallbacks(connectTimeout);
+        if (scheduled)
+            return;
+        long delay = delayOf(attemptCount);
+        Log.i("Rebinding to service in " + delay + " ms, attempt: " + (attemptCount + 1));
+        Trace.event(TraceEvent.ReconnectScheduled, attemptCount + 1, delay);
+        scheduled = true;
+        handler.postDelayed(attempt, delay);
+    }
+
+    void onConnected() {
+        cancel();
+        attemptCount = 0;
+    }
+
+    void cancel() {
+        handler.removeCallbacks(attempt);
+        handler.removeCallbacks(connectTimeout);
+        scheduled = false;
+        rebindAction = null;
+    }
+
+    /*
+     * Delay before attempt following given number of failed attempts.
+     */
+    long delayOf(int attempts) {
+        // exponential backoff with equal jitter, delay is random value between half and full backoff
+        long backoff = initialDelayMs << Math.min(attempts, 16);
+        backoff = Math.min(backoff, maxDelayMs);
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private void attemptRebind() {
+        scheduled = false;
+        IRebindAction action = rebindAction;
+        if (null == action)
+            return;
+        attemptCount++;
+        boolean requested;
+        try {
+            requested = action.rebind();
+        } catch (Exception e) {
+            Log.e("Rebind attempt failed: " + e.getMessage());
+            requested = false;
+        }
+        if (!requested)
+            scheduleReconnect(action);
+        else
+            handler.postDelayed(connectTimeout, connectTimeoutMs);
+    }
+
+    private void onConnectTimeout() {
+        IRebindAction action = rebindAction;
+        if (null == action)
+            return;
+        Log.e("Service did not connect within " + connectTimeoutMs + " ms after rebind");
+        scheduleReconnect(action);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Last edit: 17.10.2026, 03:23
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import android.os.SystemClock;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Binary alternative to UnitySendMessage, typed event records are written to native ring buffer polled by Unity.
+ * Events are produced on binder, receiver and Unity threads, writes are serialized so ring keeps single producer.
+ * Closed queue drops events, so Unity can release ring buffer memory once queue is replaced.
+ * Slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.SDKEvent:
+ * 1 long (elapsed realtime in ms), 1 int (SDKEventType), 1 int (value), 1 int (argument), 4 bytes padding
+ */
+public class SDKEventQueue {
+    public static final int SLOT_SIZE = 24;
+    private final NativeRingBuffer ringBuffer;
+    private boolean closed;
+
+    public SDKEventQueue(long queuePointer, int queueSize) {
+        ringBuffer = new NativeRingBuffer(queuePointer, queueSize, SLOT_SIZE);
+    }
+
+    public synchronized void write(SDKEventType eventType, int value, int argument) {
+        if (closed)
+            return;
+        int slot = ringBuffer.claim();
+        if (slot < 0)
+            return;
+        ByteBuffer buffer = ringBuffer.getBuffer();
+        buffer.putLong(slot, SystemClock.elapsedRealtime());
+        buffer.putInt(slot + 8, eventType.intValue);
+        buffer.putInt(slot + 12, value);
+        buffer.putInt(slot + 16, argument);
+        ringBuffer.publish();
+    }
+
+    /*
+     * Returns after event being written by other thread is finished.
+     */
+    public synchronized void close() {
+        closed = true;
+    }
+
+    public synchronized long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+}
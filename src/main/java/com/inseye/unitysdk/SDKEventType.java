@@ -0,0 +1,31 @@
+/*
+ * Last edit: 17.10.2026, 03:23
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+public enum SDKEventType {
+    // value: TrackerAvailability value
+    TrackerAvailabilityChanged(1),
+    // value: new CalibrationStatus value, argument: old CalibrationStatus value
+    CalibrationStatusChanged(2),
+    // value: one of ErrorCodes
+    GazeStreamError(3),
+    // value: one of ErrorCodes returned by asynchronous initialization
+    InitializationFinished(4),
+    // value: new SDKState flags, argument: state version
+    StateChanged(5),
+    // value: one of ErrorCodes, raw data stream ended without being stopped by client
+    RawDataStreamClosed(6),
+    // gaze session replay reached end of session
+    GazeReplayFinished(7);
+    public final int intValue;
+    SDKEventType(int value) {
+        intValue = value;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Last edit: 09.10.2023, 11:58
+ * Last edit: 17.10.2026, 02:41
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -8,10 +8,32 @@
  */
 package com.inseye.unitysdk;
 
-import com.sun.jna.Pointer;
+import androidx.annotation.Nullable;
 
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Lock-free SDK state machine, state changes only through transitions from SDKStateTransition table.
+ * State is kept in single atomic word: state flags in lower 32 bits, version incremented by every transition
+ * in upper 32 bits. Word is published to Unity after every transition:
+ * - state int pointer receives state flags,
+ * - optional state word pointer receives whole word (long), so Unity can detect changes by comparing versions.
+ */
 public class SDKState {
-    private Pointer cSharpPointer;
+    static final int FLAG_CONNECTED = 1;
+    static final int FLAG_CALIBRATING = 2;
+    static final int FLAG_ATTACHED_TO_GAZE_DATA_STREAM = 4;
+    static final int FLAG_SUBSCRIBED_TO_EVENTS = 8;
+    static final int FLAG_STREAMING_RAW_DATA = 16;
+    static final int ALL_FLAGS = FLAG_CONNECTED | FLAG_CALIBRATING | FLAG_ATTACHED_TO_GAZE_DATA_STREAM | FLAG_SUBSCRIBED_TO_EVENTS
+            | FLAG_STREAMING_RAW_DATA;
+    private static final ISDKStateListener[] EMPTY = new ISDKStateListener[0];
+
     private static class ConstSDKState {
         private final int value;
         ConstSDKState(int initialValue) {
@@ -20,16 +42,21 @@ public class SDKState {
     }
 
     public static final ConstSDKState NOT_CONNECTED = new ConstSDKState(0);
-    public static final ConstSDKState CONNECTED = new ConstSDKState(1);
-    public static final ConstSDKState CALIBRATING = new ConstSDKState(2);
-    public static final ConstSDKState ATTACHED_TO_GAZE_DATA_STREAM = new ConstSDKState(4);
-    public static final ConstSDKState SUBSCRIBED_TO_EVENTS = new ConstSDKState(8);
-    private int value;
-    public SDKState() {
-        value = 0;
-    }
+    public static final ConstSDKState CONNECTED = new ConstSDKState(FLAG_CONNECTED);
+    public static final ConstSDKState CALIBRATING = new ConstSDKState(FLAG_CALIBRATING);
+    public static final ConstSDKState ATTACHED_TO_GAZE_DATA_STREAM = new ConstSDKState(FLAG_ATTACHED_TO_GAZE_DATA_STREAM);
+    public static final ConstSDKState SUBSCRIBED_TO_EVENTS = new ConstSDKState(FLAG_SUBSCRIBED_TO_EVENTS);
+    public static final ConstSDKState STREAMING_RAW_DATA = new ConstSDKState(FLAG_STREAMING_RAW_DATA);
+
+    private final AtomicLong word = new AtomicLong();
+    @Nullable
+    private volatile ByteBuffer statePointer;
+    @Nullable
+    private volatile ByteBuffer stateWordPointer;
+    private volatile ISDKStateListener[] listeners = EMPTY;
 
     public boolean isInState(ConstSDKState sdkState) {
+        int value = getState();
         // case for NOT_CONNECTED
         if (sdkState.value == 0)
             return value == 0;
@@ -37,38 +64,115 @@ public class SDKState {
         return (value & sdkState.value) == sdkState.value;
     }
 
-    public void addState(ConstSDKState sdkState) {
-        value |= sdkState.value;
-        updatePointer();
+    public int getState() {
+        return stateOf(word.get());
+    }
+
+    public int getVersion() {
+        return versionOf(word.get());
+    }
+
+    /*
+     * State flags in lower 32 bits, version in upper 32 bits.
+     */
+    public long getStateWord() {
+        return word.get();
+    }
+
+    /**
+     * Atomically applies transition if it is allowed in current state.
+     *
+     * @return false if transition is not allowed in current state, state is not changed then
+     */
+    public boolean transition(SDKStateTransition transition) {
+        long current;
+        long updated;
+        do {
+            current = word.get();
+            int state = stateOf(current);
+            if (!transition.isAllowedFrom(state)) {
+                Trace.event(TraceEvent.StateTransitionRejected, transition.intValue, state);
+                return false;
+            }
+            updated = wordOf(transition.apply(state), versionOf(current) + 1);
+        } while (!word.compareAndSet(current, updated));
+        Trace.event(TraceEvent.StateChanged, stateOf(current), stateOf(updated), versionOf(updated));
+        publish();
+        for (ISDKStateListener listener : listeners)
+            listener.onSDKStateChanged(stateOf(current), stateOf(updated), versionOf(updated));
+        return true;
     }
 
-    public void removeState(ConstSDKState sdkState) {
-        value &= (~sdkState.value);
-        updatePointer();
+    public synchronized void addListener(ISDKStateListener listener) {
+        ISDKStateListener[] current = listeners;
+        for (ISDKStateListener l : current) {
+            if (l == listener)
+                return;
+        }
+        ISDKStateListener[] updated = new ISDKStateListener[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = listener;
+        listeners = updated;
     }
 
-    public void setState(ConstSDKState sdkState) {
-        value = sdkState.value;
-        updatePointer();
+    public synchronized void removeListener(ISDKStateListener listener) {
+        ISDKStateListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != listener)
+                continue;
+            ISDKStateListener[] updated = new ISDKStateListener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+            listeners = updated;
+            return;
+        }
     }
 
     public void setUnityPointer(long stateIntPointer) throws Exception {
-        Pointer javaPointer = new Pointer(stateIntPointer);
-        if (cSharpPointer != null)
+        if (statePointer != null)
             Log.e("CSharpPointer is not null, there is error in SDK logic.");
-        cSharpPointer = new Pointer(stateIntPointer);
-        updatePointer();
+        statePointer = NativeMemory.wrap(stateIntPointer, 4);
+        publish();
+    }
+
+    /*
+     * Sets pointer to long that receives versioned state word, 0 stops publishing.
+     */
+    public void setUnityStateWordPointer(long stateWordPointer) {
+        this.stateWordPointer = 0 == stateWordPointer ? null : NativeMemory.wrap(stateWordPointer, 8);
+        publish();
     }
 
     public void clearUnityPointer() {
-        cSharpPointer = null;
+        statePointer = null;
+        stateWordPointer = null;
     }
 
-    private void updatePointer() {
-        Log.i("Current state: " + value);
-        if (cSharpPointer == null)
-            return;
-        cSharpPointer.setInt(0, value);
+    private void publish() {
+        // transitions from different threads may publish in different order than they were applied,
+        // so publication is repeated until published word is still current, newest word always wins
+        long published;
+        do {
+            published = word.get();
+            ByteBuffer state = statePointer;
+            if (null != state)
+                state.putInt(0, stateOf(published));
+            ByteBuffer stateWord = stateWordPointer;
+            if (null != stateWord)
+                stateWord.putLong(0, published);
+            NativeMemory.fullFence();
+        } while (word.get() != published);
+    }
+
+    private static int stateOf(long word) {
+        return (int) word;
     }
 
-}
\ No newline at end of file
+    private static int versionOf(long word) {
+        return (int) (word >>> 32);
+    }
+
+    private static long wordOf(int state, int version) {
+        return ((long) version << 32) | (state & 0xFFFFFFFFL);
+    }
+}
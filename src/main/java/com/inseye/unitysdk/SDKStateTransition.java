@@ -0,0 +1,51 @@
+/*
+ * Last edit: 17.10.2026, 02:41
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+/*
+ * Transition table of SDKState.
+ * Transition is allowed when all required flags are set and none of forbidden flags is set,
+ * applying it clears cleared flags and sets set flags.
+ */
+public enum SDKStateTransition {
+    // value, required flags, forbidden flags, set flags, cleared flags
+    Connect(1, 0, SDKState.FLAG_CONNECTED, SDKState.FLAG_CONNECTED, 0),
+    Disconnect(2, SDKState.FLAG_CONNECTED, 0, 0, SDKState.ALL_FLAGS),
+    StartCalibration(3, SDKState.FLAG_CONNECTED, SDKState.FLAG_CALIBRATING, SDKState.FLAG_CALIBRATING, 0),
+    FinishCalibration(4, SDKState.FLAG_CALIBRATING, 0, 0, SDKState.FLAG_CALIBRATING),
+    AttachGazeStream(5, SDKState.FLAG_CONNECTED, SDKState.FLAG_ATTACHED_TO_GAZE_DATA_STREAM, SDKState.FLAG_ATTACHED_TO_GAZE_DATA_STREAM, 0),
+    DetachGazeStream(6, SDKState.FLAG_ATTACHED_TO_GAZE_DATA_STREAM, 0, 0, SDKState.FLAG_ATTACHED_TO_GAZE_DATA_STREAM),
+    SubscribeToEvents(7, SDKState.FLAG_CONNECTED, SDKState.FLAG_SUBSCRIBED_TO_EVENTS, SDKState.FLAG_SUBSCRIBED_TO_EVENTS, 0),
+    UnsubscribeFromEvents(8, SDKState.FLAG_SUBSCRIBED_TO_EVENTS, 0, 0, SDKState.FLAG_SUBSCRIBED_TO_EVENTS),
+    StartRawDataStream(9, SDKState.FLAG_CONNECTED, SDKState.FLAG_STREAMING_RAW_DATA, SDKState.FLAG_STREAMING_RAW_DATA, 0),
+    StopRawDataStream(10, SDKState.FLAG_STREAMING_RAW_DATA, 0, 0, SDKState.FLAG_STREAMING_RAW_DATA);
+
+    public final int intValue;
+    final int required;
+    final int forbidden;
+    final int set;
+    final int cleared;
+
+    SDKStateTransition(int value, int required, int forbidden, int set, int cleared) {
+        this.intValue = value;
+        this.required = required;
+        this.forbidden = forbidden;
+        this.set = set;
+        this.cleared = cleared;
+    }
+
+    boolean isAllowedFrom(int state) {
+        return (state & required) == required && (state & forbidden) == 0;
+    }
+
+    int apply(int state) {
+        return (state & ~cleared) | set;
+    }
+}
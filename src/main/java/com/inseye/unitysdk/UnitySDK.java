@@ -1,5 +1,5 @@
 /*
- * Last edit: 28.11.2023, 16:59
+ * Last edit: 17.10.2026, 03:54
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -12,38 +12,136 @@ package com.inseye.unitysdk;
 import android.app.Activity;
 import android.content.Context;
 import android.content.Intent;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
 import android.os.RemoteException;
 
 import androidx.annotation.Nullable;
 
 import com.inseye.shared.communication.ActionResult;
+import com.inseye.shared.communication.BinaryStreamActionResult;
 import com.inseye.shared.communication.Eye;
 import com.inseye.shared.communication.IServiceCalibrationCallback;
 import com.inseye.shared.communication.ISharedService;
 import com.inseye.shared.communication.IntActionResult;
+import com.inseye.shared.communication.StringActionResult;
 import com.inseye.shared.communication.TrackerAvailability;
 import com.inseye.shared.communication.Version;
+import com.inseye.shared.communication.VisibleFov;
 import com.inseye.shared.utils.ServiceConnectionIntentFactory;
+import com.inseye.unitysdk.clock.ClockDomain;
+import com.inseye.unitysdk.clock.ClockSync;
+import com.inseye.unitysdk.gaze.GazeBroadcastRing;
+import com.inseye.unitysdk.gaze.GazePipeline;
+import com.inseye.unitysdk.gaze.GazePredictor;
+import com.inseye.unitysdk.gaze.GazeReceiver;
+import com.inseye.unitysdk.gaze.GazeRingBufferWriter;
+import com.inseye.unitysdk.gaze.LatestGazeSlot;
+import com.inseye.unitysdk.gaze.ViewportMapping;
+import com.inseye.unitysdk.gaze.filters.GazeFilterType;
+import com.inseye.unitysdk.gaze.heatmap.GazeHeatmap;
+import com.inseye.unitysdk.gaze.movement.GazeMovementAlgorithm;
+import com.inseye.unitysdk.gaze.movement.GazeMovementClassifier;
+import com.inseye.unitysdk.gaze.movement.GazeMovementEventQueue;
+import com.inseye.unitysdk.gaze.targets.GazeHitEventQueue;
+import com.inseye.unitysdk.gaze.targets.GazeHitTester;
+import com.inseye.unitysdk.gaze.targets.GazeTargetGrid;
+import com.inseye.unitysdk.metrics.MeasuredSharedService;
+import com.inseye.unitysdk.metrics.MetricsRegistry;
+import com.inseye.unitysdk.raw.RawDataReceiver;
+import com.inseye.unitysdk.recording.GazeSessionReader;
+import com.inseye.unitysdk.recording.GazeSessionRecorder;
+import com.inseye.unitysdk.recording.GazeSessionReplay;
+import com.inseye.unitysdk.tests.GazeSoakTest;
 import com.inseye.unitysdk.tests.ServiceConnectionProxy;
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
 import com.inseye.unitysdk.utils.IPluggableServiceConnection;
+import com.inseye.unitysdk.utils.NativeMemory;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
+import com.inseye.unitysdk.vsync.ChoreographerVsyncSource;
+import com.inseye.unitysdk.vsync.FixedRateVsyncSource;
+import com.inseye.unitysdk.vsync.GazeLatchPublisher;
+import com.inseye.unitysdk.vsync.IVsyncSource;
 import com.sun.jna.Pointer;
 import com.unity3d.player.UnityPlayer;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 
 public class UnitySDK {
     private static final SDKState sdkState = new SDKState();
+    private static final DeviceInfoCache deviceInfoCache = new DeviceInfoCache();
+    private static final MetricsRegistry metrics = new MetricsRegistry();
+    // returned by getVisibleFov, Unity copies it on return
+    private static final float[] visibleFov = new float[2];
     private static String errorMessage = "";
     @Nullable
-    private static ISharedService sharedService;
+    // replaced from binder threads by connection delegates
+    private static volatile ISharedService sharedService;
     @Nullable
     private static EyeTrackerEventListener eventListener;
+    @Nullable
+    // written by Unity thread, read by binder, gaze receiver, raw data and replay threads
+    private static volatile SDKEventQueue eventQueue;
     private static CalibrationProcedure calibrationProcedure;
+    private static final GazePipeline gazePipeline = new GazePipeline();
+    private static final ClockSync clockSync = new ClockSync();
+    @Nullable
+    private static GazeReceiver gazeReceiver;
+    @Nullable
+    private static GazeRingBufferWriter gazeRingBufferWriter;
+    @Nullable
+    private static GazeBroadcastRing gazeBroadcastRing;
+    @Nullable
+    private static LatestGazeSlot latestGazeSlot;
+    @Nullable
+    private static GazePredictor gazePredictor;
+    @Nullable
+    private static ByteBuffer gazePredictionBuffer;
+    private static final float[] gazePredictionResult = new float[4];
+    @Nullable
+    private static GazeLatchPublisher gazeLatchPublisher;
+    @Nullable
+    private static GazeMovementClassifier gazeMovementClassifier;
+    @Nullable
+    private static GazeHitTester gazeHitTester;
+    @Nullable
+    private static GazeHeatmap gazeHeatmap;
+    @Nullable
+    private static RawDataReceiver rawDataReceiver;
+    @Nullable
+    private static GazeSessionRecorder sessionRecorder;
+    @Nullable
+    private static GazeSessionReplay gazeSessionReplay;
+    @Nullable
+    private static GazeSoakTest gazeSoakTest;
     private static IPluggableServiceConnection connection = new PluggableServiceConnection();
     private static final Object lockObject = new Object();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+    @Nullable
+    private static InitializationStatus pendingInitialization;
+    @Nullable
+    private static Runnable initializationTimeoutCallback;
+    // guarded by lockObject, blocking and asynchronous initialization must not bind concurrently
+    private static boolean blockingInitialization;
+    private static final ReconnectionManager reconnectionManager = new ReconnectionManager(mainHandler, 100, 10000, 5000);
+    // subscriptions requested by Unity, restored after service reconnects
+    private static boolean gazeStreamRequested;
+    private static long gazeStreamPortPointer;
 
     static {
         resetConnectionObject();
+        // samples released by reorder window are late by the window, they would bias gaze clock offset
+        gazePipeline.addArrivalObserver(clockSync);
+        sdkState.addListener((oldState, newState, version) -> {
+            SDKEventQueue queue = eventQueue;
+            if (null != queue)
+                queue.write(SDKEventType.StateChanged, newState, version);
+        });
     }
 
     /**
@@ -100,6 +198,21 @@ public class UnitySDK {
      */
     public static int initialize(long statePointer, long timeout, String metadata) throws Exception {
         Log.d("initialize, timeout = " + timeout + "state pointer = " + statePointer);
+        synchronized (lockObject) {
+            if (null != pendingInitialization || blockingInitialization)
+                return ErrorCodes.InitializationInProgress;
+            blockingInitialization = true;
+        }
+        try {
+            return bindAndWait(statePointer, timeout, metadata);
+        } finally {
+            synchronized (lockObject) {
+                blockingInitialization = false;
+            }
+        }
+    }
+
+    private static int bindAndWait(long statePointer, long timeout, String metadata) throws Exception {
         sdkState.setUnityPointer(statePointer);
 
         if (sdkState.isInState(SDKState.CONNECTED)) {
@@ -111,7 +224,7 @@ public class UnitySDK {
             connection.setServiceConnectedDelegate((name, service) -> {
                 Log.i("Service connected during initialization.");
                 synchronized (lockObject) {
-                    sharedService = ISharedService.Stub.asInterface(service);
+                    sharedService = new MeasuredSharedService(ISharedService.Stub.asInterface(service), metrics);
                     lockObject.notifyAll();
                 }
             });
@@ -139,56 +252,9 @@ public class UnitySDK {
             } finally {
                 resetConnectionObject();
             }
-            connection.setServiceDisconnectedDelegate((name) -> {
-                Log.d("Service disconnected.");
-                // service is temporarily disconnected, but should reconnect in the future
-                sdkState.setState(SDKState.NOT_CONNECTED);
-                sharedService = null;
-                if (null != eventListener)
-                    eventListener.setTrackerAvailability(TrackerAvailability.Disconnected);
-                if (null != calibrationProcedure)
-                    calibrationProcedure.onServiceDisconnected();
-            });
-            connection.setServiceConnectedDelegate((name, service) ->
-            {
-                Log.d("Service reconnected.");
-                sharedService = ISharedService.Stub.asInterface(service);
-                sdkState.setState(SDKState.CONNECTED);
-                try {
-                    // NOTE: no idea how can it throw at this point
-                    if (null != eventListener) {
-                        assert sharedService != null;
-                        eventListener.setTrackerAvailability(sharedService.getTrackerAvailability());
-                    }
-                } catch (RemoteException e) {
-                    Log.logp(Level.SEVERE, UnitySDK.class.toString(), "initialize", "Failed to set tracker availability\n" + e.getMessage());
-                }
-            });
-            connection.setBindingDiedDelegate((name) -> {
-                Log.d("Service service binding died.");
-                // service disconnected, and will not reconnect without action
-                sdkState.setState(SDKState.NOT_CONNECTED);
-                sharedService = null;
-                if (null != eventListener)
-                    eventListener.setTrackerAvailability(TrackerAvailability.Disconnected);
-                if (null != calibrationProcedure)
-                    calibrationProcedure.onServiceDisconnected();
-                // unbind based on Android documentation
-                Activity unityActivity = UnityPlayer.currentActivity;
-                unityActivity.getApplicationContext().unbindService(connection);
-                // try to rebind immediately
-                unityActivity.getApplicationContext().bindService(createBindIntent(unityActivity, metadata),
-                        connection, Context.BIND_AUTO_CREATE);
-            });
-            connection.setNullBindingDelegate((name) -> {
-                Log.e("Service service returned null binding.");
-                // service returned null binding and will not return anything else (probably)
-                sdkState.setState(SDKState.NOT_CONNECTED);
-                sharedService = null;
-                Activity unityActivity = UnityPlayer.currentActivity;
-                unityActivity.getApplicationContext().unbindService(connection);
-            });
-            sdkState.setState(SDKState.CONNECTED);
+            setConnectionDelegates(metadata);
+            sdkState.transition(SDKStateTransition.Connect);
+            deviceInfoCache.refresh(sharedService);
             return ErrorCodes.Successful;
         } catch (Exception e) {
             return HandleException(e);
@@ -199,6 +265,93 @@ public class UnitySDK {
         }
     }
 
+    /**
+     * Called by UnitySDK to initialize SDK without blocking calling thread.
+     * Progress and final result are written to initialization status struct and optional InitializationFinished event.
+     *
+     * @return one of ErrorCodes, Successful means that binding has started
+     */
+    public static int initializeAsync(long statePointer, long initializationStatusPointer, long timeout, String metadata) throws Exception {
+        Log.d("initializeAsync, timeout = " + timeout + " state pointer = " + statePointer);
+        InitializationStatus status = new InitializationStatus(initializationStatusPointer);
+        synchronized (lockObject) {
+            if (null != pendingInitialization || blockingInitialization)
+                return ErrorCodes.InitializationInProgress;
+            sdkState.setUnityPointer(statePointer);
+            if (sdkState.isInState(SDKState.CONNECTED)) {
+                status.setFinished(ErrorCodes.SDKAlreadyConnected);
+                return ErrorCodes.SDKAlreadyConnected;
+            }
+            status.setBinding();
+            pendingInitialization = status;
+        }
+        Activity currentActivity = UnityPlayer.currentActivity;
+        sharedService = null;
+        connection.setServiceConnectedDelegate((name, service) -> {
+            Log.i("Service connected during asynchronous initialization.");
+            sharedService = new MeasuredSharedService(ISharedService.Stub.asInterface(service), metrics);
+            finishAsyncInitialization(ErrorCodes.Successful, metadata);
+        });
+        connection.setNullBindingDelegate(name -> {
+            Log.e("Service connected during asynchronous initialization with null binding.");
+            finishAsyncInitialization(ErrorCodes.FailedToBindToService, metadata);
+        });
+        Runnable timeoutCallback = () -> finishAsyncInitialization(ErrorCodes.InitializationTimeout, metadata);
+        synchronized (lockObject) {
+            initializationTimeoutCallback = timeoutCallback;
+        }
+        mainHandler.postDelayed(timeoutCallback, timeout);
+        try {
+            boolean connectedSuccessfully = currentActivity.getApplicationContext()
+                    .bindService(createBindIntent(currentActivity, metadata),
+                            connection, Context.BIND_AUTO_CREATE);
+            if (!connectedSuccessfully) {
+                finishAsyncInitialization(ErrorCodes.FailedToBindToService, metadata);
+                return ErrorCodes.FailedToBindToService;
+            }
+        } catch (Exception e) {
+            int errorCode = HandleException(e);
+            finishAsyncInitialization(errorCode, metadata);
+            return errorCode;
+        }
+        return ErrorCodes.Successful;
+    }
+
+    private static void finishAsyncInitialization(int errorCode, String metadata) {
+        InitializationStatus status;
+        Runnable timeoutCallback;
+        synchronized (lockObject) {
+            status = pendingInitialization;
+            if (null == status)
+                return;
+            pendingInitialization = null;
+            timeoutCallback = initializationTimeoutCallback;
+            initializationTimeoutCallback = null;
+        }
+        Log.d("Asynchronous initialization finished with code: " + errorCode);
+        if (null != timeoutCallback)
+            mainHandler.removeCallbacks(timeoutCallback);
+        resetConnectionObject();
+        if (errorCode == ErrorCodes.Successful) {
+            setConnectionDelegates(metadata);
+            sdkState.transition(SDKStateTransition.Connect);
+            assert sharedService != null;
+            deviceInfoCache.refresh(sharedService);
+        } else {
+            sharedService = null;
+            try {
+                UnityPlayer.currentActivity.getApplicationContext().unbindService(connection);
+            } catch (Exception e) {
+                Log.e("Failed to unbind after unsuccessful initialization: " + e.getMessage());
+            }
+            sdkState.clearUnityPointer();
+        }
+        status.setFinished(errorCode);
+        SDKEventQueue queue = eventQueue;
+        if (null != queue)
+            queue.write(SDKEventType.InitializationFinished, errorCode, 0);
+    }
+
     public static int dispose() {
         Log.d("dispose");
         try {
@@ -206,13 +359,36 @@ public class UnitySDK {
                 return ErrorCodes.Successful;
             assert sharedService != null;
             sharedService.unsubscribeFromEyetrackerEvents();
-            sdkState.setState(SDKState.NOT_CONNECTED);
+            sdkState.transition(SDKStateTransition.Disconnect);
             Log.d("UnitySDK unbound from service");
             UnityPlayer.currentActivity.getApplicationContext().unbindService(connection);
         } catch (Exception e) {
             return HandleException(e);
         } finally {
+            mainHandler.post(reconnectionManager::cancel);
+            gazeStreamRequested = false;
+            gazeStreamPortPointer = 0;
+            stopGazeReceiver();
+            stopGazeSessionReplay();
+            stopGazeSoakTest();
+            setLatestGazeSamplePointer(0);
+            disableGazePrediction();
+            stopGazeLatch();
+            stopGazeMovementClassification();
+            stopGazeBroadcast();
+            stopGazeHitTesting();
+            stopGazeHeatmap();
+            stopRawDataReceiver();
+            stopSessionRecording();
             eventListener = null;
+            SDKEventQueue queue = eventQueue;
+            eventQueue = null;
+            if (null != queue)
+                queue.close();
+            deviceInfoCache.shutdown();
+            deviceInfoCache.setNativePointer(0);
+            clockSync.setNativePointer(0);
+            gazePipeline.getIntegrityMonitor().setNativePage(0, 0);
             sdkState.clearUnityPointer();
         }
         return ErrorCodes.Successful;
@@ -227,8 +403,13 @@ public class UnitySDK {
         Log.d("getEyeTrackerAvailability");
         if (!sdkState.isInState(SDKState.CONNECTED))
             throw new Exception("SDK is not connected to service");
+        // cached availability is kept up to date only by service events
+        if (sdkState.isInState(SDKState.SUBSCRIBED_TO_EVENTS) && deviceInfoCache.isValid(DeviceInfoCache.AVAILABILITY))
+            return deviceInfoCache.getAvailability();
         assert sharedService != null;
-        return sharedService.getTrackerAvailability().value;
+        int availability = sharedService.getTrackerAvailability().value;
+        deviceInfoCache.setAvailability(availability);
+        return availability;
     }
 
     /**
@@ -239,176 +420,1339 @@ public class UnitySDK {
      */
     public static int getEyeTrackingDataStreamPort(long portIntPointer) {
         Log.d("getEyeTrackingDataStreamPort");
-        if (!sdkState.isInState(SDKState.CONNECTED))
-            return ErrorCodes.SDKIsNotConnectedToService;
+        // stream is claimed before it is started so concurrent calls cannot start it twice
+        if (!sdkState.transition(SDKStateTransition.AttachGazeStream)) {
+            if (!sdkState.isInState(SDKState.CONNECTED))
+                return ErrorCodes.SDKIsNotConnectedToService;
+            return ErrorCodes.GazeDataStreamAlreadyAttached;
+        }
         try {
             assert sharedService != null;
             IntActionResult portResult = sharedService.startStreamingGazeData();
             if (!portResult.success) {
                 setErrorMessage(portResult.errorMessage);
+                sdkState.transition(SDKStateTransition.DetachGazeStream);
                 return ErrorCodes.UnknownErrorCheckErrorMessage;
-            } else {
-                sdkState.addState(SDKState.ATTACHED_TO_GAZE_DATA_STREAM);
-                Pointer pointer = new Pointer(portIntPointer);
-                pointer.setInt(0, portResult.value);
-                return ErrorCodes.Successful;
             }
+            new Pointer(portIntPointer).setInt(0, portResult.value);
+            gazeStreamRequested = true;
+            gazeStreamPortPointer = portIntPointer;
+            return ErrorCodes.Successful;
         } catch (Exception exception) {
             Log.e("Unhandled exception occurred while attempting to get access to shared memory", exception);
+            sdkState.transition(SDKStateTransition.DetachGazeStream);
             return HandleException(exception);
         }
     }
 
     /**
-     * Called by UnitySDK to inform service that client no longer need gaze stream
+     * Called by UnitySDK to receive gaze data stream inside plugin instead of reading udp socket in C#
      *
+     * @param ringBufferPointer pointer to memory block where gaze samples ring buffer is placed, 0 if only latest sample is read
+     * @param ringBufferSize    size of memory block in bytes
      * @return one of ErrorCode values
      */
-    public static int stopEyeTrackingDataStream() {
-        Log.d("stopEyeTrackingDataStream");
-        if (sdkState.isInState(SDKState.ATTACHED_TO_GAZE_DATA_STREAM)) {
-            try {
-                assert sharedService != null;
-                sharedService.stopStreamingGazeData();
-                return ErrorCodes.Successful;
-            } catch (Exception exception) {
-                Log.e("An error occurred when stopping eye tracking data stream.");
-                Log.logp(Level.SEVERE, UnitySDK.class.toString(), "stopEyeTrackingDataStream", "Failed to top eye tracking data stream\n" + exception.getMessage());
-                return HandleException(exception);
-            } finally {
-                sdkState.removeState(SDKState.ATTACHED_TO_GAZE_DATA_STREAM);
+    public static int startGazeDataReceiver(long ringBufferPointer, int ringBufferSize) {
+        Log.d("startGazeDataReceiver, ring buffer pointer = " + ringBufferPointer + " size = " + ringBufferSize);
+        // stream is claimed before it is started so concurrent calls cannot start it twice
+        if (!sdkState.transition(SDKStateTransition.AttachGazeStream)) {
+            if (!sdkState.isInState(SDKState.CONNECTED))
+                return ErrorCodes.SDKIsNotConnectedToService;
+            return ErrorCodes.GazeDataStreamAlreadyAttached;
+        }
+        try {
+            // receiver left by stream that failed on receiver thread
+            stopGazeReceiver();
+            // receiver takes over gaze pipeline from replay
+            stopGazeSessionReplay();
+            if (0 != ringBufferPointer) {
+                gazeRingBufferWriter = new GazeRingBufferWriter(ringBufferPointer, ringBufferSize);
+                gazePipeline.addConsumer(gazeRingBufferWriter);
+            }
+            assert sharedService != null;
+            IntActionResult portResult = sharedService.startStreamingGazeData();
+            if (!portResult.success) {
+                setErrorMessage(portResult.errorMessage);
+                stopGazeReceiver();
+                sdkState.transition(SDKStateTransition.DetachGazeStream);
+                return ErrorCodes.UnknownErrorCheckErrorMessage;
             }
+            startGazeReceiver(portResult.value);
+            gazeStreamRequested = true;
+            gazeStreamPortPointer = 0;
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            Log.e("Failed to start gaze data receiver", exception);
+            stopGazeReceiver();
+            sdkState.transition(SDKStateTransition.DetachGazeStream);
+            return HandleException(exception);
         }
-        return ErrorCodes.Successful;
     }
 
     /**
-     * Called by UnitySDK to open events channel
+     * Called by UnitySDK to receive newest gaze sample through seqlock protected struct
      *
+     * @param latestGazePointer pointer to struct where newest sample is published, 0 to stop publishing
      * @return one of ErrorCode values
      */
-    public static int subscribeToEvents(String listenerObjectName) {
-        Log.d("subscribeToEvents");
-        if (!sdkState.isInState(SDKState.CONNECTED))
-            return ErrorCodes.SDKIsNotConnectedToService;
-        if (sdkState.isInState(SDKState.SUBSCRIBED_TO_EVENTS))
-            return ErrorCodes.AlreadySubscribedToEvents;
+    public static int setLatestGazeSamplePointer(long latestGazePointer) {
+        Log.d("setLatestGazeSamplePointer, pointer = " + latestGazePointer);
         try {
-            assert sharedService != null;
-            eventListener = new EyeTrackerEventListener(listenerObjectName);
-            sharedService.subscribeToEyetrackerEvents(eventListener);
-            sdkState.addState(SDKState.SUBSCRIBED_TO_EVENTS);
-        } catch (RemoteException e) {
-            return HandleException(e);
+            if (null != latestGazeSlot) {
+                gazePipeline.removeConsumer(latestGazeSlot);
+                latestGazeSlot = null;
+            }
+            if (0 != latestGazePointer) {
+                latestGazeSlot = new LatestGazeSlot(latestGazePointer);
+                gazePipeline.addConsumer(latestGazeSlot);
+            }
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
         }
-        return ErrorCodes.Successful;
     }
 
     /**
-     * Called by UnitySDK to close event channel
+     * Called by UnitySDK to enable extrapolation of gaze received by plugin
      *
+     * @param predictionPointer pointer to GazeSample struct where predicted gaze is written by predictGaze
+     * @param alpha             position correction gain of the model in range (0, 1]
+     * @param beta              velocity correction gain of the model in range [0, 2)
+     * @param maxHorizonMs      maximum time prediction can reach past last received sample
      * @return one of ErrorCode values
      */
-    public static int unsubscribeFromEvents() {
-        Log.d("unsubscribeFromEvents");
-        if (!sdkState.isInState(SDKState.SUBSCRIBED_TO_EVENTS))
+    public static int enableGazePrediction(long predictionPointer, float alpha, float beta, int maxHorizonMs) {
+        Log.d("enableGazePrediction, alpha = " + alpha + " beta = " + beta + " max horizon = " + maxHorizonMs);
+        try {
+            if (null != gazePredictor) {
+                gazePredictor.setParameters(alpha, beta, maxHorizonMs);
+            } else {
+                gazePredictor = new GazePredictor(alpha, beta, maxHorizonMs);
+                gazePipeline.addConsumer(gazePredictor);
+            }
+            ByteBuffer predictionBuffer = NativeMemory.wrap(predictionPointer, GazeRingBufferWriter.SLOT_SIZE);
+            synchronized (gazePredictionResult) {
+                gazePredictionBuffer = predictionBuffer;
+            }
             return ErrorCodes.Successful;
-        if (!sdkState.isInState(SDKState.CONNECTED))
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to disable gaze extrapolation
+     */
+    public static void disableGazePrediction() {
+        Log.d("disableGazePrediction");
+        if (null != gazePredictor)
+            gazePipeline.removeConsumer(gazePredictor);
+        gazePredictor = null;
+        // waits for predictGaze called from other thread, struct may be released after return
+        synchronized (gazePredictionResult) {
+            gazePredictionBuffer = null;
+        }
+    }
+
+    /**
+     * Called by UnitySDK once per frame to get gaze extrapolated to predicted display time
+     *
+     * @param targetTimeMs display time in gaze timestamp clock, next vsync plus pipeline latency
+     * @return one of ErrorCode values
+     */
+    public static int predictGaze(long targetTimeMs) {
+        GazePredictor predictor = gazePredictor;
+        if (null == predictor)
+            return ErrorCodes.NoValidGazeAvailable;
+        synchronized (gazePredictionResult) {
+            ByteBuffer target = gazePredictionBuffer;
+            if (null == target)
+                return ErrorCodes.NoValidGazeAvailable;
+            if (!predictor.predict(targetTimeMs, gazePredictionResult))
+                return ErrorCodes.NoValidGazeAvailable;
+            target.putLong(0, targetTimeMs);
+            target.putFloat(8, gazePredictionResult[0]);
+            target.putFloat(12, gazePredictionResult[1]);
+            target.putFloat(16, gazePredictionResult[2]);
+            target.putFloat(20, gazePredictionResult[3]);
+            target.putInt(24, predictor.getLastGazeEvent());
+        }
+        return ErrorCodes.Successful;
+    }
+
+    /**
+     * Called by UnitySDK to publish gaze predicted for photon time of every display refresh shortly before
+     * the refresh, Unity reads the struct at render submission without calling plugin
+     *
+     * @param latchSlotPointer       pointer to LatchedGazeSample struct gaze is published to
+     * @param leadTimeUs             time before refresh gaze is published at, must end before Unity render submission
+     * @param photonOffsetUs         time from refresh to light leaving the display, including frames queued by compositor
+     * @param alpha                  position correction gain of prediction model in range (0, 1]
+     * @param beta                   velocity correction gain of prediction model in range [0, 2)
+     * @param maxHorizonMs           maximum time prediction can reach past last received sample
+     * @param simulatedRefreshRateHz 0 to follow display with Choreographer, refresh rate of simulated display otherwise
+     * @return one of ErrorCode values
+     */
+    public static int startGazeLatch(long latchSlotPointer, int leadTimeUs, int photonOffsetUs, float alpha, float beta,
+                                     int maxHorizonMs, int simulatedRefreshRateHz) {
+        Log.d("startGazeLatch, lead = " + leadTimeUs + " photon offset = " + photonOffsetUs + " simulated refresh rate = " + simulatedRefreshRateHz);
+        try {
+            IVsyncSource vsyncSource = simulatedRefreshRateHz > 0
+                    ? new FixedRateVsyncSource(simulatedRefreshRateHz) : new ChoreographerVsyncSource();
+            GazeLatchPublisher publisher = new GazeLatchPublisher(latchSlotPointer, clockSync,
+                    new GazePredictor(alpha, beta, maxHorizonMs), vsyncSource, leadTimeUs * 1000L, photonOffsetUs * 1000L);
+            stopGazeLatch();
+            gazeLatchPublisher = publisher;
+            gazePipeline.addConsumer(publisher);
+            publisher.start();
             return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to stop publishing gaze at display refresh
+     */
+    public static void stopGazeLatch() {
+        if (null == gazeLatchPublisher)
+            return;
+        Log.d("stopGazeLatch, latched = " + gazeLatchPublisher.getLatchCount() + " late = " + gazeLatchPublisher.getLateCount());
+        gazeLatchPublisher.stop();
+        gazePipeline.removeConsumer(gazeLatchPublisher);
+        gazeLatchPublisher = null;
+    }
+
+    /**
+     * Called by UnitySDK to append filter to chain applied to gaze received by plugin
+     *
+     * @param filterType one of GazeFilterType values
+     * @param parameter0 One Euro: min cutoff [Hz], Median: window size, Kalman: process noise
+     * @param parameter1 One Euro: beta, Kalman: measurement noise
+     * @param parameter2 One Euro: derivative cutoff [Hz]
+     * @return one of ErrorCode values
+     */
+    public static int addGazeFilter(int filterType, float parameter0, float parameter1, float parameter2) {
+        Log.d("addGazeFilter, type = " + filterType);
         try {
-            assert sharedService != null;
-            sharedService.unsubscribeFromEyetrackerEvents();
-            sdkState.removeState(SDKState.SUBSCRIBED_TO_EVENTS);
-            Log.i("Unsubscribed from hardware events");
-        } catch (RemoteException e) {
-            Log.e("Failed to unsubscribe from hardware events");
-            return HandleException(e);
+            gazePipeline.getFilterChain().addFilter(GazeFilterType.fromInt(filterType).create(parameter0, parameter1, parameter2));
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
         }
-        return ErrorCodes.Successful;
     }
 
     /**
-     * Called by UnitySDK to begin calibration procedure
+     * Called by UnitySDK to change parameters of filter at runtime
      *
-     * @param calibrationRequestPointer  pointer to struct where java can write points to display in unity
-     * @param calibrationResponsePointer pointer to struct from which java can read status of display
-     * @param calibrationStatusPointer   pointer to int where status calibration status can be updated
-     * @param pointIndexPointer          pointer to int that is incremented each time a new point is presented
+     * @param filterIndex index of filter in order of addGazeFilter calls
      * @return one of ErrorCode values
      */
-    public static CalibrationProcedure startCalibrationProcedure(long calibrationRequestPointer, long calibrationResponsePointer, long calibrationStatusPointer, long pointIndexPointer) throws Exception {
-        Log.d("startCalibrationProcedure");
-        if (!sdkState.isInState(SDKState.CONNECTED))
-            throw new Exception("SDK is not connected to the service.");
-        if (sdkState.isInState(SDKState.CALIBRATING))
-            throw new Exception("SDK is calibrating");
-        calibrationProcedure = new CalibrationProcedure(calibrationRequestPointer, calibrationResponsePointer, calibrationStatusPointer, pointIndexPointer);
-        ICalibrationStatusListener listener = (oldStatus, newStatus) -> {
-            if (newStatus == CalibrationStatus.FinishedSuccessfully || newStatus == CalibrationStatus.FinishedFailed)
-                sdkState.removeState(SDKState.CALIBRATING);
-        };
-        calibrationProcedure.setCalibrationStatusListener(listener);
-        ActionResult actionResult = new ActionResult();
-        assert sharedService != null;
-        IServiceCalibrationCallback serviceCallback = sharedService.startCalibrationProcedure(actionResult, calibrationProcedure.getCalibrationCallback());
-        if (!actionResult.successful) {
-            throw new Exception(actionResult.errorMessage);
+    public static int setGazeFilterParameters(int filterIndex, float parameter0, float parameter1, float parameter2) {
+        Log.d("setGazeFilterParameters, index = " + filterIndex);
+        try {
+            gazePipeline.getFilterChain().getFilter(filterIndex).setParameters(parameter0, parameter1, parameter2);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
         }
-        calibrationProcedure.setServiceCalibrationCallback(serviceCallback);
-        sdkState.addState(SDKState.CALIBRATING);
-        return calibrationProcedure;
     }
 
     /**
-     * Called by UnitySKD to abort current calibration
+     * Called by UnitySDK to remove all gaze filters
+     */
+    public static void clearGazeFilters() {
+        Log.d("clearGazeFilters");
+        gazePipeline.getFilterChain().clear();
+    }
+
+    /**
+     * Called by UnitySDK to start detection of fixations and saccades in gaze received by plugin
      *
-     * @return string serialized versions of firmware and service separated with '\n'
+     * @param algorithm             one of GazeMovementAlgorithm values
+     * @param threshold             velocity threshold [units/s] for I-VT or dispersion threshold [units] for I-DT
+     * @param minFixationDurationMs minimum duration of reported fixation
+     * @param eventQueuePointer     pointer to memory block where event ring buffer is placed
+     * @param eventQueueSize        size of memory block in bytes
+     * @return one of ErrorCode values
      */
-    public static String getVersions() throws Exception {
-        Log.d("getVersions");
-        if (!sdkState.isInState(SDKState.CONNECTED))
-            throw new Exception("SDK is not connected to service");
-        Version serviceVersion = new Version();
-        Version firmwareVersion = new Version();
-        Version calibrationVersion = new Version();
-        assert sharedService != null;
-        sharedService.getVersions(serviceVersion, firmwareVersion, calibrationVersion);
-        return serviceVersion.toString() + '\n' + firmwareVersion;
+    public static int startGazeMovementClassification(int algorithm, float threshold, int minFixationDurationMs, long eventQueuePointer, int eventQueueSize) {
+        Log.d("startGazeMovementClassification, algorithm = " + algorithm + " threshold = " + threshold);
+        try {
+            GazeMovementClassifier classifier = GazeMovementAlgorithm.fromInt(algorithm)
+                    .create(new GazeMovementEventQueue(eventQueuePointer, eventQueueSize), threshold, minFixationDurationMs);
+            stopGazeMovementClassification();
+            gazeMovementClassifier = classifier;
+            gazePipeline.addConsumer(classifier);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
     }
 
     /**
-     * Called by UnitySDK to get last error message
+     * Called by UnitySDK to stop detection of fixations and saccades
+     */
+    public static void stopGazeMovementClassification() {
+        Log.d("stopGazeMovementClassification");
+        if (null == gazeMovementClassifier)
+            return;
+        gazePipeline.removeConsumer(gazeMovementClassifier);
+        gazeMovementClassifier = null;
+    }
+
+    /**
+     * Called by UnitySDK to hit test gaze against viewport targets inside plugin at gaze sample rate,
+     * targets are registered through command queue and results are written to event queue
      *
-     * @return last error message
+     * @param commandQueuePointer pointer to memory block where target command ring buffer written by Unity is placed
+     * @param commandQueueSize    size of memory block in bytes
+     * @param eventQueuePointer   pointer to memory block where enter, exit and dwell event ring buffer is placed
+     * @param eventQueueSize      size of memory block in bytes
+     * @param maxTargets          number of target ids Unity may use, ids are in range [0, maxTargets)
+     * @param gridColumns         number of columns of spatial index grid covering viewport
+     * @param gridRows            number of rows of spatial index grid covering viewport
+     * @param exitMargin          distance in viewport space gaze may leave target by before it exits
+     * @param exitDelayMs         time gaze must be off target before it exits
+     * @return one of ErrorCode values
      */
-    public static String getLastErrorMessage() {
-        return errorMessage;
+    public static int startGazeHitTesting(long commandQueuePointer, int commandQueueSize, long eventQueuePointer, int eventQueueSize,
+                                          int maxTargets, int gridColumns, int gridRows, float exitMargin, int exitDelayMs) {
+        Log.d("startGazeHitTesting, max targets = " + maxTargets + " grid = " + gridColumns + "x" + gridRows);
+        try {
+            GazeHitTester hitTester = new GazeHitTester(
+                    new NativeRingBufferReader(commandQueuePointer, commandQueueSize, GazeHitTester.COMMAND_SLOT_SIZE),
+                    new GazeHitEventQueue(eventQueuePointer, eventQueueSize),
+                    new GazeTargetGrid(maxTargets, gridColumns, gridRows), exitMargin, exitDelayMs);
+            stopGazeHitTesting();
+            gazeHitTester = hitTester;
+            gazePipeline.addConsumer(hitTester);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
     }
 
-    public static void setErrorMessage(String errorMessage) {
-        UnitySDK.errorMessage = errorMessage;
+    /**
+     * Called by UnitySDK to set mapping of gaze to viewport space used by hit testing, see ViewportMapping
+     */
+    public static void setGazeHitTestingViewportMapping(float scaleX, float offsetX, float scaleY, float offsetY) {
+        GazeHitTester hitTester = gazeHitTester;
+        if (null != hitTester)
+            hitTester.setViewportMapping(new ViewportMapping(scaleX, offsetX, scaleY, offsetY));
     }
 
     /**
-     * Called by UnitySKD to abort current calibration
+     * Called by UnitySDK to stop hit testing gaze against targets
+     */
+    public static void stopGazeHitTesting() {
+        if (null == gazeHitTester)
+            return;
+        Log.d("stopGazeHitTesting");
+        gazePipeline.removeConsumer(gazeHitTester);
+        gazeHitTester = null;
+    }
+
+    /**
+     * Called by UnitySDK to accumulate live gaze heatmap over viewport inside plugin
      *
-     * @return int representation of dominant eye
+     * @param width           number of heatmap cells along viewport x axis
+     * @param height          number of heatmap cells along viewport y axis
+     * @param sigma           standard deviation of Gaussian splat of single sample in cells
+     * @param decayHalfLifeMs time after which weight of a sample halves, 0 to accumulate without decay
+     * @return one of ErrorCode values
      */
-    public static int getDominantEye() throws RemoteException {
-        Log.d("getDominantEye");
-        if (!sdkState.isInState(SDKState.CONNECTED))
-            return Eye.BOTH.value;
-        assert sharedService != null;
-        return sharedService.getDominantEye().value;
+    public static int startGazeHeatmap(int width, int height, float sigma, int decayHalfLifeMs) {
+        Log.d("startGazeHeatmap, size = " + width + "x" + height + " sigma = " + sigma + " half life = " + decayHalfLifeMs);
+        try {
+            GazeHeatmap heatmap = new GazeHeatmap(width, height, sigma, decayHalfLifeMs);
+            stopGazeHeatmap();
+            gazeHeatmap = heatmap;
+            gazePipeline.addConsumer(heatmap);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
     }
 
-    private static int HandleException(Exception exc) {
-        if (null != exc.getMessage()) {
-            setErrorMessage(exc.getMessage());
-            Log.e(exc.getMessage());
+    /**
+     * Called by UnitySDK to set mapping of gaze to viewport space used by heatmap, see ViewportMapping
+     */
+    public static void setGazeHeatmapViewportMapping(float scaleX, float offsetX, float scaleY, float offsetY) {
+        GazeHeatmap heatmap = gazeHeatmap;
+        if (null != heatmap)
+            heatmap.setViewportMapping(new ViewportMapping(scaleX, offsetX, scaleY, offsetY));
+    }
+
+    /**
+     * Called by UnitySDK to copy heatmap mip level into texture memory
+     *
+     * @param texturePointer pointer to texture data, usually obtained with Texture2D.GetRawTextureData
+     * @param textureSize    size of texture data in bytes
+     * @param mipLevel       mip level, 0 is full resolution, every next level halves both dimensions rounding up
+     * @param format         one of HeatmapTextureFormat values
+     * @return one of ErrorCode values
+     */
+    public static int copyGazeHeatmap(long texturePointer, int textureSize, int mipLevel, int format) {
+        GazeHeatmap heatmap = gazeHeatmap;
+        if (null == heatmap) {
+            setErrorMessage("Gaze heatmap is not started");
             return ErrorCodes.UnknownErrorCheckErrorMessage;
         }
-        return ErrorCodes.UnknownError;
+        try {
+            heatmap.copyTo(texturePointer, textureSize, mipLevel, format);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to remove all accumulated samples from heatmap
+     */
+    public static void clearGazeHeatmap() {
+        GazeHeatmap heatmap = gazeHeatmap;
+        if (null != heatmap)
+            heatmap.clear();
+    }
+
+    /**
+     * Called by UnitySDK to stop heatmap accumulation and release heatmap memory
+     */
+    public static void stopGazeHeatmap() {
+        if (null == gazeHeatmap)
+            return;
+        Log.d("stopGazeHeatmap");
+        gazePipeline.removeConsumer(gazeHeatmap);
+        gazeHeatmap = null;
+    }
+
+    /**
+     * Called by UnitySDK to share gaze stream between several Unity systems through single broadcast ring buffer,
+     * each system registers itself as consumer with its own read cursor
+     *
+     * @param ringBufferPointer pointer to memory block where broadcast ring buffer is placed
+     * @param ringBufferSize    size of memory block in bytes
+     * @param blockTimeoutMs    maximum time gaze receiver waits for consumer with Block overflow policy
+     * @return one of ErrorCode values
+     */
+    public static int startGazeBroadcast(long ringBufferPointer, int ringBufferSize, int blockTimeoutMs) {
+        Log.d("startGazeBroadcast, ring buffer pointer = " + ringBufferPointer + " size = " + ringBufferSize);
+        try {
+            GazeBroadcastRing ring = new GazeBroadcastRing(ringBufferPointer, ringBufferSize, blockTimeoutMs);
+            stopGazeBroadcast();
+            gazeBroadcastRing = ring;
+            gazePipeline.addConsumer(ring);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to register consumer of gaze broadcast ring buffer
+     *
+     * @param overflowPolicy    one of GazeOverflowPolicy values
+     * @param intervalMs        minimum time between samples delivered to consumer, 0 to receive every sample
+     * @param consumerIdPointer pointer to int where consumer id is written
+     * @return one of ErrorCode values
+     */
+    public static int addGazeBroadcastConsumer(int overflowPolicy, float intervalMs, long consumerIdPointer) {
+        Log.d("addGazeBroadcastConsumer, overflow policy = " + overflowPolicy + " interval = " + intervalMs);
+        GazeBroadcastRing ring = gazeBroadcastRing;
+        if (null == ring)
+            return ErrorCodes.GazeBroadcastNotStarted;
+        try {
+            int consumerId = ring.addConsumer(overflowPolicy, intervalMs);
+            if (consumerId < 0)
+                return ErrorCodes.TooManyGazeConsumers;
+            new Pointer(consumerIdPointer).setInt(0, consumerId);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to unregister consumer of gaze broadcast ring buffer
+     *
+     * @param consumerId id returned by addGazeBroadcastConsumer
+     * @return one of ErrorCode values
+     */
+    public static int removeGazeBroadcastConsumer(int consumerId) {
+        Log.d("removeGazeBroadcastConsumer, consumer id = " + consumerId);
+        GazeBroadcastRing ring = gazeBroadcastRing;
+        if (null == ring)
+            return ErrorCodes.GazeBroadcastNotStarted;
+        try {
+            ring.removeConsumer(consumerId);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to stop writing gaze to broadcast ring buffer, all consumers are unregistered
+     */
+    public static void stopGazeBroadcast() {
+        if (null == gazeBroadcastRing)
+            return;
+        Log.d("stopGazeBroadcast");
+        // wakes receiver thread waiting for blocking consumer, otherwise removal would wait out block timeout
+        gazeBroadcastRing.close();
+        gazePipeline.removeConsumer(gazeBroadcastRing);
+        gazeBroadcastRing = null;
+    }
+
+    /**
+     * Called by UnitySDK to record every received gaze sample to memory mapped session file
+     *
+     * @param path               path of session file, existing file is overwritten
+     * @param segmentSizeInBytes size of file segment mapped at once
+     * @param flushIntervalMs    interval of forced flushes of recorded samples to storage
+     * @return one of ErrorCode values
+     */
+    public static int startSessionRecording(String path, int segmentSizeInBytes, int flushIntervalMs) {
+        Log.d("startSessionRecording, path = " + path);
+        try {
+            String versions = sdkState.isInState(SDKState.CONNECTED) ? getVersions() : "";
+            GazeSessionRecorder recorder = new GazeSessionRecorder(new File(path), versions, getDominantEye(),
+                    segmentSizeInBytes, flushIntervalMs);
+            stopSessionRecording();
+            sessionRecorder = recorder;
+            // recorder taps the stream before filters, so recorded session can be replayed through the same filters
+            gazePipeline.addTap(recorder);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            Log.e("Failed to start session recording", exception);
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to finish session recording
+     */
+    public static void stopSessionRecording() {
+        if (null == sessionRecorder)
+            return;
+        Log.d("stopSessionRecording");
+        gazePipeline.removeTap(sessionRecorder);
+        sessionRecorder.close();
+        sessionRecorder = null;
+    }
+
+    /**
+     * Called by UnitySDK to feed gaze pipeline with recorded gaze session instead of service gaze stream,
+     * works without connection to service
+     *
+     * @param path              path of session file recorded with startSessionRecording
+     * @param speed             1 replays in real time, higher values accelerate, 0 replays as fast as possible
+     * @param loop              starts session again after it ends, otherwise GazeReplayFinished event is sent at the end
+     * @param ringBufferPointer pointer to memory block where gaze samples ring buffer is placed, 0 if only latest sample is read
+     * @param ringBufferSize    size of memory block in bytes
+     * @return one of ErrorCode values
+     */
+    public static int startGazeSessionReplay(String path, float speed, boolean loop, long ringBufferPointer, int ringBufferSize) {
+        Log.d("startGazeSessionReplay, path = " + path + " speed = " + speed + " loop = " + loop);
+        // gaze pipeline must have single producer
+        if (null != gazeReceiver)
+            return ErrorCodes.GazeDataStreamAlreadyAttached;
+        GazeSessionReader reader = null;
+        try {
+            stopGazeSessionReplay();
+            reader = new GazeSessionReader(new File(path));
+            if (0 != ringBufferPointer) {
+                gazeRingBufferWriter = new GazeRingBufferWriter(ringBufferPointer, ringBufferSize);
+                gazePipeline.addConsumer(gazeRingBufferWriter);
+            }
+            // replayed timestamps are shifted to replay start and scaled by speed, they do not follow service clock
+            clockSync.setGazeObservationPaused(true);
+            gazeSessionReplay = new GazeSessionReplay(reader, gazePipeline::process, speed, loop, () -> {
+                SDKEventQueue queue = eventQueue;
+                if (null != queue)
+                    queue.write(SDKEventType.GazeReplayFinished, 0, 0);
+            });
+            gazeSessionReplay.start();
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            Log.e("Failed to start gaze session replay", exception);
+            if (null == gazeSessionReplay && null != reader) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    Log.e("Failed to close gaze session", e);
+                }
+            }
+            stopGazeSessionReplay();
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to stop gaze session replay
+     */
+    public static void stopGazeSessionReplay() {
+        if (null != gazeSessionReplay) {
+            Log.d("stopGazeSessionReplay");
+            gazeSessionReplay.stop();
+            gazeSessionReplay = null;
+        }
+        clockSync.setGazeObservationPaused(false);
+        // ring buffer writer is owned by gaze receiver when it runs
+        if (null == gazeReceiver && null != gazeRingBufferWriter) {
+            gazePipeline.removeConsumer(gazeRingBufferWriter);
+            gazeRingBufferWriter = null;
+        }
+    }
+
+    /**
+     * Called by UnitySDKTestProxy to measure gaze stream generated by synthetic gaze of injected service proxy,
+     * must be called after gaze data receiver was started
+     *
+     * @return one of ErrorCode values
+     */
+    public static int startGazeSoakTest() {
+        Log.d("startGazeSoakTest");
+        ServiceConnectionProxy proxy = connection instanceof ServiceConnectionProxy ? (ServiceConnectionProxy) connection : null;
+        if (null == proxy || null == proxy.getSyntheticGazeGenerator()) {
+            setErrorMessage("Synthetic gaze is not streamed by injected service proxy");
+            return ErrorCodes.UnknownErrorCheckErrorMessage;
+        }
+        stopGazeSoakTest();
+        gazeSoakTest = new GazeSoakTest(proxy);
+        // last consumer, so measured latency covers whole pipeline
+        gazePipeline.addConsumer(gazeSoakTest);
+        return ErrorCodes.Successful;
+    }
+
+    /**
+     * Called by UnitySDKTestProxy to read soak test report without stopping it
+     *
+     * @return report with one measurement per line or empty string if soak test is not running
+     */
+    public static String getGazeSoakTestReport() {
+        GazeSoakTest soakTest = gazeSoakTest;
+        return null == soakTest ? "" : soakTest.getReport();
+    }
+
+    /**
+     * Called by UnitySDKTestProxy to finish soak test
+     *
+     * @return final report or empty string if soak test is not running
+     */
+    public static String stopGazeSoakTest() {
+        if (null == gazeSoakTest)
+            return "";
+        Log.d("stopGazeSoakTest");
+        gazePipeline.removeConsumer(gazeSoakTest);
+        String report = gazeSoakTest.getReport();
+        gazeSoakTest = null;
+        Log.i("Gaze soak test finished\n" + report);
+        return report;
+    }
+
+    /**
+     * Called by UnitySDK to inform service that client no longer need gaze stream
+     *
+     * @return one of ErrorCode values
+     */
+    public static int stopEyeTrackingDataStream() {
+        Log.d("stopEyeTrackingDataStream");
+        gazeStreamRequested = false;
+        gazeStreamPortPointer = 0;
+        // receiver outlives the flag, Disconnect and receiver failure clear it without stopping receiver
+        stopGazeReceiver();
+        if (sdkState.transition(SDKStateTransition.DetachGazeStream)) {
+            try {
+                assert sharedService != null;
+                sharedService.stopStreamingGazeData();
+                return ErrorCodes.Successful;
+            } catch (Exception exception) {
+                Log.e("An error occurred when stopping eye tracking data stream.");
+                Log.logp(Level.SEVERE, UnitySDK.class.toString(), "stopEyeTrackingDataStream", "Failed to top eye tracking data stream\n" + exception.getMessage());
+                return HandleException(exception);
+            }
+        }
+        return ErrorCodes.Successful;
+    }
+
+    /**
+     * Called by UnitySDK to receive raw binary data stream in ring buffer placed in Unity memory
+     *
+     * @param binaryDataVersion requested version of raw data format
+     * @param ringBufferPointer pointer to memory block where raw data chunk ring buffer is placed
+     * @param ringBufferSize    size of memory block in bytes
+     * @param chunkSize         size of single ring buffer slot in bytes, including 16 byte chunk header
+     * @return one of ErrorCode values
+     */
+    public static int startRawDataStream(int binaryDataVersion, long ringBufferPointer, int ringBufferSize, int chunkSize) {
+        Log.d("startRawDataStream, version = " + binaryDataVersion + " pointer = " + ringBufferPointer + " size = " + ringBufferSize);
+        if (!sdkState.transition(SDKStateTransition.StartRawDataStream)) {
+            if (!sdkState.isInState(SDKState.CONNECTED))
+                return ErrorCodes.SDKIsNotConnectedToService;
+            return ErrorCodes.RawDataStreamAlreadyStarted;
+        }
+        // stream returned by service until receiver takes it over
+        ParcelFileDescriptor stream = null;
+        try {
+            RawDataReceiver.validateRingBuffer(ringBufferSize, chunkSize);
+            // receiver left by stream closed from service side
+            stopRawDataReceiver();
+            assert sharedService != null;
+            BinaryStreamActionResult streamResult = sharedService.startStreamingRawData(binaryDataVersion);
+            if (!streamResult.success) {
+                setErrorMessage(streamResult.errorMessage);
+                sdkState.transition(SDKStateTransition.StopRawDataStream);
+                return ErrorCodes.UnknownErrorCheckErrorMessage;
+            }
+            stream = streamResult.value;
+            rawDataReceiver = new RawDataReceiver(stream, ringBufferPointer, ringBufferSize, chunkSize, exception -> {
+                sdkState.transition(SDKStateTransition.StopRawDataStream);
+                int errorCode = ErrorCodes.Successful;
+                if (null != exception) {
+                    setErrorMessage(exception.getMessage());
+                    errorCode = ErrorCodes.UnknownErrorCheckErrorMessage;
+                }
+                SDKEventQueue queue = eventQueue;
+                if (null != queue)
+                    queue.write(SDKEventType.RawDataStreamClosed, errorCode, 0);
+                else
+                    Log.e("Raw data stream closed event not delivered to Unity, event queue is not set");
+            });
+            rawDataReceiver.start();
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            Log.e("Failed to start raw data stream", exception);
+            stopRawDataReceiver();
+            if (null != stream)
+                abandonRawDataStream(stream);
+            sdkState.transition(SDKStateTransition.StopRawDataStream);
+            return HandleException(exception);
+        }
+    }
+
+    /*
+     * Stream started by service but never read by receiver, service must not keep writing to it.
+     */
+    private static void abandonRawDataStream(ParcelFileDescriptor stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            Log.e("Failed to close raw data stream", e);
+        }
+        try {
+            assert sharedService != null;
+            sharedService.stopStreamingRawData();
+        } catch (Exception e) {
+            Log.e("Failed to stop raw data stream", e);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to inform service that client no longer need raw data stream
+     *
+     * @return one of ErrorCode values
+     */
+    public static int stopRawDataStream() {
+        Log.d("stopRawDataStream");
+        boolean streaming = sdkState.transition(SDKStateTransition.StopRawDataStream);
+        stopRawDataReceiver();
+        if (!streaming || !sdkState.isInState(SDKState.CONNECTED))
+            return ErrorCodes.Successful;
+        try {
+            assert sharedService != null;
+            sharedService.stopStreamingRawData();
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            Log.e("Failed to stop raw data stream", exception);
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to make service record raw data to file on device
+     *
+     * @return one of ErrorCode values
+     */
+    public static int beginRecordingRawData() {
+        Log.d("beginRecordingRawData");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            return ErrorCodes.SDKIsNotConnectedToService;
+        try {
+            assert sharedService != null;
+            ActionResult result = sharedService.beginRecordingRawData();
+            if (!result.successful) {
+                setErrorMessage(result.errorMessage);
+                return ErrorCodes.UnknownErrorCheckErrorMessage;
+            }
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to finish raw data recording started with beginRecordingRawData
+     *
+     * @return path of recorded file
+     */
+    public static String endRecordingRawData() throws Exception {
+        Log.d("endRecordingRawData");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            throw new Exception("SDK is not connected to service");
+        assert sharedService != null;
+        StringActionResult result = sharedService.endRecordingRawData();
+        if (!result.success)
+            throw new Exception(result.errorMessage);
+        return result.value;
+    }
+
+    /**
+     * Called by UnitySDK to receive versioned state word, Unity can compare versions instead of decoding state every frame
+     *
+     * @param stateWordPointer pointer to long receiving state flags in lower 32 bits and version in upper 32 bits, 0 to stop publishing
+     * @return one of ErrorCode values
+     */
+    public static int setStateWordPointer(long stateWordPointer) {
+        Log.d("setStateWordPointer, pointer = " + stateWordPointer);
+        try {
+            sdkState.setUnityStateWordPointer(stateWordPointer);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to receive events as binary records instead of UnitySendMessage calls
+     *
+     * @param eventQueuePointer pointer to memory block where event ring buffer is placed, 0 to go back to UnitySendMessage
+     * @param eventQueueSize    size of memory block in bytes
+     * @return one of ErrorCode values
+     */
+    public static int setEventQueuePointer(long eventQueuePointer, int eventQueueSize) {
+        Log.d("setEventQueuePointer, pointer = " + eventQueuePointer + " size = " + eventQueueSize);
+        // previous queue can still be written by thread that read it before replacement
+        SDKEventQueue previous = eventQueue;
+        if (null != previous)
+            previous.close();
+        try {
+            eventQueue = 0 == eventQueuePointer ? null : new SDKEventQueue(eventQueuePointer, eventQueueSize);
+            if (null != eventListener)
+                eventListener.setEventQueue(eventQueue);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            eventQueue = null;
+            if (null != eventListener)
+                eventListener.setEventQueue(null);
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to open events channel
+     *
+     * @return one of ErrorCode values
+     */
+    public static int subscribeToEvents(String listenerObjectName) {
+        Log.d("subscribeToEvents");
+        if (!sdkState.transition(SDKStateTransition.SubscribeToEvents)) {
+            if (!sdkState.isInState(SDKState.CONNECTED))
+                return ErrorCodes.SDKIsNotConnectedToService;
+            return ErrorCodes.AlreadySubscribedToEvents;
+        }
+        try {
+            assert sharedService != null;
+            eventListener = new EyeTrackerEventListener(listenerObjectName, eventQueue, deviceInfoCache);
+            sharedService.subscribeToEyetrackerEvents(eventListener);
+        } catch (RemoteException e) {
+            eventListener = null;
+            sdkState.transition(SDKStateTransition.UnsubscribeFromEvents);
+            return HandleException(e);
+        }
+        return ErrorCodes.Successful;
+    }
+
+    /**
+     * Called by UnitySDK to close event channel
+     *
+     * @return one of ErrorCode values
+     */
+    public static int unsubscribeFromEvents() {
+        Log.d("unsubscribeFromEvents");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            return ErrorCodes.Successful;
+        if (!sdkState.transition(SDKStateTransition.UnsubscribeFromEvents))
+            return ErrorCodes.Successful;
+        try {
+            assert sharedService != null;
+            sharedService.unsubscribeFromEyetrackerEvents();
+            eventListener = null;
+            Log.i("Unsubscribed from hardware events");
+        } catch (RemoteException e) {
+            Log.e("Failed to unsubscribe from hardware events");
+            sdkState.transition(SDKStateTransition.SubscribeToEvents);
+            return HandleException(e);
+        }
+        return ErrorCodes.Successful;
+    }
+
+    /**
+     * Called by UnitySDK to begin calibration procedure
+     *
+     * @param calibrationRequestPointer  pointer to struct where java can write points to display in unity
+     * @param calibrationResponsePointer pointer to struct from which java can read status of display
+     * @param calibrationStatusPointer   pointer to int where status calibration status can be updated
+     * @param pointIndexPointer          pointer to int that is incremented each time a new point is presented
+     * @return one of ErrorCode values
+     */
+    public static CalibrationProcedure startCalibrationProcedure(long calibrationRequestPointer, long calibrationResponsePointer, long calibrationStatusPointer, long pointIndexPointer) throws Exception {
+        Log.d("startCalibrationProcedure");
+        if (!sdkState.transition(SDKStateTransition.StartCalibration)) {
+            if (!sdkState.isInState(SDKState.CONNECTED))
+                throw new Exception("SDK is not connected to the service.");
+            throw new Exception("SDK is calibrating");
+        }
+        try {
+            return beginCalibrationProcedure(calibrationRequestPointer, calibrationResponsePointer, calibrationStatusPointer, pointIndexPointer);
+        } catch (Exception e) {
+            sdkState.transition(SDKStateTransition.FinishCalibration);
+            throw e;
+        }
+    }
+
+    private static CalibrationProcedure beginCalibrationProcedure(long calibrationRequestPointer, long calibrationResponsePointer, long calibrationStatusPointer, long pointIndexPointer) throws Exception {
+        calibrationProcedure = new CalibrationProcedure(calibrationRequestPointer, calibrationResponsePointer, calibrationStatusPointer, pointIndexPointer, metrics);
+        ICalibrationStatusListener listener = (oldStatus, newStatus) -> {
+            if (newStatus == CalibrationStatus.FinishedSuccessfully || newStatus == CalibrationStatus.FinishedFailed) {
+                sdkState.transition(SDKStateTransition.FinishCalibration);
+                deviceInfoCache.invalidateCalibrated();
+            }
+            SDKEventQueue queue = eventQueue;
+            if (null != queue)
+                queue.write(SDKEventType.CalibrationStatusChanged, newStatus.intValue, oldStatus.intValue);
+        };
+        calibrationProcedure.setCalibrationStatusListener(listener);
+        ActionResult actionResult = new ActionResult();
+        assert sharedService != null;
+        IServiceCalibrationCallback serviceCallback = sharedService.startCalibrationProcedure(actionResult, calibrationProcedure.getCalibrationCallback());
+        if (!actionResult.successful) {
+            throw new Exception(actionResult.errorMessage);
+        }
+        calibrationProcedure.setServiceCalibrationCallback(serviceCallback);
+        return calibrationProcedure;
+    }
+
+    /**
+     * Called by UnitySKD to abort current calibration
+     *
+     * @return string serialized versions of firmware and service separated with '\n'
+     */
+    public static String getVersions() throws Exception {
+        Log.d("getVersions");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            throw new Exception("SDK is not connected to service");
+        if (deviceInfoCache.isValid(DeviceInfoCache.VERSIONS))
+            return deviceInfoCache.getVersions();
+        Version serviceVersion = new Version();
+        Version firmwareVersion = new Version();
+        Version calibrationVersion = new Version();
+        assert sharedService != null;
+        sharedService.getVersions(serviceVersion, firmwareVersion, calibrationVersion);
+        String versions = serviceVersion.toString() + '\n' + firmwareVersion;
+        deviceInfoCache.setVersions(versions);
+        return versions;
+    }
+
+    /**
+     * Called by UnitySDK to get last error message
+     *
+     * @return last error message
+     */
+    public static String getLastErrorMessage() {
+        return errorMessage;
+    }
+
+    public static void setErrorMessage(String errorMessage) {
+        UnitySDK.errorMessage = errorMessage;
+    }
+
+    /**
+     * Called by UnitySKD to abort current calibration
+     *
+     * @return int representation of dominant eye
+     */
+    public static int getDominantEye() throws RemoteException {
+        Log.d("getDominantEye");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            return Eye.BOTH.value;
+        if (deviceInfoCache.isValid(DeviceInfoCache.DOMINANT_EYE))
+            return deviceInfoCache.getDominantEye();
+        assert sharedService != null;
+        int dominantEye = sharedService.getDominantEye().value;
+        deviceInfoCache.setDominantEye(dominantEye);
+        return dominantEye;
+    }
+
+    /**
+     * Called by UnitySDK to check if eye tracker is calibrated
+     *
+     * @return true if eye tracker is calibrated
+     */
+    public static boolean isCalibrated() throws Exception {
+        Log.d("isCalibrated");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            throw new Exception("SDK is not connected to service");
+        if (deviceInfoCache.isValid(DeviceInfoCache.CALIBRATED))
+            return deviceInfoCache.isCalibrated();
+        assert sharedService != null;
+        boolean calibrated = sharedService.isCalibrated();
+        deviceInfoCache.setCalibrated(calibrated);
+        return calibrated;
+    }
+
+    /**
+     * Called by UnitySDK to get field of view visible to eye tracker
+     *
+     * @return horizontal and vertical visible field of view
+     */
+    public static float[] getVisibleFov() throws Exception {
+        Log.d("getVisibleFov");
+        if (!sdkState.isInState(SDKState.CONNECTED))
+            throw new Exception("SDK is not connected to service");
+        if (!deviceInfoCache.isValid(DeviceInfoCache.VISIBLE_FOV)) {
+            assert sharedService != null;
+            VisibleFov fov = sharedService.getVisibleFov();
+            if (null == fov)
+                throw new Exception("Service did not return visible fov");
+            deviceInfoCache.setVisibleFov(fov.horizontal, fov.vertical);
+        }
+        synchronized (visibleFov) {
+            deviceInfoCache.getVisibleFov(visibleFov);
+            return visibleFov;
+        }
+    }
+
+    /**
+     * Called by UnitySDK to read device information from native struct instead of calling getters
+     *
+     * @param deviceInfoPointer pointer to DeviceInfo struct, 0 to stop publishing
+     * @return one of ErrorCode values
+     */
+    public static int setDeviceInfoPointer(long deviceInfoPointer) {
+        Log.d("setDeviceInfoPointer, pointer = " + deviceInfoPointer);
+        try {
+            deviceInfoCache.setNativePointer(deviceInfoPointer);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to publish remote call metrics to native stats page
+     *
+     * @param metricsPagePointer pointer to MetricsPage struct, 0 to stop publishing
+     * @param metricsPageSize    size of memory block in bytes
+     * @return one of ErrorCode values
+     */
+    public static int setMetricsPagePointer(long metricsPagePointer, int metricsPageSize) {
+        Log.d("setMetricsPagePointer, pointer = " + metricsPagePointer);
+        try {
+            metrics.setNativePage(metricsPagePointer, metricsPageSize);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to receive clock offsets and drifts estimated by clock sync
+     *
+     * @param clockSyncPointer pointer to ClockSyncState struct, 0 to stop publishing
+     * @return one of ErrorCode values
+     */
+    public static int setClockSyncPointer(long clockSyncPointer) {
+        Log.d("setClockSyncPointer, pointer = " + clockSyncPointer);
+        try {
+            clockSync.setNativePointer(clockSyncPointer);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK, preferably every frame, to report time of clock Unity renders with
+     *
+     * @param unityTimeMs current Unity time in milliseconds, read just before the call
+     */
+    public static void syncUnityClock(double unityTimeMs) {
+        clockSync.observe(ClockDomain.Unity, unityTimeMs, ClockSync.monotonicNow());
+    }
+
+    /**
+     * Called by UnitySDK to convert time between clocks
+     *
+     * @param fromDomain ClockDomain of time
+     * @param toDomain   ClockDomain of result
+     * @param timeMs     time in milliseconds
+     * @return converted time or NaN if any of clocks was not observed yet
+     */
+    public static double convertTime(int fromDomain, int toDomain, double timeMs) {
+        if (fromDomain < 0 || fromDomain >= ClockDomain.COUNT || toDomain < 0 || toDomain >= ClockDomain.COUNT)
+            return Double.NaN;
+        if (!clockSync.isValid(fromDomain) || !clockSync.isValid(toDomain))
+            return Double.NaN;
+        return clockSync.convert(fromDomain, toDomain, timeMs);
+    }
+
+    /**
+     * Called by UnitySDK to publish gaze stream integrity counters to native page
+     *
+     * @param integrityPagePointer pointer to StreamIntegrityPage struct, 0 to stop publishing
+     * @param integrityPageSize    size of memory block in bytes
+     * @return one of ErrorCode values
+     */
+    public static int setStreamIntegrityPagePointer(long integrityPagePointer, int integrityPageSize) {
+        Log.d("setStreamIntegrityPagePointer, pointer = " + integrityPagePointer);
+        try {
+            gazePipeline.getIntegrityMonitor().setNativePage(integrityPagePointer, integrityPageSize);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to put gaze samples back in order, samples are delayed by the window
+     *
+     * @param windowMs reorder window in milliseconds, 0 only counts stream faults
+     * @return one of ErrorCode values
+     */
+    public static int setGazeReorderWindow(int windowMs) {
+        Log.d("setGazeReorderWindow, window = " + windowMs);
+        try {
+            gazePipeline.getIntegrityMonitor().setReorderWindow(windowMs);
+            return ErrorCodes.Successful;
+        } catch (Exception exception) {
+            return HandleException(exception);
+        }
+    }
+
+    /**
+     * Called by UnitySDK to clear all remote call metrics and gaze stream integrity counters
+     */
+    public static void resetMetrics() {
+        Log.d("resetMetrics");
+        metrics.reset();
+        gazePipeline.getIntegrityMonitor().reset();
+    }
+
+    /**
+     * Called by UnitySDK to get remote call metrics as text
+     *
+     * @return table with call count, errors, latency and histogram of every called remote method,
+     * followed by gaze stream integrity counters
+     */
+    public static String dumpMetrics() {
+        String dump = metrics.dump() + gazePipeline.getIntegrityMonitor().dump();
+        Log.i(dump);
+        return dump;
+    }
+
+    /**
+     * Called by UnitySDK to turn flight recorder on or off, recorder is enabled by default
+     *
+     * @param enabled true to record events
+     */
+    public static void setTraceEnabled(boolean enabled) {
+        Log.d("setTraceEnabled, enabled = " + enabled);
+        Trace.setEnabled(enabled);
+    }
+
+    /**
+     * Called by UnitySDK to get flight recorder events as text
+     *
+     * @return recent SDK events, one per line
+     */
+    public static String dumpTrace() {
+        String dump = Trace.dump();
+        Log.i(dump);
+        return dump;
+    }
+
+    /**
+     * Called by UnitySDK to save flight recorder events to file
+     *
+     * @param path absolute path of created file
+     * @return one of ErrorCode values
+     */
+    public static int saveTrace(String path) {
+        Log.d("saveTrace, path = " + path);
+        try {
+            Trace.dumpToFile(new File(path));
+            return ErrorCodes.Successful;
+        } catch (IOException e) {
+            return HandleException(e);
+        }
+    }
+
+    private static int HandleException(Exception exc) {
+        if (null != exc.getMessage()) {
+            setErrorMessage(exc.getMessage());
+            Log.e(exc.getMessage());
+            return ErrorCodes.UnknownErrorCheckErrorMessage;
+        }
+        return ErrorCodes.UnknownError;
+    }
+
+    private static void setConnectionDelegates(String metadata) {
+        connection.setServiceDisconnectedDelegate((name) -> {
+            Log.d("Service disconnected.");
+            Trace.event(TraceEvent.ServiceDisconnected);
+            // service is temporarily disconnected, but should reconnect in the future
+            sdkState.transition(SDKStateTransition.Disconnect);
+            sharedService = null;
+            deviceInfoCache.invalidate();
+            if (null != eventListener)
+                eventListener.setTrackerAvailability(TrackerAvailability.Disconnected);
+            if (null != calibrationProcedure)
+                calibrationProcedure.onServiceDisconnected();
+        });
+        connection.setServiceConnectedDelegate((name, service) ->
+        {
+            Log.d("Service reconnected.");
+            Trace.event(TraceEvent.ServiceConnected);
+            reconnectionManager.onConnected();
+            sharedService = new MeasuredSharedService(ISharedService.Stub.asInterface(service), metrics);
+            sdkState.transition(SDKStateTransition.Connect);
+            deviceInfoCache.refresh(sharedService);
+            restoreSubscriptions();
+            try {
+                // NOTE: no idea how can it throw at this point
+                if (null != eventListener) {
+                    assert sharedService != null;
+                    eventListener.setTrackerAvailability(sharedService.getTrackerAvailability());
+                }
+            } catch (RemoteException e) {
+                Log.logp(Level.SEVERE, UnitySDK.class.toString(), "initialize", "Failed to set tracker availability\n" + e.getMessage());
+            }
+        });
+        connection.setBindingDiedDelegate((name) -> {
+            Log.d("Service service binding died.");
+            Trace.event(TraceEvent.BindingDied);
+            // service disconnected, and will not reconnect without action
+            sdkState.transition(SDKStateTransition.Disconnect);
+            sharedService = null;
+            deviceInfoCache.invalidate();
+            if (null != eventListener)
+                eventListener.setTrackerAvailability(TrackerAvailability.Disconnected);
+            if (null != calibrationProcedure)
+                calibrationProcedure.onServiceDisconnected();
+            // unbind based on Android documentation
+            Activity unityActivity = UnityPlayer.currentActivity;
+            unityActivity.getApplicationContext().unbindService(connection);
+            // rebind with backoff, restarted service may need some time before it accepts connections
+            scheduleRebind(metadata);
+        });
+        connection.setNullBindingDelegate((name) -> {
+            Trace.event(TraceEvent.NullBinding);
+            Log.e("Service service returned null binding.");
+            // service returned null binding and will not return anything else (probably)
+            sdkState.transition(SDKStateTransition.Disconnect);
+            sharedService = null;
+            deviceInfoCache.invalidate();
+            Activity unityActivity = UnityPlayer.currentActivity;
+            unityActivity.getApplicationContext().unbindService(connection);
+            // service may return binding after restart
+            scheduleRebind(metadata);
+        });
+    }
+
+    private static void scheduleRebind(String metadata) {
+        reconnectionManager.scheduleReconnect(() -> {
+            Context context = UnityPlayer.currentActivity.getApplicationContext();
+            try {
+                // binding of attempt that timed out is still registered
+                context.unbindService(connection);
+            } catch (IllegalArgumentException e) {
+                Log.d("Connection was not bound before rebind");
+            }
+            return context.bindService(createBindIntent(context, metadata), connection, Context.BIND_AUTO_CREATE);
+        });
+    }
+
+    /*
+     * Restores gaze stream and event subscription after reconnection, native buffers registered by Unity are reused.
+     */
+    private static void restoreSubscriptions() {
+        assert sharedService != null;
+        if (gazeStreamRequested) {
+            try {
+                IntActionResult portResult = sharedService.startStreamingGazeData();
+                if (!portResult.success) {
+                    setErrorMessage(portResult.errorMessage);
+                    Log.e("Failed to restore gaze data stream: " + portResult.errorMessage);
+                } else {
+                    if (null != gazeReceiver)
+                        startGazeReceiver(portResult.value);
+                    if (0 != gazeStreamPortPointer)
+                        new Pointer(gazeStreamPortPointer).setInt(0, portResult.value);
+                    sdkState.transition(SDKStateTransition.AttachGazeStream);
+                    Log.i("Restored gaze data stream");
+                }
+            } catch (Exception e) {
+                Log.e("Failed to restore gaze data stream", e);
+            }
+        }
+        if (null != eventListener) {
+            try {
+                sharedService.subscribeToEyetrackerEvents(eventListener);
+                sdkState.transition(SDKStateTransition.SubscribeToEvents);
+                Log.i("Restored event subscription");
+            } catch (RemoteException e) {
+                Log.e("Failed to restore event subscription", e);
+            }
+        }
+    }
+
+    /*
+     * (Re)starts gaze receiver on given port, consumers registered in gaze pipeline are kept.
+     */
+    private static void startGazeReceiver(int port) throws IOException {
+        if (null != gazeReceiver)
+            gazeReceiver.stop();
+        gazeReceiver = new GazeReceiver(port, gazePipeline, exception -> {
+            // stopped receiver delivers nothing, Unity must not see the stream as attached
+            sdkState.transition(SDKStateTransition.DetachGazeStream);
+            setErrorMessage(exception.getMessage());
+            SDKEventQueue queue = eventQueue;
+            if (null != queue)
+                queue.write(SDKEventType.GazeStreamError, ErrorCodes.UnknownErrorCheckErrorMessage, 0);
+            else
+                Log.e("Gaze stream error not delivered to Unity, event queue is not set: " + exception.getMessage());
+        });
+        gazeReceiver.start();
+    }
+
+    private static void stopGazeReceiver() {
+        if (null != gazeReceiver) {
+            gazeReceiver.stop();
+            gazeReceiver = null;
+        }
+        if (null != gazeRingBufferWriter) {
+            gazePipeline.removeConsumer(gazeRingBufferWriter);
+            gazeRingBufferWriter = null;
+        }
+    }
+
+    private static void stopRawDataReceiver() {
+        if (null != rawDataReceiver) {
+            rawDataReceiver.stop();
+            rawDataReceiver = null;
+        }
     }
 
     private static void resetConnectionObject() {
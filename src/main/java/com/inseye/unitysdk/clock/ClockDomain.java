@@ -0,0 +1,28 @@
+/*
+ * Last edit: 17.10.2026, 02:38
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.clock;
+
+/*
+ * Clocks known to ClockSync, all times are in milliseconds.
+ * Every clock is mapped onto Monotonic clock (SystemClock.elapsedRealtime, CLOCK_BOOTTIME).
+ */
+public class ClockDomain {
+    // reference clock
+    public static final int Monotonic = 0;
+    // timestamps of gaze samples sent by service
+    public static final int ServiceGaze = 1;
+    // System.currentTimeMillis
+    public static final int WallClock = 2;
+    // clock Unity renders with, reported by Unity through UnitySDK.syncUnityClock
+    public static final int Unity = 3;
+    public static final int COUNT = 4;
+
+    private ClockDomain() {}
+}
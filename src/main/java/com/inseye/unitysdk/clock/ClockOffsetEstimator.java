@@ -0,0 +1,170 @@
+/*
+ * Last edit: 17.10.2026, 02:38
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.clock;
+
+/*
+ * Estimates offset and drift of foreign clock relative to local monotonic clock:
+ * local = foreign + offset + drift * (foreign - reference)
+ *
+ * Observations are pairs of foreign timestamp and local time at which it was received, so every observation
+ * is late by unknown delay. Observations are grouped in fixed length windows and only observation with
+ * minimal delay (minimal local - foreign) of every window is kept. Line is fitted to minima of last
+ * WINDOW_COUNT windows with least squares. Memory is fixed, observing does not allocate.
+ * Window minimum far from fitted line means that clock was stepped (wall clock adjustment, service restart),
+ * estimator starts over then.
+ */
+public class ClockOffsetEstimator {
+    private static final int WINDOW_COUNT = 64;
+    // drift is fitted only when windows span enough time, otherwise delay jitter dominates slope
+    private static final int MIN_WINDOWS_FOR_DRIFT = 8;
+
+    private final double windowLengthMs;
+    private final double stepThresholdMs;
+    private final double[] windowX = new double[WINDOW_COUNT];
+    private final double[] windowOffset = new double[WINDOW_COUNT];
+    private int windowCount;
+    private int nextWindow;
+    private double reference;
+    private boolean hasReference;
+    private boolean windowOpen;
+    private double windowStart;
+    private double windowMinX;
+    private double windowMinOffset;
+    private double offset;
+    private double drift;
+    private boolean valid;
+    private int resetCount;
+    private long updateCount;
+
+    /**
+     * @param windowLengthMs  length of foreign time window from which single minimal delay observation is taken
+     * @param stepThresholdMs distance from fitted line after which clock is considered stepped
+     */
+    public ClockOffsetEstimator(double windowLengthMs, double stepThresholdMs) {
+        if (windowLengthMs <= 0)
+            throw new IllegalArgumentException("Window length must be positive: " + windowLengthMs);
+        this.windowLengthMs = windowLengthMs;
+        this.stepThresholdMs = stepThresholdMs;
+    }
+
+    public synchronized void observe(double foreignMs, double localMs) {
+        if (!hasReference) {
+            reference = foreignMs;
+            hasReference = true;
+        }
+        double x = foreignMs - reference;
+        double observedOffset = localMs - foreignMs;
+        if (!windowOpen || x - windowStart >= windowLengthMs || x < windowStart) {
+            if (windowOpen)
+                closeWindow();
+            windowOpen = true;
+            windowStart = x;
+            windowMinX = x;
+            windowMinOffset = observedOffset;
+        } else if (observedOffset < windowMinOffset) {
+            windowMinX = x;
+            windowMinOffset = observedOffset;
+        }
+        if (windowCount == 0) {
+            // provisional estimate until first window is closed
+            offset = windowMinOffset;
+            drift = 0;
+            if (!valid)
+                updateCount++;
+            valid = true;
+        }
+    }
+
+    private void closeWindow() {
+        if (windowCount > 0 && Math.abs(windowMinOffset - (offset + drift * windowMinX)) > stepThresholdMs) {
+            windowCount = 0;
+            nextWindow = 0;
+            resetCount++;
+        }
+        windowX[nextWindow] = windowMinX;
+        windowOffset[nextWindow] = windowMinOffset;
+        nextWindow = (nextWindow + 1) % WINDOW_COUNT;
+        if (windowCount < WINDOW_COUNT)
+            windowCount++;
+        fit();
+    }
+
+    private void fit() {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < windowCount; i++) {
+            meanX += windowX[i];
+            meanY += windowOffset[i];
+        }
+        meanX /= windowCount;
+        meanY /= windowCount;
+        double sxx = 0;
+        double sxy = 0;
+        for (int i = 0; i < windowCount; i++) {
+            double dx = windowX[i] - meanX;
+            sxx += dx * dx;
+            sxy += dx * (windowOffset[i] - meanY);
+        }
+        drift = windowCount >= MIN_WINDOWS_FOR_DRIFT && sxx > 0 ? sxy / sxx : 0;
+        offset = meanY - drift * meanX;
+        valid = true;
+        updateCount++;
+    }
+
+    public synchronized boolean isValid() {
+        return valid;
+    }
+
+    public synchronized double toLocal(double foreignMs) {
+        return foreignMs + offset + drift * (foreignMs - reference);
+    }
+
+    public synchronized double fromLocal(double localMs) {
+        return (localMs - offset + drift * reference) / (1 + drift);
+    }
+
+    public synchronized double getOffset() {
+        return offset;
+    }
+
+    public synchronized double getDrift() {
+        return drift;
+    }
+
+    public synchronized double getReference() {
+        return reference;
+    }
+
+    public synchronized int getWindowCount() {
+        return windowCount;
+    }
+
+    public synchronized int getResetCount() {
+        return resetCount;
+    }
+
+    /*
+     * Incremented when estimate becomes valid and every time line is fitted.
+     */
+    public synchronized long getUpdateCount() {
+        return updateCount;
+    }
+
+    public synchronized void reset() {
+        hasReference = false;
+        windowOpen = false;
+        windowCount = 0;
+        nextWindow = 0;
+        offset = 0;
+        drift = 0;
+        valid = false;
+        updateCount++;
+    }
+}
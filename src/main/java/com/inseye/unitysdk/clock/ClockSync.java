@@ -0,0 +1,154 @@
+/*
+ * Last edit: 17.10.2026, 03:31
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.clock;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Maps service gaze timestamps, wall clock and Unity clock onto monotonic clock and onto each other.
+ * Gaze clock and wall clock are observed on every gaze batch as it arrives, before reorder window delays it,
+ * Unity clock is observed when Unity reports its time.
+ * Gaze clock observation is paused while pipeline carries gaze that was not timestamped by service, like session replay.
+ * Estimates are published to optional native struct guarded by sequence counter (seqlock) whenever they change.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.ClockSyncState:
+ *
+ * offset  0: long sequence     - odd while struct is written
+ * offset  8: int  domain count - ClockDomain.COUNT
+ * offset 12: 4 bytes padding
+ * offset 16: one 32 byte entry per ClockDomain:
+ *            double offset ms, double drift, double reference ms, int valid, int window count
+ *            monotonic = foreign + offset + drift * (foreign - reference)
+ */
+public class ClockSync implements IGazeBatchConsumer {
+    public static final int SIZE = 16 + ClockDomain.COUNT * 32;
+    private static final double WINDOW_LENGTH_MS = 1000;
+    private static final double STEP_THRESHOLD_MS = 50;
+
+    private final ClockOffsetEstimator[] estimators = new ClockOffsetEstimator[ClockDomain.COUNT];
+    private final long[] publishedUpdateCounts = new long[ClockDomain.COUNT];
+    @Nullable
+    private ByteBuffer nativeBuffer;
+    private long sequence;
+    private volatile boolean gazeObservationPaused;
+
+    public ClockSync() {
+        for (int domain = 0; domain < ClockDomain.COUNT; domain++)
+            estimators[domain] = new ClockOffsetEstimator(WINDOW_LENGTH_MS, STEP_THRESHOLD_MS);
+    }
+
+    public static double monotonicNow() {
+        return SystemClock.elapsedRealtimeNanos() / 1000000.0;
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        int last = batch.size() - 1;
+        if (last < 0)
+            return;
+        double now = monotonicNow();
+        // newest sample of the batch has the shortest delay
+        if (!gazeObservationPaused)
+            observe(ClockDomain.ServiceGaze, batch.timestamps[last], now);
+        observe(ClockDomain.WallClock, System.currentTimeMillis(), now);
+    }
+
+    /*
+     * Estimate of gaze clock made before pause is kept and used during pause.
+     */
+    public void setGazeObservationPaused(boolean paused) {
+        gazeObservationPaused = paused;
+    }
+
+    /**
+     * @param domain      one of ClockDomain values except Monotonic
+     * @param foreignMs   time read from foreign clock
+     * @param monotonicMs monotonic time at which foreign time was received
+     */
+    public void observe(int domain, double foreignMs, double monotonicMs) {
+        if (domain == ClockDomain.Monotonic)
+            return;
+        estimators[domain].observe(foreignMs, monotonicMs);
+        publishIfUpdated(domain);
+    }
+
+    public boolean isValid(int domain) {
+        return domain == ClockDomain.Monotonic || estimators[domain].isValid();
+    }
+
+    public double toMonotonic(int domain, double timeMs) {
+        if (domain == ClockDomain.Monotonic)
+            return timeMs;
+        return estimators[domain].toLocal(timeMs);
+    }
+
+    public double fromMonotonic(int domain, double monotonicMs) {
+        if (domain == ClockDomain.Monotonic)
+            return monotonicMs;
+        return estimators[domain].fromLocal(monotonicMs);
+    }
+
+    public double convert(int fromDomain, int toDomain, double timeMs) {
+        return fromMonotonic(toDomain, toMonotonic(fromDomain, timeMs));
+    }
+
+    public ClockOffsetEstimator getEstimator(int domain) {
+        return estimators[domain];
+    }
+
+    public void reset(int domain) {
+        estimators[domain].reset();
+        publish(domain);
+    }
+
+    /*
+     * Sets native struct, pointer equal to 0 stops publishing.
+     */
+    public synchronized void setNativePointer(long pointer) {
+        nativeBuffer = 0 == pointer ? null : NativeMemory.wrap(pointer, SIZE);
+        if (null == nativeBuffer)
+            return;
+        sequence = 0;
+        nativeBuffer.putInt(8, ClockDomain.COUNT);
+        for (int domain = 0; domain < ClockDomain.COUNT; domain++)
+            publish(domain);
+    }
+
+    private synchronized void publishIfUpdated(int domain) {
+        // native struct is updated only when estimate changed, at most once per window
+        if (estimators[domain].getUpdateCount() != publishedUpdateCounts[domain])
+            publish(domain);
+    }
+
+    private synchronized void publish(int domain) {
+        ClockOffsetEstimator estimator = estimators[domain];
+        publishedUpdateCounts[domain] = estimator.getUpdateCount();
+        ByteBuffer buffer = nativeBuffer;
+        if (null == buffer)
+            return;
+        int offset = 16 + domain * 32;
+        buffer.putLong(0, ++sequence);
+        NativeMemory.fullFence();
+        buffer.putDouble(offset, estimator.getOffset());
+        buffer.putDouble(offset + 8, estimator.getDrift());
+        buffer.putDouble(offset + 16, estimator.getReference());
+        buffer.putInt(offset + 24, isValid(domain) ? 1 : 0);
+        buffer.putInt(offset + 28, estimator.getWindowCount());
+        NativeMemory.fullFence();
+        buffer.putLong(0, ++sequence);
+    }
+}
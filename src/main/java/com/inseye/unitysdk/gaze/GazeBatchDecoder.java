@@ -0,0 +1,80 @@
+/*
+ * Last edit: 17.10.2026, 02:16
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.shared.IByteSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Decodes gaze datagrams sent by service straight into primitive arrays of GazeSampleBatch.
+ */
+public final class GazeBatchDecoder {
+
+    public static final IByteSerializer<GazeSampleBatch> GAZE_DATA_SERIALIZER = new IByteSerializer<GazeSampleBatch>() {
+        // this serializer implementation must match gaze datagram layout sent by service
+        // reading appends one sample to the batch, writing serializes last sample of the batch
+        @Override
+        public int getSizeInBytes() {
+            // 4 floats (4 bytes each), 1 long (8 bytes), 1 int (4 bytes)
+            return 28;
+        }
+
+        @Override
+        public void readFromBuffer(GazeSampleBatch batch, ByteBuffer buffer) {
+            float leftX = buffer.getFloat();
+            float leftY = buffer.getFloat();
+            float rightX = buffer.getFloat();
+            float rightY = buffer.getFloat();
+            long timestamp = buffer.getLong();
+            int gazeEvent = buffer.getInt();
+            batch.add(timestamp, leftX, leftY, rightX, rightY, gazeEvent);
+        }
+
+        @Override
+        public void writeToBuffer(GazeSampleBatch batch, ByteBuffer buffer) {
+            writeSample(batch, batch.size() - 1, buffer);
+        }
+    };
+
+    private GazeBatchDecoder() {}
+
+    /**
+     * Decodes all whole samples from datagram, stops when batch is full.
+     *
+     * @param datagram little endian buffer positioned at the beginning of gaze data
+     * @param batch    batch that receives decoded samples
+     * @return number of decoded samples
+     */
+    public static int decode(ByteBuffer datagram, GazeSampleBatch batch) {
+        if (datagram.order() != ByteOrder.LITTLE_ENDIAN)
+            datagram.order(ByteOrder.LITTLE_ENDIAN);
+        int sampleSize = GAZE_DATA_SERIALIZER.getSizeInBytes();
+        int decoded = 0;
+        while (datagram.remaining() >= sampleSize && !batch.isFull()) {
+            GAZE_DATA_SERIALIZER.readFromBuffer(batch, datagram);
+            decoded++;
+        }
+        return decoded;
+    }
+
+    /*
+     * Encodes sample in the same layout service uses, used by test data sources.
+     */
+    public static void writeSample(GazeSampleBatch batch, int index, ByteBuffer buffer) {
+        buffer.putFloat(batch.leftX[index]);
+        buffer.putFloat(batch.leftY[index]);
+        buffer.putFloat(batch.rightX[index]);
+        buffer.putFloat(batch.rightY[index]);
+        buffer.putLong(batch.timestamps[index]);
+        buffer.putInt(batch.gazeEvents[index]);
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Last edit: 17.10.2026, 03:31
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Single producer, multiple consumer ring buffer of gaze samples placed in memory allocated by Unity.
+ * Every sample is written once, each registered consumer reads it with its own cursor, overflow policy and decimation.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeBroadcastRing:
+ *
+ * offset   0: long writeIndex    - total number of published slots, written only by java
+ * offset   8: long claimIndex    - slots below this index may be written, written only by java before slot is written
+ * offset  64: int  slotSize      - size of single slot in bytes
+ * offset  68: int  capacity      - number of slots, always power of two
+ * offset  72: int  maxConsumers  - number of entries in consumer table
+ * offset  76: int  consumerMask  - bit set for every registered consumer
+ * offset  80: long droppedCount  - samples dropped for all consumers because blocking consumer did not keep up
+ * offset 128: consumer table, 64 bytes per consumer:
+ *     +0: long  readIndex      - number of slots consumed, written only by unity
+ *     +8: int   overflowPolicy - one of GazeOverflowPolicy values
+ *    +12: float intervalMs     - decimation interval, 0 for full rate
+ *    +16: long  droppedCount   - samples selected for consumer and overwritten before consumer read them,
+ *                                samples overwritten while consumer copies them may be missed
+ *    +24: long  selectedCount  - samples selected for consumer, updated after every batch
+ * offset 2176: slots, layout of GazeRingBufferWriter slot with consumer mask in place of padding at offset 28
+ *
+ * Consumer reads slots from its readIndex up to writeIndex, uses only slots with its bit set in slot consumer mask
+ * and stores readIndex after reading. DropOldest consumer that fell behind first moves readIndex to
+ * claimIndex - capacity and treats copied slot as valid only when claimIndex - index <= capacity after the copy.
+ */
+public class GazeBroadcastRing implements IGazeBatchConsumer {
+    // consumer mask is single int
+    public static final int MAX_CONSUMERS = 32;
+    public static final int SLOT_SIZE = GazeRingBufferWriter.SLOT_SIZE;
+    static final int WRITE_INDEX_OFFSET = 0;
+    static final int CLAIM_INDEX_OFFSET = 8;
+    static final int SLOT_SIZE_OFFSET = 64;
+    static final int CAPACITY_OFFSET = 68;
+    static final int MAX_CONSUMERS_OFFSET = 72;
+    static final int CONSUMER_MASK_OFFSET = 76;
+    static final int DROPPED_COUNT_OFFSET = 80;
+    static final int CONSUMERS_OFFSET = 128;
+    static final int CONSUMER_SIZE = 64;
+    static final int CONSUMER_READ_INDEX = 0;
+    static final int CONSUMER_POLICY = 8;
+    static final int CONSUMER_INTERVAL = 12;
+    static final int CONSUMER_DROPPED_COUNT = 16;
+    static final int CONSUMER_SELECTED_COUNT = 24;
+    public static final int HEADER_SIZE = CONSUMERS_OFFSET + MAX_CONSUMERS * CONSUMER_SIZE;
+    static final int SLOT_MASK_OFFSET = 28;
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final long blockTimeoutNanos;
+    // consumer state is indexed by consumer id, owned by whoever holds the monitor
+    private final double[] intervals = new double[MAX_CONSUMERS];
+    private final double[] nextDue = new double[MAX_CONSUMERS];
+    private final long[] cachedReadIndexes = new long[MAX_CONSUMERS];
+    // read index at which blocking consumer last timed out, producer does not wait for it again until it moves
+    private final long[] stalledReadIndexes = new long[MAX_CONSUMERS];
+    private final long[] droppedCounts = new long[MAX_CONSUMERS];
+    private final long[] selectedCounts = new long[MAX_CONSUMERS];
+    private int consumerMask;
+    private int dropOldestMask;
+    private int blockMask;
+    private int[] selections = new int[0];
+    private long writeIndex;
+    private long claimIndex;
+    private long droppedCount;
+    private volatile boolean closed;
+    // producer parked in reserve while holding the monitor, woken by close
+    @Nullable
+    private volatile Thread blockedProducer;
+
+    /**
+     * @param address          pointer to memory block allocated by Unity
+     * @param sizeInBytes      size of memory block, must fit header and at least one slot
+     * @param blockTimeoutMs   maximum time receiver thread waits for blocking consumer before sample is dropped
+     */
+    public GazeBroadcastRing(long address, int sizeInBytes, int blockTimeoutMs) {
+        if (sizeInBytes < HEADER_SIZE + SLOT_SIZE)
+            throw new IllegalArgumentException("Broadcast ring memory is too small: " + sizeInBytes);
+        if (blockTimeoutMs < 0)
+            throw new IllegalArgumentException("Block timeout must not be negative: " + blockTimeoutMs);
+        this.buffer = NativeMemory.wrap(address, sizeInBytes);
+        this.capacity = Integer.highestOneBit((sizeInBytes - HEADER_SIZE) / SLOT_SIZE);
+        this.mask = capacity - 1;
+        this.blockTimeoutNanos = blockTimeoutMs * 1_000_000L;
+        buffer.putLong(WRITE_INDEX_OFFSET, 0);
+        buffer.putLong(CLAIM_INDEX_OFFSET, 0);
+        buffer.putInt(SLOT_SIZE_OFFSET, SLOT_SIZE);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(MAX_CONSUMERS_OFFSET, MAX_CONSUMERS);
+        buffer.putInt(CONSUMER_MASK_OFFSET, 0);
+        buffer.putLong(DROPPED_COUNT_OFFSET, 0);
+        NativeMemory.fullFence();
+    }
+
+    /**
+     * Registers consumer, consumer receives samples published after registration.
+     *
+     * @param overflowPolicy one of GazeOverflowPolicy values
+     * @param intervalMs     minimum time between samples selected for consumer, 0 for every sample
+     * @return consumer id, index of consumer in consumer table, or -1 if all entries are taken
+     */
+    public synchronized int addConsumer(int overflowPolicy, float intervalMs) {
+        if (overflowPolicy < 0 || overflowPolicy >= GazeOverflowPolicy.COUNT)
+            throw new IllegalArgumentException("Unknown overflow policy: " + overflowPolicy);
+        if (!(intervalMs >= 0))
+            throw new IllegalArgumentException("Decimation interval must not be negative: " + intervalMs);
+        int id = Integer.numberOfTrailingZeros(~consumerMask);
+        if (id >= MAX_CONSUMERS)
+            return -1;
+        int bit = 1 << id;
+        intervals[id] = intervalMs;
+        nextDue[id] = Double.NEGATIVE_INFINITY;
+        cachedReadIndexes[id] = writeIndex;
+        stalledReadIndexes[id] = -1;
+        droppedCounts[id] = 0;
+        selectedCounts[id] = 0;
+        int entry = CONSUMERS_OFFSET + id * CONSUMER_SIZE;
+        buffer.putLong(entry + CONSUMER_READ_INDEX, writeIndex);
+        buffer.putInt(entry + CONSUMER_POLICY, overflowPolicy);
+        buffer.putFloat(entry + CONSUMER_INTERVAL, intervalMs);
+        buffer.putLong(entry + CONSUMER_DROPPED_COUNT, 0);
+        buffer.putLong(entry + CONSUMER_SELECTED_COUNT, 0);
+        consumerMask |= bit;
+        if (overflowPolicy == GazeOverflowPolicy.Block)
+            blockMask |= bit;
+        else
+            dropOldestMask |= bit;
+        NativeMemory.fullFence();
+        buffer.putInt(CONSUMER_MASK_OFFSET, consumerMask);
+        return id;
+    }
+
+    public synchronized void removeConsumer(int id) {
+        if (id < 0 || id >= MAX_CONSUMERS)
+            throw new IllegalArgumentException("Invalid gaze consumer id: " + id);
+        int bit = ~(1 << id);
+        consumerMask &= bit;
+        blockMask &= bit;
+        dropOldestMask &= bit;
+        buffer.putInt(CONSUMER_MASK_OFFSET, consumerMask);
+    }
+
+    /*
+     * Returns after last write to ring memory, memory can be released by Unity afterwards.
+     */
+    public void close() {
+        closed = true;
+        Thread producer = blockedProducer;
+        if (null != producer)
+            LockSupport.unpark(producer);
+        // producer leaves reserve once it sees the flag and releases the monitor
+        synchronized (this) {
+            consumerMask = 0;
+            blockMask = 0;
+            dropOldestMask = 0;
+        }
+    }
+
+    @Override
+    public synchronized void onGazeBatch(GazeSampleBatch batch) {
+        if (closed)
+            return;
+        if (selections.length < batch.size())
+            selections = new int[batch.capacity()];
+        int remaining = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            selections[i] = select(batch.timestamps[i]);
+            // samples no consumer asked for do not take space in the ring
+            if (selections[i] != 0)
+                remaining++;
+        }
+        if (remaining == 0)
+            return;
+        for (int i = 0; i < batch.size(); i++) {
+            int selected = selections[i];
+            if (selected == 0)
+                continue;
+            remaining--;
+            if (closed)
+                break;
+            if (!reserve()) {
+                droppedCount++;
+                buffer.putLong(DROPPED_COUNT_OFFSET, droppedCount);
+                continue;
+            }
+            // claim is visible before slots are modified, so consumer can tell whether its copy was overwritten
+            if (writeIndex == claimIndex) {
+                claimIndex = writeIndex + 1 + Math.min(remaining, capacity - 1);
+                buffer.putLong(CLAIM_INDEX_OFFSET, claimIndex);
+                NativeMemory.fullFence();
+                countOverwritten(writeIndex, claimIndex);
+            }
+            int slot = HEADER_SIZE + (int) (writeIndex & mask) * SLOT_SIZE;
+            buffer.putLong(slot, batch.timestamps[i]);
+            buffer.putFloat(slot + 8, batch.leftX[i]);
+            buffer.putFloat(slot + 12, batch.leftY[i]);
+            buffer.putFloat(slot + 16, batch.rightX[i]);
+            buffer.putFloat(slot + 20, batch.rightY[i]);
+            buffer.putInt(slot + 24, batch.gazeEvents[i]);
+            buffer.putInt(slot + SLOT_MASK_OFFSET, selected);
+            writeIndex++;
+        }
+        publish();
+        for (int ids = consumerMask; ids != 0; ids &= ids - 1) {
+            int id = Integer.numberOfTrailingZeros(ids);
+            buffer.putLong(CONSUMERS_OFFSET + id * CONSUMER_SIZE + CONSUMER_SELECTED_COUNT, selectedCounts[id]);
+        }
+    }
+
+    /*
+     * Whole batch is published at once, so fences are paid per batch and not per sample.
+     */
+    private void publish() {
+        NativeMemory.fullFence();
+        buffer.putLong(WRITE_INDEX_OFFSET, writeIndex);
+    }
+
+    /*
+     * Decimation is decided once here, consumers only test their bit in slot consumer mask.
+     */
+    private int select(long timestamp) {
+        int selected = 0;
+        for (int remaining = consumerMask; remaining != 0; remaining &= remaining - 1) {
+            int id = Integer.numberOfTrailingZeros(remaining);
+            double interval = intervals[id];
+            if (interval > 0) {
+                // stream restarted with older timestamps, start decimation over
+                if (timestamp < nextDue[id] - interval)
+                    nextDue[id] = Double.NEGATIVE_INFINITY;
+                if (timestamp < nextDue[id])
+                    continue;
+                // keeps average rate, but does not catch up with bursts after gaps
+                nextDue[id] += interval;
+                if (nextDue[id] <= timestamp)
+                    nextDue[id] = timestamp + interval;
+            }
+            selected |= 1 << id;
+            selectedCounts[id]++;
+        }
+        return selected;
+    }
+
+    /*
+     * Makes sure next slot does not hold unread sample of blocking consumer.
+     */
+    private boolean reserve() {
+        long overwritten = writeIndex - capacity;
+        for (int remaining = blockMask; remaining != 0; remaining &= remaining - 1) {
+            int id = Integer.numberOfTrailingZeros(remaining);
+            if (readIndex(id, overwritten) > overwritten)
+                continue;
+            long readIndex = cachedReadIndexes[id];
+            if (readIndex == stalledReadIndexes[id])
+                return false;
+            // consumer can only move past slots it can see
+            publish();
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            blockedProducer = Thread.currentThread();
+            try {
+                while (true) {
+                    if (closed)
+                        return false;
+                    if (System.nanoTime() - deadline >= 0) {
+                        stalledReadIndexes[id] = readIndex;
+                        return false;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (readIndex(id, overwritten) > overwritten)
+                        break;
+                }
+            } finally {
+                blockedProducer = null;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Counts unread samples of DropOldest consumers in slots from claimed range, read indexes are loaded after
+     * the claim, so consumer that skipped its copy of the slot is counted.
+     */
+    private void countOverwritten(long from, long to) {
+        for (long index = Math.max(from, capacity); index < to; index++) {
+            long overwritten = index - capacity;
+            int slot = HEADER_SIZE + (int) (index & mask) * SLOT_SIZE;
+            for (int remaining = buffer.getInt(slot + SLOT_MASK_OFFSET) & dropOldestMask; remaining != 0; remaining &= remaining - 1) {
+                int id = Integer.numberOfTrailingZeros(remaining);
+                if (readIndex(id, overwritten) > overwritten)
+                    continue;
+                droppedCounts[id]++;
+                buffer.putLong(CONSUMERS_OFFSET + id * CONSUMER_SIZE + CONSUMER_DROPPED_COUNT, droppedCounts[id]);
+            }
+        }
+    }
+
+    /*
+     * Read index only grows, so native memory is read only when cached value is not past the index.
+     */
+    private long readIndex(int id, long index) {
+        if (cachedReadIndexes[id] <= index) {
+            NativeMemory.fullFence();
+            cachedReadIndexes[id] = buffer.getLong(CONSUMERS_OFFSET + id * CONSUMER_SIZE + CONSUMER_READ_INDEX);
+        }
+        return cachedReadIndexes[id];
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getWriteIndex() {
+        return writeIndex;
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public synchronized long getDroppedCount(int id) {
+        return droppedCounts[id];
+    }
+
+    public synchronized long getSelectedCount(int id) {
+        return selectedCounts[id];
+    }
+}
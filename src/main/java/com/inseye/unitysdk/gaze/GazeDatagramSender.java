@@ -0,0 +1,67 @@
+/*
+ * Last edit: 17.10.2026, 02:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.DatagramChannel;
+
+/*
+ * Sends gaze batches as datagrams in the same layout service uses, imitates service for test data sources.
+ */
+public class GazeDatagramSender implements IGazeBatchConsumer, Closeable {
+    private static final int MAX_DATAGRAM_SIZE = 1472;
+
+    private final DatagramChannel channel;
+    private final ByteBuffer datagram = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final int samplesPerDatagram = MAX_DATAGRAM_SIZE / GazeBatchDecoder.GAZE_DATA_SERIALIZER.getSizeInBytes();
+    private long failedCount;
+
+    /**
+     * @param port local port gaze receiver listens on
+     */
+    public GazeDatagramSender(int port) throws IOException {
+        channel = DatagramChannel.open();
+        channel.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        for (int first = 0; first < batch.size(); first += samplesPerDatagram) {
+            int end = Math.min(first + samplesPerDatagram, batch.size());
+            datagram.clear();
+            for (int i = first; i < end; i++)
+                GazeBatchDecoder.writeSample(batch, i, datagram);
+            datagram.flip();
+            try {
+                channel.write(datagram);
+            } catch (IOException e) {
+                // nobody listens yet or receiver was stopped, service drops datagrams the same way
+                if (failedCount++ == 0)
+                    Log.e("Failed to send gaze datagram", e);
+            }
+        }
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Last edit: 17.10.2026, 03:03
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * What gaze broadcast ring does when registered consumer falls behind by whole ring capacity.
+ */
+public class GazeOverflowPolicy {
+    // unread samples of the consumer are overwritten, consumer skips to the oldest sample still in the ring
+    public static final int DropOldest = 0;
+    // unread samples of the consumer are never overwritten, new samples wait for the consumer up to
+    // ring block timeout and are dropped for all consumers after it
+    public static final int Block = 1;
+    public static final int COUNT = 2;
+
+    private GazeOverflowPolicy() {}
+}
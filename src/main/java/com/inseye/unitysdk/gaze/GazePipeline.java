@@ -0,0 +1,149 @@
+/*
+ * Last edit: 17.10.2026, 03:31
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.gaze.filters.GazeFilterChain;
+
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Ordered list of consumers that receive every decoded gaze batch, after it passed through filter chain.
+ * Taps receive the batch before filter chain. Stream integrity monitor inspects the batch before taps,
+ * only arrival observers see the batch before it, as it was received.
+ * Consumers are modified rarely from Unity thread and iterated on receiver thread, so list is copied on write.
+ * Removal waits until batch that could still see removed consumer is processed, so consumer writing to memory
+ * owned by Unity can be released right after removal. Pipeline has single producer at a time (gaze receiver
+ * or session replay), which lets it track processed batches with one epoch counter.
+ */
+public class GazePipeline {
+    private static final IGazeBatchConsumer[] EMPTY = new IGazeBatchConsumer[0];
+    private static final long QUIESCENCE_POLL_NANOS = 50_000;
+    private final GazeStreamIntegrityMonitor integrityMonitor = new GazeStreamIntegrityMonitor();
+    private final GazeFilterChain filterChain = new GazeFilterChain();
+    private volatile IGazeBatchConsumer[] consumers = EMPTY;
+    private volatile IGazeBatchConsumer[] taps = EMPTY;
+    private volatile IGazeBatchConsumer[] arrivalObservers = EMPTY;
+    // odd while batch is processed
+    private volatile long epoch;
+    @Nullable
+    private volatile Thread producer;
+
+    public GazeStreamIntegrityMonitor getIntegrityMonitor() {
+        return integrityMonitor;
+    }
+
+    public GazeFilterChain getFilterChain() {
+        return filterChain;
+    }
+
+    public synchronized void addConsumer(IGazeBatchConsumer consumer) {
+        consumers = with(consumers, consumer);
+    }
+
+    /*
+     * Returns after removed consumer can no longer be called.
+     */
+    public void removeConsumer(IGazeBatchConsumer consumer) {
+        synchronized (this) {
+            consumers = without(consumers, consumer);
+        }
+        awaitQuiescence();
+    }
+
+    /*
+     * Taps receive unfiltered batches before filter chain is applied, they must not modify the batch.
+     */
+    public synchronized void addTap(IGazeBatchConsumer tap) {
+        taps = with(taps, tap);
+    }
+
+    public void removeTap(IGazeBatchConsumer tap) {
+        synchronized (this) {
+            taps = without(taps, tap);
+        }
+        awaitQuiescence();
+    }
+
+    /*
+     * Arrival observers receive batches before integrity monitor holds them in reorder window or drops duplicates,
+     * so they see samples at the time they arrived, they must not modify the batch.
+     */
+    public synchronized void addArrivalObserver(IGazeBatchConsumer observer) {
+        arrivalObservers = with(arrivalObservers, observer);
+    }
+
+    public void removeArrivalObserver(IGazeBatchConsumer observer) {
+        synchronized (this) {
+            arrivalObservers = without(arrivalObservers, observer);
+        }
+        awaitQuiescence();
+    }
+
+    public void process(GazeSampleBatch batch) {
+        if (batch.size() == 0)
+            return;
+        Thread current = Thread.currentThread();
+        if (producer != current)
+            producer = current;
+        epoch++;
+        try {
+            for (IGazeBatchConsumer observer : arrivalObservers)
+                observer.onGazeBatch(batch);
+            integrityMonitor.apply(batch);
+            // all samples may be held by reorder window or dropped as duplicates
+            if (batch.size() == 0)
+                return;
+            for (IGazeBatchConsumer tap : taps)
+                tap.onGazeBatch(batch);
+            filterChain.apply(batch);
+            for (IGazeBatchConsumer consumer : consumers)
+                consumer.onGazeBatch(batch);
+        } finally {
+            epoch++;
+        }
+    }
+
+    /*
+     * Batch started before consumers were replaced may still call removed consumer, batch started after it cannot.
+     */
+    private void awaitQuiescence() {
+        long observed = epoch;
+        // consumer removing itself would wait for its own batch
+        if ((observed & 1) == 0 || producer == Thread.currentThread())
+            return;
+        while (epoch == observed)
+            LockSupport.parkNanos(QUIESCENCE_POLL_NANOS);
+    }
+
+    private static IGazeBatchConsumer[] with(IGazeBatchConsumer[] current, IGazeBatchConsumer consumer) {
+        for (IGazeBatchConsumer c : current) {
+            if (c == consumer)
+                return current;
+        }
+        IGazeBatchConsumer[] updated = new IGazeBatchConsumer[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = consumer;
+        return updated;
+    }
+
+    private static IGazeBatchConsumer[] without(IGazeBatchConsumer[] current, IGazeBatchConsumer consumer) {
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != consumer)
+                continue;
+            IGazeBatchConsumer[] updated = new IGazeBatchConsumer[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+            return updated;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Last edit: 17.10.2026, 03:23
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * Extrapolates gaze to requested time with constant velocity model.
+ * Position and velocity of each coordinate are tracked with alpha-beta filter (steady state Kalman filter
+ * for constant velocity model), so update cost per sample is fixed and nothing is allocated.
+ * Updated on receiver thread, queried from any thread.
+ */
+public class GazePredictor implements IGazeBatchConsumer {
+    private static final int COORDINATES = 4;
+    // longer gap between samples resets the model, velocity from before the gap is meaningless
+    private static final long RESET_GAP_MS = 100;
+
+    private final float[] position = new float[COORDINATES];
+    private final float[] velocity = new float[COORDINATES];
+    private final float[] measurement = new float[COORDINATES];
+    private float alpha;
+    private float beta;
+    private long maxHorizonMs;
+    private long lastTimestamp;
+    private int lastGazeEvent;
+    private boolean hasState;
+
+    /**
+     * @param alpha        position correction gain in range (0, 1]
+     * @param beta         velocity correction gain in range [0, 2), 0 keeps velocity from reset
+     * @param maxHorizonMs maximum time prediction can reach past last sample
+     */
+    public GazePredictor(float alpha, float beta, long maxHorizonMs) {
+        setParameters(alpha, beta, maxHorizonMs);
+    }
+
+    public synchronized void setParameters(float alpha, float beta, long maxHorizonMs) {
+        if (alpha <= 0 || alpha > 1)
+            throw new IllegalArgumentException("Alpha must be in range (0, 1]: " + alpha);
+        if (beta < 0 || beta >= 2)
+            throw new IllegalArgumentException("Beta must be in range [0, 2): " + beta);
+        if (maxHorizonMs < 0)
+            throw new IllegalArgumentException("Max horizon must not be negative: " + maxHorizonMs);
+        this.alpha = alpha;
+        this.beta = beta;
+        this.maxHorizonMs = maxHorizonMs;
+    }
+
+    @Override
+    public synchronized void onGazeBatch(GazeSampleBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            measurement[0] = batch.leftX[i];
+            measurement[1] = batch.leftY[i];
+            measurement[2] = batch.rightX[i];
+            measurement[3] = batch.rightY[i];
+            update(batch.timestamps[i], batch.gazeEvents[i]);
+        }
+    }
+
+    private void update(long timestamp, int gazeEvent) {
+        long dtMs = timestamp - lastTimestamp;
+        lastGazeEvent = gazeEvent;
+        if (!hasState || dtMs > RESET_GAP_MS || dtMs < 0) {
+            for (int c = 0; c < COORDINATES; c++) {
+                position[c] = measurement[c];
+                velocity[c] = 0;
+            }
+            lastTimestamp = timestamp;
+            hasState = true;
+            return;
+        }
+        if (dtMs == 0)
+            return;
+        float dt = dtMs;
+        for (int c = 0; c < COORDINATES; c++) {
+            float predicted = position[c] + velocity[c] * dt;
+            float residual = measurement[c] - predicted;
+            position[c] = predicted + alpha * residual;
+            velocity[c] += beta * residual / dt;
+        }
+        lastTimestamp = timestamp;
+    }
+
+    /**
+     * Extrapolates gaze to target time.
+     *
+     * @param targetTimeMs time in gaze timestamp clock, usually next vsync plus pipeline latency
+     * @param result       array of at least 4 floats receiving left x, left y, right x, right y
+     * @return false if there is no gaze data to predict from
+     */
+    public synchronized boolean predict(long targetTimeMs, float[] result) {
+        if (!hasState)
+            return false;
+        long horizon = Math.max(0, Math.min(targetTimeMs - lastTimestamp, maxHorizonMs));
+        for (int c = 0; c < COORDINATES; c++)
+            result[c] = position[c] + velocity[c] * horizon;
+        return true;
+    }
+
+    public synchronized int getLastGazeEvent() {
+        return lastGazeEvent;
+    }
+
+    public synchronized void reset() {
+        hasState = false;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Last edit: 17.10.2026, 03:50
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import android.os.Process;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+/*
+ * Receives gaze datagrams sent by service on dedicated thread and passes decoded batches to gaze pipeline.
+ */
+public class GazeReceiver implements Runnable {
+    private static final int MAX_DATAGRAM_SIZE = 1472;
+    private static final int BATCH_CAPACITY = 256;
+
+    private final int port;
+    private final GazePipeline pipeline;
+    @Nullable
+    private final IGazeReceiverErrorListener errorListener;
+    private final ByteBuffer datagram = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final GazeSampleBatch batch = new GazeSampleBatch(BATCH_CAPACITY);
+    private DatagramChannel channel;
+    private Selector selector;
+    private Thread thread;
+    private volatile boolean running;
+
+    public GazeReceiver(int port, GazePipeline pipeline, @Nullable IGazeReceiverErrorListener errorListener) {
+        this.port = port;
+        this.pipeline = pipeline;
+        this.errorListener = errorListener;
+    }
+
+    public void start() throws IOException {
+        if (running)
+            return;
+        channel = DatagramChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.bind(new InetSocketAddress(port));
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            closeQuietly();
+            throw e;
+        }
+        running = true;
+        thread = new Thread(this, "InseyeGazeReceiver");
+        thread.setDaemon(true);
+        thread.start();
+        Log.i("Gaze receiver started on port: " + port);
+    }
+
+    public void stop() {
+        if (!running)
+            return;
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeQuietly();
+        Log.i("Gaze receiver stopped");
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_URGENT_DISPLAY);
+        try {
+            while (running) {
+                selector.select();
+                selector.selectedKeys().clear();
+                drainChannel();
+            }
+        } catch (IOException e) {
+            if (running) {
+                closeAfterFailure();
+                notifyError("Gaze receiver failed", e);
+            }
+        } catch (RuntimeException e) {
+            // failing consumer would fail again on every batch, receiver stops instead of dying silently
+            closeAfterFailure();
+            notifyError("Gaze pipeline consumer failed", e);
+        } finally {
+            running = false;
+        }
+    }
+
+    /*
+     * stop() returns early once running is cleared, so port is released here and receiver can be started again,
+     * also from error listener.
+     */
+    private void closeAfterFailure() {
+        running = false;
+        closeQuietly();
+    }
+
+    private void drainChannel() throws IOException {
+        batch.clear();
+        while (true) {
+            datagram.clear();
+            if (channel.isConnected()) {
+                if (channel.read(datagram) <= 0)
+                    break;
+            } else {
+                SocketAddress sender = channel.receive(datagram);
+                if (null == sender)
+                    break;
+                // connected channel reads without allocating sender address for every datagram
+                channel.connect(sender);
+            }
+            datagram.flip();
+            while (GazeBatchDecoder.decode(datagram, batch) > 0 && batch.isFull()) {
+                pipeline.process(batch);
+                batch.clear();
+            }
+        }
+        pipeline.process(batch);
+    }
+
+    private void notifyError(String message, Exception exception) {
+        Log.e(message, exception);
+        if (null != errorListener)
+            errorListener.onGazeReceiverError(exception);
+    }
+
+    private void closeQuietly() {
+        try {
+            if (null != selector)
+                selector.close();
+            if (null != channel)
+                channel.close();
+        } catch (IOException e) {
+            Log.e("Failed to close gaze receiver channel", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Last edit: 17.10.2026, 02:17
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Copies every gaze sample to native ring buffer read by Unity.
+ */
+public class GazeRingBufferWriter implements IGazeBatchConsumer {
+    // ring buffer slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeSample
+    // 1 long (time in ms), 4 floats (left x, left y, right x, right y), 1 int (gaze event), 4 bytes padding
+    public static final int SLOT_SIZE = 32;
+
+    private final NativeRingBuffer ringBuffer;
+
+    public GazeRingBufferWriter(long ringBufferPointer, int ringBufferSize) {
+        this.ringBuffer = new NativeRingBuffer(ringBufferPointer, ringBufferSize, SLOT_SIZE);
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        ByteBuffer target = ringBuffer.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            int slot = ringBuffer.claim();
+            if (slot < 0)
+                continue;
+            target.putLong(slot, batch.timestamps[i]);
+            target.putFloat(slot + 8, batch.leftX[i]);
+            target.putFloat(slot + 12, batch.leftY[i]);
+            target.putFloat(slot + 16, batch.rightX[i]);
+            target.putFloat(slot + 20, batch.rightY[i]);
+            target.putInt(slot + 24, batch.gazeEvents[i]);
+            ringBuffer.publish();
+        }
+    }
+
+    public long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+}
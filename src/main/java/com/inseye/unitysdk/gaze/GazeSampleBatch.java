@@ -0,0 +1,69 @@
+/*
+ * Last edit: 17.10.2026, 02:16
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * Reusable struct of arrays storage for decoded gaze samples.
+ * Arrays are allocated once, batch is cleared and refilled for every portion of received data.
+ */
+public final class GazeSampleBatch {
+    public final long[] timestamps;
+    public final float[] leftX;
+    public final float[] leftY;
+    public final float[] rightX;
+    public final float[] rightY;
+    public final int[] gazeEvents;
+    private int size;
+
+    public GazeSampleBatch(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Invalid batch capacity: " + capacity);
+        timestamps = new long[capacity];
+        leftX = new float[capacity];
+        leftY = new float[capacity];
+        rightX = new float[capacity];
+        rightY = new float[capacity];
+        gazeEvents = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return timestamps.length;
+    }
+
+    public boolean isFull() {
+        return size == timestamps.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Appends sample at the end of the batch.
+     *
+     * @return index of appended sample or -1 if batch is full
+     */
+    public int add(long timestamp, float leftX, float leftY, float rightX, float rightY, int gazeEvent) {
+        if (size == timestamps.length)
+            return -1;
+        int index = size++;
+        this.timestamps[index] = timestamp;
+        this.leftX[index] = leftX;
+        this.leftY[index] = leftY;
+        this.rightX[index] = rightX;
+        this.rightY[index] = rightY;
+        this.gazeEvents[index] = gazeEvent;
+        return index;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Last edit: 17.10.2026, 02:54
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+
+/*
+ * First stage of gaze pipeline detecting gaps, reordered, duplicated and late samples of udp gaze stream.
+ * Gaze datagrams carry no sequence numbers, sample timestamp is used as sequence:
+ * - gap is a step between consecutive timestamps longer than 1.5 of nominal sample interval,
+ *   nominal interval is running average of regular steps and missing samples are estimated from it,
+ * - duplicate is a sample equal to one of recently received samples (timestamp and content),
+ * - reordered sample has timestamp older than newest received timestamp, it reduces missing sample count,
+ * - late sample arrived behind newest one by more than reorder window.
+ * With reorder window set, duplicates and late samples are dropped and samples are released in timestamp order
+ * once they are older than newest sample by reorder window, which delays stream by the window.
+ * Memory and time per sample are bounded. Optional native page is updated after every batch, layout must match
+ * struct layout from UnitySDK C# code in class Inseye.Internal.StreamIntegrityPage:
+ *
+ * offset 0: long sequence  - odd while page is written (seqlock)
+ * offset 8: int  counter count
+ * offset 16: longs, one per counter in order of counter constants
+ */
+public class GazeStreamIntegrityMonitor {
+    public static final int RECEIVED = 0;
+    public static final int GAPS = 1;
+    public static final int MISSING = 2;
+    public static final int REORDERED = 3;
+    public static final int DUPLICATES = 4;
+    public static final int LATE = 5;
+    public static final int MAX_GAP_MS = 6;
+    public static final int STREAM_RESTARTS = 7;
+    public static final int COUNTER_COUNT = 8;
+    static final String[] NAMES = {
+            "received",
+            "gaps",
+            "missing",
+            "reordered",
+            "duplicates",
+            "late",
+            "max_gap_ms",
+            "stream_restarts",
+    };
+    public static final int PAGE_SIZE = 16 + COUNTER_COUNT * 8;
+    private static final int RECENT_CAPACITY = 64;
+    private static final int HELD_CAPACITY = 1024;
+    private static final double GAP_FACTOR = 1.5;
+    // timestamp jumping back further is treated as restarted stream, not as late sample
+    private static final long STREAM_RESTART_MS = 1000;
+
+    private final long[] counters = new long[COUNTER_COUNT];
+    // recently received samples for duplicate detection
+    private final long[] recentTimestamps = new long[RECENT_CAPACITY];
+    private final int[] recentHashes = new int[RECENT_CAPACITY];
+    private int recentCount;
+    private int recentNext;
+    private long newestTimestamp;
+    private boolean hasNewest;
+    private double intervalMs;
+    // samples held for reordering, sorted by timestamp, held[heldHead] is the oldest
+    private final GazeSampleBatch held = new GazeSampleBatch(HELD_CAPACITY);
+    private int heldHead;
+    private int heldSize;
+    private long reorderWindowMs;
+    @Nullable
+    private ByteBuffer page;
+    private long pageSequence;
+
+    /*
+     * Inspects batch in place, with reorder window set the batch is replaced with released samples.
+     */
+    public synchronized void apply(GazeSampleBatch batch) {
+        int size = batch.size();
+        boolean repair = reorderWindowMs > 0;
+        for (int i = 0; i < size; i++) {
+            boolean keep = inspect(batch, i);
+            if (repair && keep)
+                hold(batch, i);
+        }
+        if (repair)
+            release(batch);
+        if (null != page)
+            publish();
+    }
+
+    /*
+     * Updates counters with single sample, returns false for samples that must be dropped when stream is repaired.
+     */
+    private boolean inspect(GazeSampleBatch batch, int i) {
+        long timestamp = batch.timestamps[i];
+        int hash = hash(batch, i);
+        counters[RECEIVED]++;
+        if (hasNewest && timestamp <= newestTimestamp) {
+            if (newestTimestamp - timestamp > STREAM_RESTART_MS) {
+                counters[STREAM_RESTARTS]++;
+                restart();
+            } else {
+                if (isRecent(timestamp, hash)) {
+                    counters[DUPLICATES]++;
+                    return false;
+                }
+                remember(timestamp, hash);
+                if (timestamp == newestTimestamp)
+                    // several samples per millisecond at rates above 1 kHz
+                    return true;
+                counters[REORDERED]++;
+                if (counters[MISSING] > 0)
+                    counters[MISSING]--;
+                if (newestTimestamp - timestamp > reorderWindowMs) {
+                    counters[LATE]++;
+                    return false;
+                }
+                return true;
+            }
+        }
+        if (hasNewest) {
+            long step = timestamp - newestTimestamp;
+            if (intervalMs > 0 && step > GAP_FACTOR * intervalMs) {
+                counters[GAPS]++;
+                counters[MISSING] += Math.max(1, Math.round(step / intervalMs) - 1);
+                counters[MAX_GAP_MS] = Math.max(counters[MAX_GAP_MS], step);
+            } else {
+                intervalMs = intervalMs == 0 ? step : intervalMs + (step - intervalMs) * 0.05;
+            }
+        }
+        newestTimestamp = timestamp;
+        hasNewest = true;
+        remember(timestamp, hash);
+        return true;
+    }
+
+    private static int hash(GazeSampleBatch batch, int i) {
+        int hash = Float.floatToRawIntBits(batch.leftX[i]);
+        hash = hash * 31 + Float.floatToRawIntBits(batch.leftY[i]);
+        hash = hash * 31 + Float.floatToRawIntBits(batch.rightX[i]);
+        hash = hash * 31 + Float.floatToRawIntBits(batch.rightY[i]);
+        return hash * 31 + batch.gazeEvents[i];
+    }
+
+    private boolean isRecent(long timestamp, int hash) {
+        for (int i = 0; i < recentCount; i++) {
+            if (recentTimestamps[i] == timestamp && recentHashes[i] == hash)
+                return true;
+        }
+        return false;
+    }
+
+    private void remember(long timestamp, int hash) {
+        recentTimestamps[recentNext] = timestamp;
+        recentHashes[recentNext] = hash;
+        recentNext = (recentNext + 1) % RECENT_CAPACITY;
+        recentCount = Math.min(recentCount + 1, RECENT_CAPACITY);
+    }
+
+    private void restart() {
+        hasNewest = false;
+        intervalMs = 0;
+        recentCount = 0;
+        recentNext = 0;
+        // samples of previous stream would sort after every sample of the new one
+        heldHead = 0;
+        heldSize = 0;
+    }
+
+    /*
+     * Inserts sample to held samples keeping them sorted, samples mostly arrive in order so insertion starts at the end.
+     */
+    private void hold(GazeSampleBatch batch, int i) {
+        if (heldSize == HELD_CAPACITY) {
+            // consumer is never starved by a stuck window, oldest held sample is dropped instead
+            heldHead = (heldHead + 1) % HELD_CAPACITY;
+            heldSize--;
+            counters[LATE]++;
+        }
+        long timestamp = batch.timestamps[i];
+        int position = heldSize;
+        while (position > 0 && held.timestamps[slot(position - 1)] > timestamp) {
+            move(slot(position - 1), slot(position));
+            position--;
+        }
+        int target = slot(position);
+        held.timestamps[target] = timestamp;
+        held.leftX[target] = batch.leftX[i];
+        held.leftY[target] = batch.leftY[i];
+        held.rightX[target] = batch.rightX[i];
+        held.rightY[target] = batch.rightY[i];
+        held.gazeEvents[target] = batch.gazeEvents[i];
+        heldSize++;
+    }
+
+    private int slot(int position) {
+        return (heldHead + position) % HELD_CAPACITY;
+    }
+
+    private void move(int from, int to) {
+        held.timestamps[to] = held.timestamps[from];
+        held.leftX[to] = held.leftX[from];
+        held.leftY[to] = held.leftY[from];
+        held.rightX[to] = held.rightX[from];
+        held.rightY[to] = held.rightY[from];
+        held.gazeEvents[to] = held.gazeEvents[from];
+    }
+
+    private void release(GazeSampleBatch batch) {
+        batch.clear();
+        long releaseBefore = newestTimestamp - reorderWindowMs;
+        while (heldSize > 0 && !batch.isFull() && held.timestamps[heldHead] <= releaseBefore) {
+            batch.add(held.timestamps[heldHead], held.leftX[heldHead], held.leftY[heldHead],
+                    held.rightX[heldHead], held.rightY[heldHead], held.gazeEvents[heldHead]);
+            heldHead = (heldHead + 1) % HELD_CAPACITY;
+            heldSize--;
+        }
+    }
+
+    /**
+     * @param windowMs samples are held until they are older than newest sample by the window, 0 only counts faults
+     */
+    public synchronized void setReorderWindow(long windowMs) {
+        if (windowMs < 0 || windowMs >= STREAM_RESTART_MS)
+            throw new IllegalArgumentException("Invalid reorder window: " + windowMs);
+        reorderWindowMs = windowMs;
+        if (windowMs == 0) {
+            heldHead = 0;
+            heldSize = 0;
+        }
+    }
+
+    public synchronized long getCounter(int counter) {
+        return counters[counter];
+    }
+
+    public synchronized void reset() {
+        for (int i = 0; i < COUNTER_COUNT; i++)
+            counters[i] = 0;
+        restart();
+        if (null != page)
+            publish();
+    }
+
+    /*
+     * Sets native counters page, pointer equal to 0 stops publishing.
+     */
+    public synchronized void setNativePage(long pointer, int size) {
+        if (0 == pointer) {
+            page = null;
+            return;
+        }
+        if (size < PAGE_SIZE)
+            throw new IllegalArgumentException("Stream integrity page must have at least " + PAGE_SIZE + " bytes: " + size);
+        page = NativeMemory.wrap(pointer, PAGE_SIZE);
+        page.putInt(8, COUNTER_COUNT);
+        pageSequence = 0;
+        publish();
+    }
+
+    private void publish() {
+        ByteBuffer buffer = page;
+        buffer.putLong(0, ++pageSequence);
+        NativeMemory.fullFence();
+        for (int i = 0; i < COUNTER_COUNT; i++)
+            buffer.putLong(16 + i * 8, counters[i]);
+        NativeMemory.fullFence();
+        buffer.putLong(0, ++pageSequence);
+    }
+
+    /*
+     * Human readable dump of all counters.
+     */
+    public synchronized String dump() {
+        StringBuilder builder = new StringBuilder("gaze_stream");
+        for (int i = 0; i < COUNTER_COUNT; i++)
+            builder.append(' ').append(NAMES[i]).append(' ').append(counters[i]);
+        return builder.append('\n').toString();
+    }
+}
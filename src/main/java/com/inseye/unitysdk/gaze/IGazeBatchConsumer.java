@@ -0,0 +1,18 @@
+/*
+ * Last edit: 17.10.2026, 02:17
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * Stage of gaze pipeline invoked on receiver thread.
+ * Implementations must not keep reference to the batch nor allocate per sample.
+ */
+public interface IGazeBatchConsumer {
+    void onGazeBatch(GazeSampleBatch batch);
+}
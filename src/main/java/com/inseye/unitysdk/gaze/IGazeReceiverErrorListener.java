@@ -0,0 +1,17 @@
+/*
+ * Last edit: 17.10.2026, 03:22
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * Invoked on receiver thread when gaze receiver stops because of socket error or failure of gaze pipeline consumer.
+ */
+public interface IGazeReceiverErrorListener {
+    void onGazeReceiverError(Exception exception);
+}
@@ -0,0 +1,61 @@
+/*
+ * Last edit: 17.10.2026, 02:17
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Publishes newest gaze sample to native struct guarded by sequence counter (seqlock).
+ * Unity reads sequence, copies sample and reads sequence again, copy is consistent when both reads
+ * returned the same even value.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.LatestGazeSample:
+ *
+ * offset  0: long  sequence - odd while sample is written
+ * offset  8: long  time in ms
+ * offset 16: float left x, left y, right x, right y
+ * offset 32: int   gaze event
+ * offset 36: 4 bytes padding
+ */
+public class LatestGazeSlot implements IGazeBatchConsumer {
+    public static final int SIZE = 40;
+    private static final int SEQUENCE_OFFSET = 0;
+
+    private final ByteBuffer buffer;
+    private long sequence;
+
+    public LatestGazeSlot(long latestGazePointer) {
+        buffer = NativeMemory.wrap(latestGazePointer, SIZE);
+        sequence = 0;
+        buffer.putLong(SEQUENCE_OFFSET, sequence);
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        int last = batch.size() - 1;
+        if (last < 0)
+            return;
+        publish(batch.timestamps[last], batch.leftX[last], batch.leftY[last], batch.rightX[last], batch.rightY[last], batch.gazeEvents[last]);
+    }
+
+    public void publish(long timestamp, float leftX, float leftY, float rightX, float rightY, int gazeEvent) {
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+        NativeMemory.fullFence();
+        buffer.putLong(8, timestamp);
+        buffer.putFloat(16, leftX);
+        buffer.putFloat(20, leftY);
+        buffer.putFloat(24, rightX);
+        buffer.putFloat(28, rightY);
+        buffer.putInt(32, gazeEvent);
+        NativeMemory.fullFence();
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+    }
+}
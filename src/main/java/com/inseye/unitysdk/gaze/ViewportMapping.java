@@ -0,0 +1,37 @@
+/*
+ * Last edit: 17.10.2026, 03:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+/*
+ * Immutable linear mapping of mean gaze of both eyes to viewport space: viewport = gaze * scale + offset.
+ * Consumers keep it in volatile field and replace it as a whole, so x and y parts are never mixed.
+ */
+public final class ViewportMapping {
+    public static final ViewportMapping IDENTITY = new ViewportMapping(1, 0, 1, 0);
+    public final float scaleX;
+    public final float offsetX;
+    public final float scaleY;
+    public final float offsetY;
+
+    public ViewportMapping(float scaleX, float offsetX, float scaleY, float offsetY) {
+        this.scaleX = scaleX;
+        this.offsetX = offsetX;
+        this.scaleY = scaleY;
+        this.offsetY = offsetY;
+    }
+
+    public float mapX(GazeSampleBatch batch, int i) {
+        return (batch.leftX[i] + batch.rightX[i]) * 0.5f * scaleX + offsetX;
+    }
+
+    public float mapY(GazeSampleBatch batch, int i) {
+        return (batch.leftY[i] + batch.rightY[i]) * 0.5f * scaleY + offsetY;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+/*
+ * Base of gaze filters working in place on gaze batch.
+ * Every coordinate (left x, left y, right x, right y) is filtered as separate channel.
+ * Parameters may be changed from Unity thread while filter runs on receiver thread.
+ */
+public abstract class GazeFilter {
+    protected static final int CHANNELS = 4;
+    // longer gap between samples resets filter state
+    private static final long RESET_GAP_MS = 100;
+    private long lastTimestamp;
+    private boolean initialized;
+
+    public final synchronized void apply(GazeSampleBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            long timestamp = batch.timestamps[i];
+            long dtMs = timestamp - lastTimestamp;
+            if (!initialized || dtMs > RESET_GAP_MS || dtMs < 0) {
+                resetState();
+                initialized = true;
+                dtMs = 0;
+            }
+            float dt = dtMs / 1000f;
+            batch.leftX[i] = filter(0, dt, batch.leftX[i]);
+            batch.leftY[i] = filter(1, dt, batch.leftY[i]);
+            batch.rightX[i] = filter(2, dt, batch.rightX[i]);
+            batch.rightY[i] = filter(3, dt, batch.rightY[i]);
+            lastTimestamp = timestamp;
+        }
+    }
+
+    public final synchronized void reset() {
+        initialized = false;
+    }
+
+    public final synchronized void setParameters(float parameter0, float parameter1, float parameter2) {
+        applyParameters(parameter0, parameter1, parameter2);
+        initialized = false;
+    }
+
+    /**
+     * @param channel coordinate index
+     * @param dt      seconds since previous sample, 0 for first sample after reset
+     * @param value   raw value
+     * @return filtered value
+     */
+    protected abstract float filter(int channel, float dt, float value);
+
+    protected abstract void resetState();
+
+    protected abstract void applyParameters(float parameter0, float parameter1, float parameter2);
+}
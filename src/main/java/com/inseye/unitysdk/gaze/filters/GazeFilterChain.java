@@ -0,0 +1,53 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+/*
+ * Ordered list of filters applied in place to every gaze batch before it is published.
+ */
+public class GazeFilterChain {
+    private static final GazeFilter[] EMPTY = new GazeFilter[0];
+    private volatile GazeFilter[] filters = EMPTY;
+
+    /**
+     * @return index of added filter
+     */
+    public synchronized int addFilter(GazeFilter filter) {
+        GazeFilter[] current = filters;
+        GazeFilter[] updated = new GazeFilter[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = filter;
+        filters = updated;
+        return current.length;
+    }
+
+    public GazeFilter getFilter(int index) {
+        GazeFilter[] current = filters;
+        if (index < 0 || index >= current.length)
+            throw new IllegalArgumentException("Invalid filter index: " + index);
+        return current[index];
+    }
+
+    public synchronized void clear() {
+        filters = EMPTY;
+    }
+
+    public void reset() {
+        for (GazeFilter filter : filters)
+            filter.reset();
+    }
+
+    public void apply(GazeSampleBatch batch) {
+        for (GazeFilter filter : filters)
+            filter.apply(batch);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+public enum GazeFilterType {
+    OneEuro(1),
+    Median(2),
+    Kalman(3);
+    public final int intValue;
+    GazeFilterType(int value) {
+        intValue = value;
+    }
+
+    public GazeFilter create(float parameter0, float parameter1, float parameter2) {
+        switch (this) {
+            case OneEuro:
+                return new OneEuroFilter(parameter0, parameter1, parameter2);
+            case Median:
+                return new MedianFilter((int) parameter0);
+            case Kalman:
+                return new KalmanFilter(parameter0, parameter1);
+            default:
+                throw new IllegalArgumentException("Unknown filter type: " + this);
+        }
+    }
+
+    public static GazeFilterType fromInt(int value) {
+        for (GazeFilterType type : values()) {
+            if (type.intValue == value)
+                return type;
+        }
+        throw new IllegalArgumentException("Unknown filter type: " + value);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+/*
+ * Kalman filter with constant velocity model, state is position and velocity of each coordinate.
+ * Parameters: process noise (acceleration spectral density), measurement noise variance.
+ */
+public class KalmanFilter extends GazeFilter {
+    private final float[] position = new float[CHANNELS];
+    private final float[] velocity = new float[CHANNELS];
+    // symmetric 2x2 covariance matrix
+    private final float[] p00 = new float[CHANNELS];
+    private final float[] p01 = new float[CHANNELS];
+    private final float[] p11 = new float[CHANNELS];
+    private final boolean[] hasValue = new boolean[CHANNELS];
+    private float processNoise;
+    private float measurementNoise;
+
+    public KalmanFilter(float processNoise, float measurementNoise) {
+        applyParameters(processNoise, measurementNoise, 0);
+    }
+
+    @Override
+    protected float filter(int channel, float dt, float measurement) {
+        if (!hasValue[channel]) {
+            position[channel] = measurement;
+            velocity[channel] = 0;
+            p00[channel] = measurementNoise;
+            p01[channel] = 0;
+            p11[channel] = measurementNoise;
+            hasValue[channel] = true;
+            return measurement;
+        }
+        // predict
+        float dt2 = dt * dt;
+        position[channel] += velocity[channel] * dt;
+        float a00 = p00[channel] + dt * (2 * p01[channel] + dt * p11[channel]) + processNoise * dt2 * dt / 3;
+        float a01 = p01[channel] + dt * p11[channel] + processNoise * dt2 / 2;
+        float a11 = p11[channel] + processNoise * dt;
+        // update
+        float s = a00 + measurementNoise;
+        float k0 = a00 / s;
+        float k1 = a01 / s;
+        float residual = measurement - position[channel];
+        position[channel] += k0 * residual;
+        velocity[channel] += k1 * residual;
+        p00[channel] = (1 - k0) * a00;
+        p01[channel] = (1 - k0) * a01;
+        p11[channel] = a11 - k1 * a01;
+        return position[channel];
+    }
+
+    @Override
+    protected void resetState() {
+        for (int c = 0; c < CHANNELS; c++)
+            hasValue[c] = false;
+    }
+
+    @Override
+    protected void applyParameters(float processNoise, float measurementNoise, float unused) {
+        if (processNoise < 0 || measurementNoise <= 0)
+            throw new IllegalArgumentException("Invalid Kalman filter parameters: " + processNoise + ", " + measurementNoise);
+        this.processNoise = processNoise;
+        this.measurementNoise = measurementNoise;
+    }
+}
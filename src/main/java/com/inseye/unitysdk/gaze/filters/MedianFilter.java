@@ -0,0 +1,63 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+/*
+ * Moving median over last N samples, removes single sample spikes without smearing saccades.
+ * Parameters: window size (odd, at most MAX_WINDOW), remaining parameters are ignored.
+ */
+public class MedianFilter extends GazeFilter {
+    public static final int MAX_WINDOW = 15;
+    private final float[][] history = new float[CHANNELS][MAX_WINDOW];
+    private final float[] sorted = new float[MAX_WINDOW];
+    private int window;
+    private int count;
+    private int next;
+
+    public MedianFilter(int window) {
+        applyParameters(window, 0, 0);
+    }
+
+    @Override
+    protected float filter(int channel, float dt, float raw) {
+        float[] values = history[channel];
+        values[next] = raw;
+        // last channel advances shared cursor, all channels receive exactly one value per sample
+        int filled = Math.min(count + 1, window);
+        if (channel == CHANNELS - 1) {
+            next = (next + 1) % window;
+            count = filled;
+        }
+        for (int i = 0; i < filled; i++) {
+            float v = values[i];
+            int j = i - 1;
+            while (j >= 0 && sorted[j] > v) {
+                sorted[j + 1] = sorted[j];
+                j--;
+            }
+            sorted[j + 1] = v;
+        }
+        return sorted[filled / 2];
+    }
+
+    @Override
+    protected void resetState() {
+        count = 0;
+        next = 0;
+    }
+
+    @Override
+    protected void applyParameters(float windowSize, float unused0, float unused1) {
+        int w = (int) windowSize;
+        if (w < 1 || w > MAX_WINDOW || w % 2 == 0)
+            throw new IllegalArgumentException("Median window must be odd number in range [1, " + MAX_WINDOW + "]: " + windowSize);
+        window = w;
+    }
+}
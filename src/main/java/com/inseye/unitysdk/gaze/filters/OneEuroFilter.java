@@ -0,0 +1,64 @@
+/*
+ * Last edit: 17.10.2026, 02:18
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+/*
+ * One Euro filter (Casiez et al. 2012), low pass filter with cutoff frequency growing with signal speed.
+ * Parameters: minimum cutoff frequency [Hz], speed coefficient beta, derivative cutoff frequency [Hz].
+ */
+public class OneEuroFilter extends GazeFilter {
+    private final float[] value = new float[CHANNELS];
+    private final float[] derivative = new float[CHANNELS];
+    private final boolean[] hasValue = new boolean[CHANNELS];
+    private float minCutoff;
+    private float beta;
+    private float derivativeCutoff;
+
+    public OneEuroFilter(float minCutoff, float beta, float derivativeCutoff) {
+        applyParameters(minCutoff, beta, derivativeCutoff);
+    }
+
+    @Override
+    protected float filter(int channel, float dt, float raw) {
+        if (!hasValue[channel] || dt <= 0) {
+            if (!hasValue[channel]) {
+                value[channel] = raw;
+                derivative[channel] = 0;
+                hasValue[channel] = true;
+            }
+            return value[channel];
+        }
+        float rawDerivative = (raw - value[channel]) / dt;
+        derivative[channel] += smoothingFactor(dt, derivativeCutoff) * (rawDerivative - derivative[channel]);
+        float cutoff = minCutoff + beta * Math.abs(derivative[channel]);
+        value[channel] += smoothingFactor(dt, cutoff) * (raw - value[channel]);
+        return value[channel];
+    }
+
+    private static float smoothingFactor(float dt, float cutoff) {
+        float r = (float) (2 * Math.PI * cutoff * dt);
+        return r / (r + 1);
+    }
+
+    @Override
+    protected void resetState() {
+        for (int c = 0; c < CHANNELS; c++)
+            hasValue[c] = false;
+    }
+
+    @Override
+    protected void applyParameters(float minCutoff, float beta, float derivativeCutoff) {
+        if (minCutoff <= 0 || derivativeCutoff <= 0 || beta < 0)
+            throw new IllegalArgumentException("Invalid One Euro filter parameters: " + minCutoff + ", " + beta + ", " + derivativeCutoff);
+        this.minCutoff = minCutoff;
+        this.beta = beta;
+        this.derivativeCutoff = derivativeCutoff;
+    }
+}
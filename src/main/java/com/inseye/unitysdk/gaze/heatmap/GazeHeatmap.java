@@ -0,0 +1,271 @@
+/*
+ * Last edit: 17.10.2026, 03:33
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.heatmap;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+import com.inseye.unitysdk.gaze.ViewportMapping;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+ * Accumulates gaze samples into double grid over viewport with Gaussian splat per sample.
+ * Grid with all mip levels is single primitive array allocated once, it is faster to update than direct buffer.
+ * Coarsest level sums every sample, in float it would stop growing after 2^24 samples (4.6 hours at 1 kHz).
+ * Copy to texture takes snapshot of the level under the lock and converts it into texture memory supplied by Unity
+ * without holding it, so gaze receiver waits only for array copy.
+ * Mip pyramid of the grid is kept up to date incrementally: every level stores sums of its four children and
+ * receives the splat folded to its resolution, which covers geometrically smaller rectangle, so update cost is
+ * proportional to kernel size. Exponential decay is applied by growing gain of new samples instead of
+ * scaling the grid, grid is scaled back only when gain becomes large. Nothing is allocated after construction.
+ */
+public class GazeHeatmap implements IGazeBatchConsumer {
+    // kernel reaches 3 sigma, weights past it are negligible
+    private static final float KERNEL_SIGMAS = 3;
+    // resolution of precomputed 1D Gaussian, in steps per cell
+    private static final int TABLE_STEPS = 64;
+    // grid is rescaled before values lose precision of single samples
+    private static final double MAX_GAIN = 1 << 20;
+
+    private final int width;
+    private final int height;
+    private final int levels;
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+    private final int[] levelOffsets;
+    private final double[] grid;
+    // level copied to texture, guarded by snapshotLock
+    private final double[] snapshot;
+    private final Object snapshotLock = new Object();
+    private final int radius;
+    private final float[] gaussian;
+    private final float[] weightsX;
+    private final float[] weightsY;
+    private final double decayRate;
+    private volatile ViewportMapping viewportMapping = ViewportMapping.IDENTITY;
+    private double gain = 1;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long sampleCount;
+
+    /**
+     * @param width           number of heatmap cells along viewport x axis
+     * @param height          number of heatmap cells along viewport y axis
+     * @param sigma           standard deviation of Gaussian splat in cells
+     * @param decayHalfLifeMs time after which weight of a sample halves, 0 disables decay
+     */
+    public GazeHeatmap(int width, int height, float sigma, int decayHalfLifeMs) {
+        if (width <= 0 || height <= 0 || (long) width * height > (1 << 24))
+            throw new IllegalArgumentException("Invalid heatmap size: " + width + "x" + height);
+        if (!(sigma > 0) || sigma > 64)
+            throw new IllegalArgumentException("Heatmap splat sigma must be in range (0, 64]: " + sigma);
+        if (decayHalfLifeMs < 0)
+            throw new IllegalArgumentException("Heatmap decay half life must not be negative: " + decayHalfLifeMs);
+        this.width = width;
+        this.height = height;
+        int levelCount = 1;
+        for (int w = width, h = height; w > 1 || h > 1; w = (w + 1) / 2, h = (h + 1) / 2)
+            levelCount++;
+        levels = levelCount;
+        levelWidths = new int[levels];
+        levelHeights = new int[levels];
+        levelOffsets = new int[levels];
+        int cells = 0;
+        for (int level = 0, w = width, h = height; level < levels; level++, w = (w + 1) / 2, h = (h + 1) / 2) {
+            levelWidths[level] = w;
+            levelHeights[level] = h;
+            levelOffsets[level] = cells;
+            cells += w * h;
+        }
+        grid = new double[cells];
+        snapshot = new double[width * height];
+        radius = (int) Math.ceil(sigma * KERNEL_SIGMAS);
+        gaussian = new float[(radius + 1) * TABLE_STEPS + 1];
+        for (int i = 0; i < gaussian.length; i++) {
+            double distance = (double) i / TABLE_STEPS;
+            gaussian[i] = (float) Math.exp(-distance * distance / (2.0 * sigma * sigma));
+        }
+        int kernel = 2 * radius + 2;
+        weightsX = new float[kernel];
+        weightsY = new float[kernel];
+        decayRate = decayHalfLifeMs == 0 ? 0 : Math.log(2) / decayHalfLifeMs;
+    }
+
+    public void setViewportMapping(ViewportMapping mapping) {
+        viewportMapping = mapping;
+    }
+
+    @Override
+    public synchronized void onGazeBatch(GazeSampleBatch batch) {
+        ViewportMapping mapping = viewportMapping;
+        for (int i = 0; i < batch.size(); i++) {
+            float x = mapping.mapX(batch, i) * width;
+            float y = mapping.mapY(batch, i) * height;
+            // also skips NaN coordinates of blinks and tracking loss
+            if (!(x >= 0 && x < width && y >= 0 && y < height))
+                continue;
+            decay(batch.timestamps[i]);
+            splat(x, y);
+            sampleCount++;
+        }
+    }
+
+    private void decay(long timestamp) {
+        if (decayRate == 0)
+            return;
+        if (lastTimestamp != Long.MIN_VALUE && timestamp > lastTimestamp)
+            gain *= Math.exp((timestamp - lastTimestamp) * decayRate);
+        lastTimestamp = timestamp;
+        if (gain > MAX_GAIN) {
+            double scale = 1 / gain;
+            for (int i = 0; i < grid.length; i++)
+                grid[i] *= scale;
+            gain = 1;
+        }
+    }
+
+    /*
+     * Adds Gaussian with unit mass centered at (x, y) given in cells, mass falling outside the grid is lost.
+     * Gaussian is separable, so change of every level is outer product of row and column weights,
+     * and weights of coarser level are sums of pairs of weights of the level below.
+     */
+    private void splat(float x, float y) {
+        int x0 = Math.max(0, (int) x - radius), x1 = Math.min(width - 1, (int) x + radius);
+        int y0 = Math.max(0, (int) y - radius), y1 = Math.min(height - 1, (int) y + radius);
+        float sumX = 0, sumY = 0;
+        for (int cx = (int) x - radius; cx <= (int) x + radius; cx++) {
+            float weight = gaussian[(int) (Math.abs(cx + 0.5f - x) * TABLE_STEPS + 0.5f)];
+            sumX += weight;
+            if (cx >= x0 && cx <= x1)
+                weightsX[cx - x0] = weight;
+        }
+        float mass = (float) (gain / (sumX * sumY(y, y0, y1)));
+        for (int cy = y0; cy <= y1; cy++)
+            weightsY[cy - y0] *= mass;
+        for (int level = 0; ; level++) {
+            int offset = levelOffsets[level];
+            int levelWidth = levelWidths[level];
+            for (int cy = y0; cy <= y1; cy++) {
+                float rowWeight = weightsY[cy - y0];
+                int row = offset + cy * levelWidth;
+                for (int cx = x0; cx <= x1; cx++)
+                    grid[row + cx] += weightsX[cx - x0] * rowWeight;
+            }
+            if (level == levels - 1)
+                return;
+            fold(weightsX, x0, x1);
+            fold(weightsY, y0, y1);
+            x0 >>= 1;
+            y0 >>= 1;
+            x1 >>= 1;
+            y1 >>= 1;
+        }
+    }
+
+    private float sumY(float y, int y0, int y1) {
+        float sum = 0;
+        for (int cy = (int) y - radius; cy <= (int) y + radius; cy++) {
+            float weight = gaussian[(int) (Math.abs(cy + 0.5f - y) * TABLE_STEPS + 0.5f)];
+            sum += weight;
+            if (cy >= y0 && cy <= y1)
+                weightsY[cy - y0] = weight;
+        }
+        return sum;
+    }
+
+    /*
+     * Sums weights of cells [first, last] into weights of their parents, in place.
+     * Parent index never exceeds index of its first child, so every weight is read before it is overwritten.
+     */
+    private static void fold(float[] weights, int first, int last) {
+        int parentFirst = first >> 1;
+        int previousParent = -1;
+        for (int c = first; c <= last; c++) {
+            float weight = weights[c - first];
+            int parent = (c >> 1) - parentFirst;
+            if (parent != previousParent) {
+                weights[parent] = weight;
+                previousParent = parent;
+            } else {
+                weights[parent] += weight;
+            }
+        }
+    }
+
+    /**
+     * Converts mip level into texture memory supplied by Unity.
+     *
+     * @param texturePointer pointer to texture data of size at least level width * level height * bytes per pixel
+     * @param textureSize    size of texture memory in bytes
+     * @param level          mip level, 0 is full resolution, every next level halves both dimensions
+     * @param format         one of HeatmapTextureFormat values
+     */
+    public void copyTo(long texturePointer, int textureSize, int level, int format) {
+        if (level < 0 || level >= levels)
+            throw new IllegalArgumentException("Invalid heatmap mip level: " + level);
+        int cells = levelWidths[level] * levelHeights[level];
+        int required = cells * HeatmapTextureFormat.bytesPerPixel(format);
+        if (textureSize < required)
+            throw new IllegalArgumentException("Heatmap texture memory is too small: " + textureSize + " < " + required);
+        ByteBuffer target = NativeMemory.wrap(texturePointer, textureSize);
+        synchronized (snapshotLock) {
+            double snapshotGain;
+            synchronized (this) {
+                System.arraycopy(grid, levelOffsets[level], snapshot, 0, cells);
+                snapshotGain = gain;
+            }
+            if (format == HeatmapTextureFormat.RFloat) {
+                // sums of children are converted to mean per cell of level 0
+                double scale = 1 / (snapshotGain * (1L << (2 * level)));
+                for (int i = 0; i < cells; i++)
+                    target.putFloat(i * 4, (float) (snapshot[i] * scale));
+                return;
+            }
+            double max = 0;
+            for (int i = 0; i < cells; i++)
+                max = Math.max(max, snapshot[i]);
+            double scale = max > 0 ? 255 / max : 0;
+            for (int i = 0; i < cells; i++)
+                target.put(i, (byte) (int) (snapshot[i] * scale + 0.5));
+        }
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(grid, 0);
+        gain = 1;
+        lastTimestamp = Long.MIN_VALUE;
+        sampleCount = 0;
+    }
+
+    public int getLevelCount() {
+        return levels;
+    }
+
+    public int getLevelWidth(int level) {
+        return levelWidths[level];
+    }
+
+    public int getLevelHeight(int level) {
+        return levelHeights[level];
+    }
+
+    public synchronized long getSampleCount() {
+        return sampleCount;
+    }
+
+    /*
+     * Total weight of accumulated samples with decay applied, equal to sample count without decay
+     * when no splat was cut by viewport border.
+     */
+    public synchronized double getTotalWeight() {
+        return grid[levelOffsets[levels - 1]] / gain;
+    }
+}
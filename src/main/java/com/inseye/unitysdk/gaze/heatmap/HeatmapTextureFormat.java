@@ -0,0 +1,30 @@
+/*
+ * Last edit: 17.10.2026, 03:11
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.heatmap;
+
+/*
+ * Pixel formats gaze heatmap can be copied to. Row 0 is the bottom of viewport, same as in Unity texture data.
+ */
+public class HeatmapTextureFormat {
+    // 32 bit float per pixel, mean number of samples per heatmap cell with decay applied (TextureFormat.RFloat)
+    public static final int RFloat = 1;
+    // 8 bit per pixel, value normalized to maximum of copied mip level (TextureFormat.R8)
+    public static final int R8 = 2;
+
+    private HeatmapTextureFormat() {}
+
+    public static int bytesPerPixel(int format) {
+        if (format == RFloat)
+            return 4;
+        if (format == R8)
+            return 1;
+        throw new IllegalArgumentException("Unknown heatmap texture format: " + format);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Last edit: 17.10.2026, 02:20
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+/*
+ * I-DT classifier, window spanning minimum fixation duration with dispersion (x range + y range) below threshold
+ * starts fixation, fixation grows until next sample exceeds dispersion threshold.
+ * Periods between fixations are reported as saccades.
+ * Candidate window is bounded, when it is full oldest samples are discarded.
+ */
+public class DispersionThresholdClassifier extends GazeMovementClassifier {
+    public static final int MAX_WINDOW = 256;
+    private final float dispersionThreshold;
+    private final long minFixationDurationMs;
+    private final long[] windowTimestamps = new long[MAX_WINDOW];
+    private final float[] windowX = new float[MAX_WINDOW];
+    private final float[] windowY = new float[MAX_WINDOW];
+    private int windowStart;
+    private int windowSize;
+    // bounds of ongoing fixation
+    private float minX, maxX, minY, maxY;
+    private long lastFixationTimestamp;
+
+    /**
+     * @param eventQueue            queue receiving events
+     * @param dispersionThreshold   maximum dispersion of fixation in gaze units
+     * @param minFixationDurationMs minimum duration of reported fixation
+     */
+    public DispersionThresholdClassifier(GazeMovementEventQueue eventQueue, float dispersionThreshold, long minFixationDurationMs) {
+        super(eventQueue);
+        if (dispersionThreshold <= 0 || minFixationDurationMs < 0)
+            throw new IllegalArgumentException("Invalid I-DT parameters: " + dispersionThreshold + ", " + minFixationDurationMs);
+        this.dispersionThreshold = dispersionThreshold;
+        this.minFixationDurationMs = minFixationDurationMs;
+    }
+
+    @Override
+    protected void processSample(long timestamp, float x, float y) {
+        if (isInFixation()) {
+            float newMinX = Math.min(minX, x), newMaxX = Math.max(maxX, x);
+            float newMinY = Math.min(minY, y), newMaxY = Math.max(maxY, y);
+            if ((newMaxX - newMinX) + (newMaxY - newMinY) <= dispersionThreshold) {
+                minX = newMinX;
+                maxX = newMaxX;
+                minY = newMinY;
+                maxY = newMaxY;
+                lastFixationTimestamp = timestamp;
+                extendFixation(x, y);
+                return;
+            }
+            endFixation(lastFixationTimestamp);
+            beginSaccade(lastFixationTimestamp, x, y);
+            windowSize = 0;
+        }
+        pushToWindow(timestamp, x, y);
+        while (windowSize > 0 && timestamp - windowTimestamps[windowStart] >= minFixationDurationMs) {
+            if (windowDispersion() <= dispersionThreshold) {
+                startFixationFromWindow();
+                return;
+            }
+            windowStart = (windowStart + 1) % MAX_WINDOW;
+            windowSize--;
+        }
+    }
+
+    private void pushToWindow(long timestamp, float x, float y) {
+        if (windowSize == MAX_WINDOW) {
+            windowStart = (windowStart + 1) % MAX_WINDOW;
+            windowSize--;
+        }
+        int index = (windowStart + windowSize) % MAX_WINDOW;
+        windowTimestamps[index] = timestamp;
+        windowX[index] = x;
+        windowY[index] = y;
+        windowSize++;
+    }
+
+    private float windowDispersion() {
+        float loX = Float.MAX_VALUE, hiX = -Float.MAX_VALUE, loY = Float.MAX_VALUE, hiY = -Float.MAX_VALUE;
+        for (int i = 0; i < windowSize; i++) {
+            int index = (windowStart + i) % MAX_WINDOW;
+            loX = Math.min(loX, windowX[index]);
+            hiX = Math.max(hiX, windowX[index]);
+            loY = Math.min(loY, windowY[index]);
+            hiY = Math.max(hiY, windowY[index]);
+        }
+        minX = loX;
+        maxX = hiX;
+        minY = loY;
+        maxY = hiY;
+        return (hiX - loX) + (hiY - loY);
+    }
+
+    private void startFixationFromWindow() {
+        double sumX = 0, sumY = 0;
+        for (int i = 0; i < windowSize; i++) {
+            int index = (windowStart + i) % MAX_WINDOW;
+            sumX += windowX[index];
+            sumY += windowY[index];
+        }
+        lastFixationTimestamp = windowTimestamps[(windowStart + windowSize - 1) % MAX_WINDOW];
+        beginFixation(windowTimestamps[windowStart], sumX, sumY, windowSize);
+        windowStart = 0;
+        windowSize = 0;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Last edit: 17.10.2026, 02:20
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+public enum GazeMovementAlgorithm {
+    VelocityThreshold(1),
+    DispersionThreshold(2);
+    public final int intValue;
+    GazeMovementAlgorithm(int value) {
+        intValue = value;
+    }
+
+    public GazeMovementClassifier create(GazeMovementEventQueue eventQueue, float threshold, long minFixationDurationMs) {
+        if (this == VelocityThreshold)
+            return new VelocityThresholdClassifier(eventQueue, threshold, minFixationDurationMs);
+        return new DispersionThresholdClassifier(eventQueue, threshold, minFixationDurationMs);
+    }
+
+    public static GazeMovementAlgorithm fromInt(int value) {
+        for (GazeMovementAlgorithm algorithm : values()) {
+            if (algorithm.intValue == value)
+                return algorithm;
+        }
+        throw new IllegalArgumentException("Unknown gaze movement algorithm: " + value);
+    }
+}
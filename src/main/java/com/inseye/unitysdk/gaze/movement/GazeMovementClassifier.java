@@ -0,0 +1,89 @@
+/*
+ * Last edit: 17.10.2026, 02:20
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+
+/*
+ * Base of incremental fixation and saccade classifiers.
+ * Classification uses binocular gaze (mean of both eyes), samples with invalid coordinates are skipped.
+ * State is bounded and updated in constant or window bounded time per sample.
+ */
+public abstract class GazeMovementClassifier implements IGazeBatchConsumer {
+    private final GazeMovementEventQueue eventQueue;
+    private boolean inFixation;
+    private long fixationStart;
+    private double fixationSumX, fixationSumY;
+    private int fixationSamples;
+    private boolean inSaccade;
+    private long saccadeStart;
+
+    protected GazeMovementClassifier(GazeMovementEventQueue eventQueue) {
+        this.eventQueue = eventQueue;
+    }
+
+    @Override
+    public final void onGazeBatch(GazeSampleBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            float x = (batch.leftX[i] + batch.rightX[i]) * 0.5f;
+            float y = (batch.leftY[i] + batch.rightY[i]) * 0.5f;
+            if (Float.isNaN(x) || Float.isNaN(y) || Float.isInfinite(x) || Float.isInfinite(y))
+                continue;
+            processSample(batch.timestamps[i], x, y);
+        }
+    }
+
+    protected abstract void processSample(long timestamp, float x, float y);
+
+    protected final boolean isInFixation() {
+        return inFixation;
+    }
+
+    protected final void beginFixation(long timestamp, double sumX, double sumY, int samples) {
+        if (inSaccade)
+            endSaccade(timestamp, (float) (sumX / samples), (float) (sumY / samples));
+        inFixation = true;
+        fixationStart = timestamp;
+        fixationSumX = sumX;
+        fixationSumY = sumY;
+        fixationSamples = samples;
+        eventQueue.write(GazeMovementEventQueue.FIXATION_START, timestamp, (float) (sumX / samples), (float) (sumY / samples), 0);
+    }
+
+    protected final void extendFixation(float x, float y) {
+        fixationSumX += x;
+        fixationSumY += y;
+        fixationSamples++;
+    }
+
+    protected final void endFixation(long timestamp) {
+        if (!inFixation)
+            return;
+        inFixation = false;
+        eventQueue.write(GazeMovementEventQueue.FIXATION_END, timestamp, (float) (fixationSumX / fixationSamples),
+                (float) (fixationSumY / fixationSamples), (int) (timestamp - fixationStart));
+    }
+
+    protected final void beginSaccade(long timestamp, float x, float y) {
+        if (inSaccade)
+            return;
+        inSaccade = true;
+        saccadeStart = timestamp;
+        eventQueue.write(GazeMovementEventQueue.SACCADE_START, timestamp, x, y, 0);
+    }
+
+    protected final void endSaccade(long timestamp, float x, float y) {
+        if (!inSaccade)
+            return;
+        inSaccade = false;
+        eventQueue.write(GazeMovementEventQueue.SACCADE_END, timestamp, x, y, (int) (timestamp - saccadeStart));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Last edit: 17.10.2026, 02:20
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Native queue of fixation and saccade events polled by Unity.
+ * Slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeMovementEvent:
+ * 1 long (time in ms), 1 int (event type), 2 floats (x, y), 1 int (duration in ms)
+ */
+public class GazeMovementEventQueue {
+    public static final int FIXATION_START = 1;
+    public static final int FIXATION_END = 2;
+    public static final int SACCADE_START = 3;
+    public static final int SACCADE_END = 4;
+    public static final int SLOT_SIZE = 24;
+
+    private final NativeRingBuffer ringBuffer;
+
+    public GazeMovementEventQueue(long queuePointer, int queueSize) {
+        ringBuffer = new NativeRingBuffer(queuePointer, queueSize, SLOT_SIZE);
+    }
+
+    /**
+     * @param type       one of event type constants
+     * @param timestamp  time of event in gaze clock
+     * @param x          fixation centroid or gaze position at saccade boundary
+     * @param y          fixation centroid or gaze position at saccade boundary
+     * @param durationMs duration of finished fixation or saccade, 0 for start events
+     */
+    public void write(int type, long timestamp, float x, float y, int durationMs) {
+        int slot = ringBuffer.claim();
+        if (slot < 0)
+            return;
+        ByteBuffer buffer = ringBuffer.getBuffer();
+        buffer.putLong(slot, timestamp);
+        buffer.putInt(slot + 8, type);
+        buffer.putFloat(slot + 12, x);
+        buffer.putFloat(slot + 16, y);
+        buffer.putInt(slot + 20, durationMs);
+        ringBuffer.publish();
+    }
+
+    public long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Last edit: 17.10.2026, 02:20
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+/*
+ * I-VT classifier, samples moving faster than threshold belong to saccades, remaining samples to fixations.
+ * Fixation is reported only after it lasted minimum duration.
+ */
+public class VelocityThresholdClassifier extends GazeMovementClassifier {
+    private final float velocityThreshold;
+    private final long minFixationDurationMs;
+    private boolean hasPrevious;
+    private long previousTimestamp;
+    private float previousX, previousY;
+    // candidate fixation that has not reached minimum duration yet
+    private boolean hasCandidate;
+    private long candidateStart;
+    private double candidateSumX, candidateSumY;
+    private int candidateSamples;
+
+    /**
+     * @param eventQueue            queue receiving events
+     * @param velocityThreshold     gaze speed in gaze units per second separating fixations from saccades
+     * @param minFixationDurationMs minimum duration of reported fixation
+     */
+    public VelocityThresholdClassifier(GazeMovementEventQueue eventQueue, float velocityThreshold, long minFixationDurationMs) {
+        super(eventQueue);
+        if (velocityThreshold <= 0 || minFixationDurationMs < 0)
+            throw new IllegalArgumentException("Invalid I-VT parameters: " + velocityThreshold + ", " + minFixationDurationMs);
+        this.velocityThreshold = velocityThreshold;
+        this.minFixationDurationMs = minFixationDurationMs;
+    }
+
+    @Override
+    protected void processSample(long timestamp, float x, float y) {
+        long dtMs = timestamp - previousTimestamp;
+        if (!hasPrevious || dtMs <= 0) {
+            if (!hasPrevious || dtMs < 0)
+                hasCandidate = false;
+            storePrevious(timestamp, x, y);
+            return;
+        }
+        float dx = x - previousX;
+        float dy = y - previousY;
+        float velocity = (float) Math.sqrt(dx * dx + dy * dy) * 1000f / dtMs;
+        if (velocity > velocityThreshold) {
+            endFixation(previousTimestamp);
+            hasCandidate = false;
+            beginSaccade(previousTimestamp, previousX, previousY);
+        } else if (isInFixation()) {
+            extendFixation(x, y);
+        } else {
+            if (!hasCandidate) {
+                hasCandidate = true;
+                candidateStart = previousTimestamp;
+                candidateSumX = previousX;
+                candidateSumY = previousY;
+                candidateSamples = 1;
+            }
+            candidateSumX += x;
+            candidateSumY += y;
+            candidateSamples++;
+            if (timestamp - candidateStart >= minFixationDurationMs) {
+                hasCandidate = false;
+                beginFixation(candidateStart, candidateSumX, candidateSumY, candidateSamples);
+            }
+        }
+        storePrevious(timestamp, x, y);
+    }
+
+    private void storePrevious(long timestamp, float x, float y) {
+        hasPrevious = true;
+        previousTimestamp = timestamp;
+        previousX = x;
+        previousY = y;
+    }
+}
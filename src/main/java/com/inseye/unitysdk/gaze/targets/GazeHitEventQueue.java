@@ -0,0 +1,59 @@
+/*
+ * Last edit: 17.10.2026, 03:06
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.targets;
+
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Native queue of gaze target events polled by Unity.
+ * Slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeHitEvent:
+ * 1 long (time in ms), 1 int (event type), 1 int (target id), 2 floats (viewport x, y), 1 int (duration in ms),
+ * 4 bytes padding
+ */
+public class GazeHitEventQueue {
+    public static final int ENTER = 1;
+    public static final int EXIT = 2;
+    public static final int DWELL_COMPLETE = 3;
+    public static final int SLOT_SIZE = 32;
+
+    private final NativeRingBuffer ringBuffer;
+
+    public GazeHitEventQueue(long queuePointer, int queueSize) {
+        ringBuffer = new NativeRingBuffer(queuePointer, queueSize, SLOT_SIZE);
+    }
+
+    /**
+     * @param type       one of event type constants
+     * @param timestamp  time of event in gaze clock
+     * @param targetId   id of target assigned by Unity
+     * @param x          gaze position in viewport space
+     * @param y          gaze position in viewport space
+     * @param durationMs time gaze spent on target, 0 for enter events
+     */
+    public void write(int type, long timestamp, int targetId, float x, float y, int durationMs) {
+        int slot = ringBuffer.claim();
+        if (slot < 0)
+            return;
+        ByteBuffer buffer = ringBuffer.getBuffer();
+        buffer.putLong(slot, timestamp);
+        buffer.putInt(slot + 8, type);
+        buffer.putInt(slot + 12, targetId);
+        buffer.putFloat(slot + 16, x);
+        buffer.putFloat(slot + 20, y);
+        buffer.putInt(slot + 24, durationMs);
+        ringBuffer.publish();
+    }
+
+    public long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+}
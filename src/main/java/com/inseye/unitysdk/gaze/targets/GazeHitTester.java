@@ -0,0 +1,160 @@
+/*
+ * Last edit: 17.10.2026, 03:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.targets;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+import com.inseye.unitysdk.gaze.ViewportMapping;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Hit tests every gaze sample against targets registered by Unity and reports enter, exit and dwell complete events.
+ * Targets are changed by Unity through native command queue drained before every batch, so targets and focus
+ * state are owned by receiver thread and nothing is locked or allocated per sample.
+ * Command slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeTargetCommand:
+ * 1 int (command), 1 int (target id), 1 int (shape), 1 int (dwell time in ms), 4 floats (shape parameters a, b, c, d)
+ *
+ * Focus has spatial and temporal hysteresis: target gaze is on is enlarged by exit margin, and gaze that left
+ * the target towards no other target exits it only after exit delay, so jitter and short tracking loss
+ * do not break dwell. Gaze moving to smaller target inside current one (button on panel) switches immediately.
+ */
+public class GazeHitTester implements IGazeBatchConsumer {
+    public static final int SET_TARGET = 1;
+    public static final int REMOVE_TARGET = 2;
+    public static final int CLEAR_TARGETS = 3;
+    public static final int COMMAND_SLOT_SIZE = 32;
+
+    private final NativeRingBufferReader commandQueue;
+    private final GazeHitEventQueue eventQueue;
+    private final GazeTargetGrid grid;
+    private final float exitMargin;
+    private final long exitDelayMs;
+    private volatile ViewportMapping viewportMapping = ViewportMapping.IDENTITY;
+    private long rejectedCommands;
+    private int focusedTarget = -1;
+    private long enterTime;
+    private long lastOnTargetTime;
+    private boolean dwellCompleted;
+    private long lastTimestamp;
+    private float lastX, lastY;
+
+    /**
+     * @param exitMargin  distance in viewport space by which focused target is enlarged
+     * @param exitDelayMs time gaze must be off focused target before target is exited
+     */
+    public GazeHitTester(NativeRingBufferReader commandQueue, GazeHitEventQueue eventQueue, GazeTargetGrid grid,
+                         float exitMargin, int exitDelayMs) {
+        if (!(exitMargin >= 0))
+            throw new IllegalArgumentException("Exit margin must not be negative: " + exitMargin);
+        if (exitDelayMs < 0)
+            throw new IllegalArgumentException("Exit delay must not be negative: " + exitDelayMs);
+        this.commandQueue = commandQueue;
+        this.eventQueue = eventQueue;
+        this.grid = grid;
+        this.exitMargin = exitMargin;
+        this.exitDelayMs = exitDelayMs;
+    }
+
+    public void setViewportMapping(ViewportMapping mapping) {
+        viewportMapping = mapping;
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        drainCommands();
+        ViewportMapping mapping = viewportMapping;
+        for (int i = 0; i < batch.size(); i++) {
+            float x = mapping.mapX(batch, i);
+            float y = mapping.mapY(batch, i);
+            // blinks and tracking loss neither move nor break focus
+            if (Float.isNaN(x) || Float.isNaN(y) || Float.isInfinite(x) || Float.isInfinite(y))
+                continue;
+            processSample(batch.timestamps[i], x, y);
+        }
+    }
+
+    private void processSample(long timestamp, float x, float y) {
+        lastTimestamp = timestamp;
+        lastX = x;
+        lastY = y;
+        int hit = grid.hit(x, y);
+        if (focusedTarget >= 0) {
+            if (grid.contains(focusedTarget, x, y, exitMargin)
+                    && (hit < 0 || hit == focusedTarget || grid.getArea(hit) >= grid.getArea(focusedTarget))) {
+                lastOnTargetTime = timestamp;
+                checkDwell(timestamp, x, y);
+                return;
+            }
+            if (hit < 0 && timestamp - lastOnTargetTime < exitDelayMs)
+                return;
+            exit(timestamp, x, y);
+        }
+        if (hit >= 0) {
+            focusedTarget = hit;
+            enterTime = timestamp;
+            lastOnTargetTime = timestamp;
+            dwellCompleted = false;
+            eventQueue.write(GazeHitEventQueue.ENTER, timestamp, hit, x, y, 0);
+            checkDwell(timestamp, x, y);
+        }
+    }
+
+    private void checkDwell(long timestamp, float x, float y) {
+        int dwellMs = grid.getDwellTime(focusedTarget);
+        if (dwellCompleted || dwellMs == 0 || timestamp - enterTime < dwellMs)
+            return;
+        dwellCompleted = true;
+        eventQueue.write(GazeHitEventQueue.DWELL_COMPLETE, timestamp, focusedTarget, x, y, (int) (timestamp - enterTime));
+    }
+
+    private void exit(long timestamp, float x, float y) {
+        // duration ends with last sample on target, time spent in exit delay is not counted
+        eventQueue.write(GazeHitEventQueue.EXIT, timestamp, focusedTarget, x, y, (int) (lastOnTargetTime - enterTime));
+        focusedTarget = -1;
+    }
+
+    private void drainCommands() {
+        ByteBuffer source = commandQueue.getBuffer();
+        int slot;
+        while ((slot = commandQueue.peek()) >= 0) {
+            int command = source.getInt(slot);
+            int id = source.getInt(slot + 4);
+            if (command == SET_TARGET) {
+                if (!grid.set(id, source.getInt(slot + 8), source.getFloat(slot + 16), source.getFloat(slot + 20),
+                        source.getFloat(slot + 24), source.getFloat(slot + 28), source.getInt(slot + 12)))
+                    rejectedCommands++;
+            } else if (command == REMOVE_TARGET) {
+                if (focusedTarget >= 0 && id == focusedTarget)
+                    exit(lastTimestamp, lastX, lastY);
+                grid.remove(id);
+            } else if (command == CLEAR_TARGETS) {
+                if (focusedTarget >= 0)
+                    exit(lastTimestamp, lastX, lastY);
+                grid.clear();
+            } else {
+                rejectedCommands++;
+            }
+            commandQueue.release();
+        }
+    }
+
+    /*
+     * Called on receiver thread or after hit tester was removed from gaze pipeline.
+     */
+    public long getRejectedCommandCount() {
+        return rejectedCommands;
+    }
+
+    public long getDroppedEventCount() {
+        return eventQueue.getDroppedCount();
+    }
+}
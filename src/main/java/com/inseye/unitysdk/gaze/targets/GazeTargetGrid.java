@@ -0,0 +1,207 @@
+/*
+ * Last edit: 17.10.2026, 03:06
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.targets;
+
+import java.util.Arrays;
+
+/*
+ * Uniform grid over viewport (0, 0) - (1, 1) indexing gaze targets by their bounding boxes.
+ * Target ids are assigned by Unity in range [0, maxTargets), so target data is kept in arrays indexed by id.
+ * Hit test visits only targets overlapping cell of the point, changes of targets touch only cells of the target.
+ */
+public class GazeTargetGrid {
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final int columns;
+    private final int rows;
+    private final int[] shapes;
+    private final float[] minX, minY, maxX, maxY;
+    private final float[] areas;
+    private final int[] dwellTimes;
+    private final int[][] cells;
+    private final int[] cellSizes;
+    private int targetCount;
+
+    public GazeTargetGrid(int maxTargets, int columns, int rows) {
+        if (maxTargets <= 0)
+            throw new IllegalArgumentException("Invalid maximum number of gaze targets: " + maxTargets);
+        if (columns <= 0 || rows <= 0)
+            throw new IllegalArgumentException("Invalid gaze target grid size: " + columns + "x" + rows);
+        this.columns = columns;
+        this.rows = rows;
+        shapes = new int[maxTargets];
+        minX = new float[maxTargets];
+        minY = new float[maxTargets];
+        maxX = new float[maxTargets];
+        maxY = new float[maxTargets];
+        areas = new float[maxTargets];
+        dwellTimes = new int[maxTargets];
+        cells = new int[columns * rows][];
+        cellSizes = new int[columns * rows];
+    }
+
+    public int getMaxTargets() {
+        return shapes.length;
+    }
+
+    public int getTargetCount() {
+        return targetCount;
+    }
+
+    /**
+     * Adds target or replaces target with the same id.
+     *
+     * @param id      target id in range [0, maxTargets)
+     * @param shape   one of GazeTargetShape values
+     * @param a       see GazeTargetShape
+     * @param b       see GazeTargetShape
+     * @param c       see GazeTargetShape
+     * @param d       see GazeTargetShape
+     * @param dwellMs time gaze must stay on target to complete dwell, 0 if target has no dwell
+     * @return false if target is invalid and was not added
+     */
+    public boolean set(int id, int shape, float a, float b, float c, float d, int dwellMs) {
+        if (id < 0 || id >= shapes.length || dwellMs < 0)
+            return false;
+        float x0, y0, x1, y1, area;
+        if (shape == GazeTargetShape.Rectangle) {
+            x0 = a;
+            y0 = b;
+            x1 = c;
+            y1 = d;
+            area = (x1 - x0) * (y1 - y0);
+        } else if (shape == GazeTargetShape.Circle) {
+            x0 = a - c;
+            y0 = b - c;
+            x1 = a + c;
+            y1 = b + c;
+            area = (float) Math.PI * c * c;
+        } else {
+            return false;
+        }
+        // also rejects NaN coordinates
+        if (!(x1 >= x0 && y1 >= y0))
+            return false;
+        remove(id);
+        shapes[id] = shape;
+        minX[id] = x0;
+        minY[id] = y0;
+        maxX[id] = x1;
+        maxY[id] = y1;
+        areas[id] = area;
+        dwellTimes[id] = dwellMs;
+        targetCount++;
+        int firstColumn = column(x0), lastColumn = column(x1);
+        int firstRow = row(y0), lastRow = row(y1);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int col = firstColumn; col <= lastColumn; col++)
+                addToCell(r * columns + col, id);
+        }
+        return true;
+    }
+
+    public void remove(int id) {
+        if (id < 0 || id >= shapes.length || shapes[id] == 0)
+            return;
+        int firstColumn = column(minX[id]), lastColumn = column(maxX[id]);
+        int firstRow = row(minY[id]), lastRow = row(maxY[id]);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int col = firstColumn; col <= lastColumn; col++)
+                removeFromCell(r * columns + col, id);
+        }
+        shapes[id] = 0;
+        targetCount--;
+    }
+
+    public void clear() {
+        Arrays.fill(shapes, 0);
+        Arrays.fill(cellSizes, 0);
+        targetCount = 0;
+    }
+
+    public boolean exists(int id) {
+        return shapes[id] != 0;
+    }
+
+    public float getArea(int id) {
+        return areas[id];
+    }
+
+    public int getDwellTime(int id) {
+        return dwellTimes[id];
+    }
+
+    /**
+     * Finds the most specific target under the point, when targets overlap the smallest one wins,
+     * so button placed on panel is hit instead of the panel.
+     *
+     * @return target id or -1 if no target contains the point
+     */
+    public int hit(float x, float y) {
+        if (!(x >= 0 && x < 1 && y >= 0 && y < 1))
+            return -1;
+        int cell = row(y) * columns + column(x);
+        int[] ids = cells[cell];
+        int best = -1;
+        for (int i = 0; i < cellSizes[cell]; i++) {
+            int id = ids[i];
+            if (contains(id, x, y, 0) && (best < 0 || areas[id] < areas[best]))
+                best = id;
+        }
+        return best;
+    }
+
+    /**
+     * @param margin distance by which target is enlarged, used for hysteresis of targets gaze is already on
+     */
+    public boolean contains(int id, float x, float y, float margin) {
+        if (shapes[id] == GazeTargetShape.Circle) {
+            float radius = (maxX[id] - minX[id]) * 0.5f + margin;
+            float dx = x - (minX[id] + maxX[id]) * 0.5f;
+            float dy = y - (minY[id] + maxY[id]) * 0.5f;
+            return dx * dx + dy * dy <= radius * radius;
+        }
+        return shapes[id] == GazeTargetShape.Rectangle
+                && x >= minX[id] - margin && x <= maxX[id] + margin
+                && y >= minY[id] - margin && y <= maxY[id] + margin;
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) (x * columns)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) (y * rows)));
+    }
+
+    private void addToCell(int cell, int id) {
+        int[] ids = cells[cell];
+        if (null == ids) {
+            ids = new int[INITIAL_CELL_CAPACITY];
+            cells[cell] = ids;
+        } else if (cellSizes[cell] == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            cells[cell] = ids;
+        }
+        ids[cellSizes[cell]++] = id;
+    }
+
+    private void removeFromCell(int cell, int id) {
+        int[] ids = cells[cell];
+        int size = cellSizes[cell];
+        for (int i = 0; i < size; i++) {
+            if (ids[i] != id)
+                continue;
+            ids[i] = ids[size - 1];
+            cellSizes[cell] = size - 1;
+            return;
+        }
+    }
+}
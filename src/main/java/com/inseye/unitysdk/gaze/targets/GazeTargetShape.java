@@ -0,0 +1,22 @@
+/*
+ * Last edit: 17.10.2026, 03:06
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.targets;
+
+/*
+ * Shapes of gaze targets registered by Unity, coordinates are in viewport space.
+ */
+public class GazeTargetShape {
+    // a = min x, b = min y, c = max x, d = max y
+    public static final int Rectangle = 1;
+    // a = center x, b = center y, c = radius
+    public static final int Circle = 2;
+
+    private GazeTargetShape() {}
+}
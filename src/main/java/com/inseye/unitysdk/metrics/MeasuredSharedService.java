@@ -0,0 +1,268 @@
+/*
+ * Last edit: 17.10.2026, 03:53
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.metrics;
+
+import android.os.IBinder;
+import android.os.RemoteException;
+
+import com.inseye.shared.communication.ActionResult;
+import com.inseye.shared.communication.BinaryStreamActionResult;
+import com.inseye.shared.communication.Eye;
+import com.inseye.shared.communication.IBuiltInCalibrationCallback;
+import com.inseye.shared.communication.ICalibrationCallback;
+import com.inseye.shared.communication.IEyetrackerEventListener;
+import com.inseye.shared.communication.IServiceBuiltInCalibrationCallback;
+import com.inseye.shared.communication.IServiceCalibrationCallback;
+import com.inseye.shared.communication.ISharedService;
+import com.inseye.shared.communication.IntActionResult;
+import com.inseye.shared.communication.StringActionResult;
+import com.inseye.shared.communication.TrackerAvailability;
+import com.inseye.shared.communication.Version;
+import com.inseye.shared.communication.VisibleFov;
+
+/*
+ * Service decorator recording latency of every remote call in metrics registry.
+ * Call is counted as error when it throws or returns unsuccessful result, see RemoteMethod.
+ */
+public class MeasuredSharedService implements ISharedService {
+    private final ISharedService service;
+    private final MetricsRegistry metrics;
+
+    public MeasuredSharedService(ISharedService service, MetricsRegistry metrics) {
+        this.service = service;
+        this.metrics = metrics;
+    }
+
+    public ISharedService getService() {
+        return service;
+    }
+
+    @Override
+    public IntActionResult startStreamingGazeData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            IntActionResult value = service.startStreamingGazeData();
+            failed = null == value || !value.success;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.StartStreamingGazeData, start, failed);
+        }
+    }
+
+    @Override
+    public void stopStreamingGazeData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            service.stopStreamingGazeData();
+            failed = false;
+        } finally {
+            metrics.record(RemoteMethod.StopStreamingGazeData, start, failed);
+        }
+    }
+
+    @Override
+    public int isStreamingGazeData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            int value = service.isStreamingGazeData();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.IsStreamingGazeData, start, failed);
+        }
+    }
+
+    @Override
+    public IServiceCalibrationCallback startCalibrationProcedure(ActionResult result, ICalibrationCallback clientInterface) throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            IServiceCalibrationCallback value = service.startCalibrationProcedure(result, clientInterface);
+            failed = !result.successful;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.StartCalibrationProcedure, start, failed);
+        }
+    }
+
+    @Override
+    public ActionResult subscribeToEyetrackerEvents(IEyetrackerEventListener listener) throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            ActionResult value = service.subscribeToEyetrackerEvents(listener);
+            failed = null == value || !value.successful;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.SubscribeToEyetrackerEvents, start, failed);
+        }
+    }
+
+    @Override
+    public void unsubscribeFromEyetrackerEvents() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            service.unsubscribeFromEyetrackerEvents();
+            failed = false;
+        } finally {
+            metrics.record(RemoteMethod.UnsubscribeFromEyetrackerEvents, start, failed);
+        }
+    }
+
+    @Override
+    public TrackerAvailability getTrackerAvailability() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            TrackerAvailability value = service.getTrackerAvailability();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.GetTrackerAvailability, start, failed);
+        }
+    }
+
+    @Override
+    public void getVersions(Version serviceVersion, Version firmwareVersion, Version calibrationVersion) throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            service.getVersions(serviceVersion, firmwareVersion, calibrationVersion);
+            failed = false;
+        } finally {
+            metrics.record(RemoteMethod.GetVersions, start, failed);
+        }
+    }
+
+    @Override
+    public Eye getDominantEye() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            Eye value = service.getDominantEye();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.GetDominantEye, start, failed);
+        }
+    }
+
+    @Override
+    public boolean isCalibrated() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            boolean value = service.isCalibrated();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.IsCalibrated, start, failed);
+        }
+    }
+
+    @Override
+    public ActionResult beginRecordingRawData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            ActionResult value = service.beginRecordingRawData();
+            failed = null == value || !value.successful;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.BeginRecordingRawData, start, failed);
+        }
+    }
+
+    @Override
+    public StringActionResult endRecordingRawData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            StringActionResult value = service.endRecordingRawData();
+            failed = null == value || !value.success;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.EndRecordingRawData, start, failed);
+        }
+    }
+
+    @Override
+    public BinaryStreamActionResult startStreamingRawData(int requestedBinaryDataVersion) throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            BinaryStreamActionResult value = service.startStreamingRawData(requestedBinaryDataVersion);
+            failed = null == value || !value.success;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.StartStreamingRawData, start, failed);
+        }
+    }
+
+    @Override
+    public void stopStreamingRawData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            service.stopStreamingRawData();
+            failed = false;
+        } finally {
+            metrics.record(RemoteMethod.StopStreamingRawData, start, failed);
+        }
+    }
+
+    @Override
+    public boolean isStreamingRawData() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            boolean value = service.isStreamingRawData();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.IsStreamingRawData, start, failed);
+        }
+    }
+
+    @Override
+    public IServiceBuiltInCalibrationCallback startBuiltInCalibrationProcedure(ActionResult result, IBuiltInCalibrationCallback clientInterface) throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            IServiceBuiltInCalibrationCallback value = service.startBuiltInCalibrationProcedure(result, clientInterface);
+            failed = !result.successful;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.StartBuiltInCalibrationProcedure, start, failed);
+        }
+    }
+
+    @Override
+    public VisibleFov getVisibleFov() throws RemoteException {
+        long start = MetricsRegistry.start();
+        boolean failed = true;
+        try {
+            VisibleFov value = service.getVisibleFov();
+            failed = false;
+            return value;
+        } finally {
+            metrics.record(RemoteMethod.GetVisibleFov, start, failed);
+        }
+    }
+
+    @Override
+    public IBinder asBinder() {
+        return service.asBinder();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Last edit: 17.10.2026, 02:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.metrics;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.trace.Trace;
+import com.inseye.unitysdk.trace.TraceEvent;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Call counters and fixed bucket latency histograms of remote calls.
+ * Recording does not allocate, counters live in single preallocated atomic array.
+ * Optional native stats page is updated after every recorded call.
+ * Page layout must match struct layout from UnitySDK C# code in class Inseye.Internal.MetricsPage:
+ *
+ * offset  0: long sequence    - odd while page is written (seqlock)
+ * offset  8: int  row count
+ * offset 12: int  bucket count
+ * offset 16: int  bucket upper bounds in microseconds (last bucket is unbounded)
+ * offset 64: rows, one per RemoteMethod, each row is 16 longs:
+ *            count, errors, total latency ns, max latency ns, bucket counts
+ */
+public class MetricsRegistry {
+    private static final long[] BUCKET_BOUNDS_US = {50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000};
+    public static final int BUCKET_COUNT = BUCKET_BOUNDS_US.length + 1;
+    private static final int COUNT = 0;
+    private static final int ERRORS = 1;
+    private static final int TOTAL_NANOS = 2;
+    private static final int MAX_NANOS = 3;
+    private static final int FIRST_BUCKET = 4;
+    private static final int STRIDE = FIRST_BUCKET + BUCKET_COUNT;
+    private static final int PAGE_HEADER_SIZE = 64;
+    public static final int PAGE_SIZE = PAGE_HEADER_SIZE + RemoteMethod.COUNT * STRIDE * 8;
+
+    private final AtomicLongArray values = new AtomicLongArray(RemoteMethod.COUNT * STRIDE);
+    @Nullable
+    private volatile ByteBuffer page;
+    private long pageSequence;
+
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * @param method    one of RemoteMethod values
+     * @param startTime value returned by {@link #start()}
+     * @param failed    true if call threw or returned error
+     */
+    public void record(int method, long startTime, boolean failed) {
+        long elapsed = System.nanoTime() - startTime;
+        int row = method * STRIDE;
+        values.incrementAndGet(row + COUNT);
+        if (failed) {
+            values.incrementAndGet(row + ERRORS);
+            Trace.event(TraceEvent.RemoteCallFailed, method, elapsed / 1000);
+        }
+        values.addAndGet(row + TOTAL_NANOS, elapsed);
+        long max;
+        do {
+            max = values.get(row + MAX_NANOS);
+        } while (elapsed > max && !values.compareAndSet(row + MAX_NANOS, max, elapsed));
+        values.incrementAndGet(row + FIRST_BUCKET + bucket(elapsed / 1000));
+        if (null != page)
+            publishRow(method);
+    }
+
+    private static int bucket(long micros) {
+        for (int i = 0; i < BUCKET_BOUNDS_US.length; i++) {
+            if (micros < BUCKET_BOUNDS_US[i])
+                return i;
+        }
+        return BUCKET_BOUNDS_US.length;
+    }
+
+    public long getCount(int method) {
+        return values.get(method * STRIDE + COUNT);
+    }
+
+    public synchronized void reset() {
+        for (int i = 0; i < values.length(); i++)
+            values.set(i, 0);
+        publishPage();
+    }
+
+    /*
+     * Sets native stats page, pointer equal to 0 stops publishing.
+     */
+    public synchronized void setNativePage(long pointer, int size) {
+        if (0 == pointer) {
+            page = null;
+            return;
+        }
+        if (size < PAGE_SIZE)
+            throw new IllegalArgumentException("Metrics page must have at least " + PAGE_SIZE + " bytes: " + size);
+        ByteBuffer buffer = NativeMemory.wrap(pointer, PAGE_SIZE);
+        buffer.putInt(8, RemoteMethod.COUNT);
+        buffer.putInt(12, BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_BOUNDS_US.length; i++)
+            buffer.putInt(16 + i * 4, (int) BUCKET_BOUNDS_US[i]);
+        pageSequence = 0;
+        page = buffer;
+        publishPage();
+    }
+
+    private synchronized void publishRow(int method) {
+        ByteBuffer buffer = page;
+        if (null == buffer)
+            return;
+        buffer.putLong(0, ++pageSequence);
+        NativeMemory.fullFence();
+        writeRow(buffer, method);
+        NativeMemory.fullFence();
+        buffer.putLong(0, ++pageSequence);
+    }
+
+    private void publishPage() {
+        ByteBuffer buffer = page;
+        if (null == buffer)
+            return;
+        buffer.putLong(0, ++pageSequence);
+        NativeMemory.fullFence();
+        for (int method = 0; method < RemoteMethod.COUNT; method++)
+            writeRow(buffer, method);
+        NativeMemory.fullFence();
+        buffer.putLong(0, ++pageSequence);
+    }
+
+    private void writeRow(ByteBuffer buffer, int method) {
+        int offset = PAGE_HEADER_SIZE + method * STRIDE * 8;
+        int row = method * STRIDE;
+        for (int i = 0; i < STRIDE; i++)
+            buffer.putLong(offset + i * 8, values.get(row + i));
+    }
+
+    /*
+     * Human readable dump of all methods that were called at least once.
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("method count errors avg_us max_us");
+        for (long bound : BUCKET_BOUNDS_US)
+            builder.append(" <").append(bound);
+        builder.append(" >=").append(BUCKET_BOUNDS_US[BUCKET_BOUNDS_US.length - 1]).append('\n');
+        for (int method = 0; method < RemoteMethod.COUNT; method++) {
+            int row = method * STRIDE;
+            long count = values.get(row + COUNT);
+            if (count == 0)
+                continue;
+            builder.append(RemoteMethod.NAMES[method]).append(' ')
+                    .append(count).append(' ')
+                    .append(values.get(row + ERRORS)).append(' ')
+                    .append(String.format(Locale.US, "%.1f", values.get(row + TOTAL_NANOS) / 1000.0 / count)).append(' ')
+                    .append(values.get(row + MAX_NANOS) / 1000);
+            for (int i = 0; i < BUCKET_COUNT; i++)
+                builder.append(' ').append(values.get(row + FIRST_BUCKET + i));
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Last edit: 17.10.2026, 03:53
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.metrics;
+
+/*
+ * Identifiers of measured remote calls, values are row indexes in metrics stats page.
+ * Error count of every method includes calls that threw and calls that returned unsuccessful action result.
+ */
+public class RemoteMethod {
+    public static final int StartStreamingGazeData = 0;
+    public static final int StopStreamingGazeData = 1;
+    public static final int IsStreamingGazeData = 2;
+    public static final int StartCalibrationProcedure = 3;
+    public static final int SubscribeToEyetrackerEvents = 4;
+    public static final int UnsubscribeFromEyetrackerEvents = 5;
+    public static final int GetTrackerAvailability = 6;
+    public static final int GetVersions = 7;
+    public static final int GetDominantEye = 8;
+    public static final int IsCalibrated = 9;
+    public static final int BeginRecordingRawData = 10;
+    public static final int EndRecordingRawData = 11;
+    public static final int StartStreamingRawData = 12;
+    public static final int StopStreamingRawData = 13;
+    public static final int IsStreamingRawData = 14;
+    public static final int StartBuiltInCalibrationProcedure = 15;
+    public static final int GetVisibleFov = 16;
+    public static final int ReadyToReceiveCalibrationPoint = 17;
+    public static final int AbortCalibrationProcedure = 18;
+    public static final int COUNT = 19;
+
+    static final String[] NAMES = {
+            "startStreamingGazeData",
+            "stopStreamingGazeData",
+            "isStreamingGazeData",
+            "startCalibrationProcedure",
+            "subscribeToEyetrackerEvents",
+            "unsubscribeFromEyetrackerEvents",
+            "getTrackerAvailability",
+            "getVersions",
+            "getDominantEye",
+            "isCalibrated",
+            "beginRecordingRawData",
+            "endRecordingRawData",
+            "startStreamingRawData",
+            "stopStreamingRawData",
+            "isStreamingRawData",
+            "startBuiltInCalibrationProcedure",
+            "getVisibleFov",
+            "readyToRecieveCalibrationPoint",
+            "abortCalibrationProcedure",
+    };
+
+    private RemoteMethod() {}
+}
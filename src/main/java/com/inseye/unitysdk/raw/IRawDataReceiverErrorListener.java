@@ -0,0 +1,24 @@
+/*
+ * Last edit: 17.10.2026, 02:41
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.raw;
+
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+/*
+ * Invoked on receiver thread when raw data stream ends without being stopped by client.
+ */
+public interface IRawDataReceiverErrorListener {
+    /**
+     * @param exception read error or null if service closed the stream
+     */
+    void onRawDataStreamClosed(@Nullable IOException exception);
+}
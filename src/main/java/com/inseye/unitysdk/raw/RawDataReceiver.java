@@ -0,0 +1,185 @@
+/*
+ * Last edit: 17.10.2026, 03:51
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.raw;
+
+import android.os.ParcelFileDescriptor;
+import android.os.Process;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.Log;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*
+ * Reads raw binary data stream returned by service on dedicated thread straight into ring buffer placed in Unity memory.
+ * Every read lands directly in a ring buffer slot, no java arrays are allocated or copied.
+ * Slot layout must match struct layout from UnitySDK C# code in class Inseye.Internal.RawDataChunk:
+ *
+ * offset  0: int  length        - number of valid payload bytes
+ * offset  4: int  flags         - FLAG_DISCONTINUITY when bytes were dropped right before this chunk
+ * offset  8: long stream offset - position of first payload byte in raw data stream
+ * offset 16: payload
+ *
+ * Stream is chunked at read boundaries, payloads of consecutive slots form one continuous byte stream
+ * as long as no chunk is flagged. When Unity does not keep up, data is still drained from the stream
+ * so service is never blocked, dropped chunks are counted in ring buffer header and the next published chunk
+ * is flagged. Stream offset minus end of previous chunk is number of lost bytes. Unity must drop partially
+ * parsed frame on discontinuity and resynchronize at next frame boundary of raw data format.
+ */
+public class RawDataReceiver implements Runnable {
+    public static final int CHUNK_HEADER_SIZE = 16;
+    public static final int FLAG_DISCONTINUITY = 1;
+
+    private final ParcelFileDescriptor stream;
+    private final NativeRingBuffer ring;
+    private final ByteBuffer[] payloads;
+    private final ByteBuffer discarded;
+    @Nullable
+    private final IRawDataReceiverErrorListener errorListener;
+    private FileChannel channel;
+    private Thread thread;
+    private volatile boolean running;
+    private long receivedBytes;
+    private long streamOffset;
+    private boolean discontinuity;
+
+    /**
+     * @param stream        read end of raw data stream returned by service, receiver takes ownership
+     * @param address       pointer to memory block allocated by Unity
+     * @param sizeInBytes   size of memory block
+     * @param chunkSize     size of ring buffer slot including chunk header
+     * @param errorListener notified when stream ends without being stopped
+     */
+    public RawDataReceiver(ParcelFileDescriptor stream, long address, int sizeInBytes, int chunkSize,
+                           @Nullable IRawDataReceiverErrorListener errorListener) {
+        validateRingBuffer(sizeInBytes, chunkSize);
+        this.stream = stream;
+        this.ring = new NativeRingBuffer(address, sizeInBytes, chunkSize);
+        this.errorListener = errorListener;
+        // payload views of every slot are created once, so reading does not allocate
+        ByteBuffer buffer = ring.getBuffer();
+        payloads = new ByteBuffer[ring.getCapacity()];
+        for (int i = 0; i < payloads.length; i++) {
+            ByteBuffer view = buffer.duplicate();
+            int slotOffset = NativeRingBuffer.HEADER_SIZE + i * chunkSize;
+            view.limit(slotOffset + chunkSize).position(slotOffset + CHUNK_HEADER_SIZE);
+            payloads[i] = view.slice();
+        }
+        discarded = ByteBuffer.allocateDirect(chunkSize - CHUNK_HEADER_SIZE);
+    }
+
+    /*
+     * Checks ring buffer described by Unity before stream is requested from service.
+     */
+    public static void validateRingBuffer(int sizeInBytes, int chunkSize) {
+        if (chunkSize <= CHUNK_HEADER_SIZE)
+            throw new IllegalArgumentException("Raw data chunk is too small: " + chunkSize);
+        if (sizeInBytes < NativeRingBuffer.HEADER_SIZE + chunkSize)
+            throw new IllegalArgumentException("Raw data ring buffer memory is too small: " + sizeInBytes);
+    }
+
+    public void start() {
+        if (running)
+            return;
+        channel = new ParcelFileDescriptor.AutoCloseInputStream(stream).getChannel();
+        running = true;
+        thread = new Thread(this, "InseyeRawDataReceiver");
+        thread.setDaemon(true);
+        thread.start();
+        Log.i("Raw data receiver started");
+    }
+
+    public void stop() {
+        if (!running)
+            return;
+        running = false;
+        // interrupting thread blocked in channel read closes the channel
+        thread.interrupt();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeQuietly();
+        Log.i("Raw data receiver stopped, received bytes: " + receivedBytes + " dropped chunks: " + ring.getDroppedCount());
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_URGENT_DISPLAY);
+        IOException failure = null;
+        try {
+            while (running) {
+                int offset = ring.claim();
+                ByteBuffer target = offset < 0 ? discarded : payloads[(offset - NativeRingBuffer.HEADER_SIZE) / ring.getSlotSize()];
+                target.clear();
+                int read = channel.read(target);
+                if (read < 0)
+                    break;
+                if (read == 0)
+                    continue;
+                long chunkOffset = streamOffset;
+                streamOffset += read;
+                if (offset < 0) {
+                    discontinuity = true;
+                    continue;
+                }
+                receivedBytes += read;
+                ByteBuffer buffer = ring.getBuffer();
+                buffer.putInt(offset, read);
+                buffer.putInt(offset + 4, discontinuity ? FLAG_DISCONTINUITY : 0);
+                buffer.putLong(offset + 8, chunkOffset);
+                discontinuity = false;
+                ring.publish();
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            boolean unexpected = running;
+            running = false;
+            if (unexpected) {
+                if (null != failure)
+                    Log.e("Raw data receiver failed", failure);
+                else
+                    Log.i("Raw data stream closed by service");
+                closeQuietly();
+                if (null != errorListener)
+                    errorListener.onRawDataStreamClosed(failure);
+            }
+        }
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    public long getDroppedCount() {
+        return ring.getDroppedCount();
+    }
+
+    private void closeQuietly() {
+        try {
+            if (null != channel)
+                channel.close();
+            else
+                stream.close();
+        } catch (IOException e) {
+            Log.e("Failed to close raw data stream", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Last edit: 17.10.2026, 02:47
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.recording;
+
+/*
+ * Binary layout of gaze session file, all values are little endian.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.GazeSessionFile:
+ *
+ * header:
+ * offset  0: int  magic           - MAGIC
+ * offset  4: int  formatVersion   - FORMAT_VERSION
+ * offset  8: int  headerSize      - HEADER_SIZE
+ * offset 12: int  recordSize      - RECORD_SIZE
+ * offset 16: long recordCount     - number of complete records, updated after every gaze batch
+ * offset 24: long startWallClock  - wall clock time of recording start in milliseconds
+ * offset 32: long startMonotonic  - elapsedRealtimeNanos at recording start
+ * offset 40: int  dominantEye     - Eye value
+ * offset 44: int  flags           - FLAG_* values
+ * offset 48: int  versionsLength  - length of versions string in bytes
+ * offset 52: versions             - UTF-8 versions string returned by getVersions
+ *
+ * records, starting at HEADER_SIZE:
+ * offset  0: long  timestamp
+ * offset  8: float leftX
+ * offset 12: float leftY
+ * offset 16: float rightX
+ * offset 20: float rightY
+ * offset 24: int   gazeEvent
+ * offset 28: int   reserved
+ *
+ * File crashed during recording keeps recordCount of last finished batch, records past it must be ignored.
+ */
+public final class GazeSessionFormat {
+    public static final int MAGIC = 0x52475A49; // "IZGR"
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 256;
+    public static final int RECORD_SIZE = 32;
+    // recording was finished with close, file is truncated to record count
+    public static final int FLAG_CLOSED = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int FORMAT_VERSION_OFFSET = 4;
+    static final int HEADER_SIZE_OFFSET = 8;
+    static final int RECORD_SIZE_OFFSET = 12;
+    static final int RECORD_COUNT_OFFSET = 16;
+    static final int START_WALL_CLOCK_OFFSET = 24;
+    static final int START_MONOTONIC_OFFSET = 32;
+    static final int DOMINANT_EYE_OFFSET = 40;
+    static final int FLAGS_OFFSET = 44;
+    static final int VERSIONS_LENGTH_OFFSET = 48;
+    static final int VERSIONS_OFFSET = 52;
+    static final int MAX_VERSIONS_LENGTH = HEADER_SIZE - VERSIONS_OFFSET;
+
+    private GazeSessionFormat() {}
+}
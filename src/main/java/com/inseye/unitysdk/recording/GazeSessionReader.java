@@ -0,0 +1,126 @@
+/*
+ * Last edit: 17.10.2026, 02:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.recording;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Reads session files written by GazeSessionRecorder, records are read in chunks into reusable direct buffer,
+ * so sessions of any length are read with fixed memory.
+ * Files of crashed recordings are accepted, only records counted in header are read.
+ */
+public class GazeSessionReader implements Closeable {
+    private static final int CHUNK_RECORDS = 256;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_RECORDS * GazeSessionFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final long recordCount;
+    private final boolean closedCleanly;
+    private final int dominantEye;
+    private final long startWallClock;
+    private final String versions;
+
+    public GazeSessionReader(File path) throws IOException {
+        file = new RandomAccessFile(path, "r");
+        channel = file.getChannel();
+        try {
+            ByteBuffer header = ByteBuffer.allocate(GazeSessionFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0)
+                    throw new IOException("Gaze session file is truncated: " + path);
+            }
+            if (header.getInt(GazeSessionFormat.MAGIC_OFFSET) != GazeSessionFormat.MAGIC)
+                throw new IOException("Not a gaze session file: " + path);
+            if (header.getInt(GazeSessionFormat.FORMAT_VERSION_OFFSET) != GazeSessionFormat.FORMAT_VERSION
+                    || header.getInt(GazeSessionFormat.RECORD_SIZE_OFFSET) != GazeSessionFormat.RECORD_SIZE)
+                throw new IOException("Unsupported gaze session format version: " + header.getInt(GazeSessionFormat.FORMAT_VERSION_OFFSET));
+            // records past the end of file may be missing when crashed recording did not grow the file yet
+            long recordsInFile = (channel.size() - GazeSessionFormat.HEADER_SIZE) / GazeSessionFormat.RECORD_SIZE;
+            recordCount = Math.min(header.getLong(GazeSessionFormat.RECORD_COUNT_OFFSET), recordsInFile);
+            closedCleanly = (header.getInt(GazeSessionFormat.FLAGS_OFFSET) & GazeSessionFormat.FLAG_CLOSED) != 0;
+            dominantEye = header.getInt(GazeSessionFormat.DOMINANT_EYE_OFFSET);
+            startWallClock = header.getLong(GazeSessionFormat.START_WALL_CLOCK_OFFSET);
+            int versionsLength = Math.min(header.getInt(GazeSessionFormat.VERSIONS_LENGTH_OFFSET), GazeSessionFormat.MAX_VERSIONS_LENGTH);
+            byte[] versionBytes = new byte[Math.max(0, versionsLength)];
+            header.position(GazeSessionFormat.VERSIONS_OFFSET);
+            header.get(versionBytes);
+            versions = new String(versionBytes, StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends consecutive records to the batch until batch is full or session ends.
+     *
+     * @param firstRecord index of first record to read
+     * @param batch       batch receiving samples
+     * @return number of appended records
+     */
+    public int read(long firstRecord, GazeSampleBatch batch) throws IOException {
+        int count = (int) Math.min(batch.capacity() - batch.size(), Math.max(0, recordCount - firstRecord));
+        int appended = 0;
+        while (appended < count) {
+            int records = Math.min(count - appended, CHUNK_RECORDS);
+            chunk.clear().limit(records * GazeSessionFormat.RECORD_SIZE);
+            long position = GazeSessionFormat.HEADER_SIZE + (firstRecord + appended) * GazeSessionFormat.RECORD_SIZE;
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, position + chunk.position()) < 0)
+                    throw new IOException("Gaze session file ended before last record");
+            }
+            for (int i = 0; i < records; i++) {
+                int offset = i * GazeSessionFormat.RECORD_SIZE;
+                batch.add(chunk.getLong(offset), chunk.getFloat(offset + 8), chunk.getFloat(offset + 12),
+                        chunk.getFloat(offset + 16), chunk.getFloat(offset + 20), chunk.getInt(offset + 24));
+            }
+            appended += records;
+        }
+        return appended;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /*
+     * False for files of recordings that did not finish, e.g. because application crashed.
+     */
+    public boolean isClosedCleanly() {
+        return closedCleanly;
+    }
+
+    public int getDominantEye() {
+        return dominantEye;
+    }
+
+    public long getStartWallClock() {
+        return startWallClock;
+    }
+
+    public String getVersions() {
+        return versions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
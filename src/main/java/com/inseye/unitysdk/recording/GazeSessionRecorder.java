@@ -0,0 +1,246 @@
+/*
+ * Last edit: 17.10.2026, 02:47
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.recording;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.Log;
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Appends every gaze sample to memory mapped session file, see GazeSessionFormat for the layout.
+ * File grows in segments mapped one after another. Next segment is mapped in advance and dirty pages are forced
+ * to storage periodically on background thread, so receiver thread only stores to mapped memory.
+ * Records written before a crash of the application stay in page cache and are not lost,
+ * forced flushes limit loss on crash of the device to flush interval.
+ */
+public class GazeSessionRecorder implements IGazeBatchConsumer, Runnable {
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int segmentSize;
+    private final long flushIntervalMs;
+    private final Thread flusher;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    // prepared by flusher thread, so receiver thread does not map files
+    @Nullable
+    private MappedByteBuffer spareSegment;
+    // filled segment that was not forced yet
+    @Nullable
+    private MappedByteBuffer retiredSegment;
+    private long recordCount;
+    private boolean open;
+
+    /**
+     * @param file               session file, overwritten if exists
+     * @param versions           versions string written to header, truncated to header space
+     * @param dominantEye        Eye value written to header
+     * @param segmentSizeInBytes size of single mapped segment, rounded down to whole records
+     * @param flushIntervalMs    interval of forced flushes to storage
+     */
+    public GazeSessionRecorder(File file, String versions, int dominantEye, int segmentSizeInBytes, long flushIntervalMs) throws IOException {
+        if (segmentSizeInBytes < GazeSessionFormat.RECORD_SIZE)
+            throw new IllegalArgumentException("Segment is smaller than single record: " + segmentSizeInBytes);
+        if (flushIntervalMs <= 0)
+            throw new IllegalArgumentException("Invalid flush interval: " + flushIntervalMs);
+        this.file = file;
+        this.segmentSize = segmentSizeInBytes - segmentSizeInBytes % GazeSessionFormat.RECORD_SIZE;
+        this.flushIntervalMs = flushIntervalMs;
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.setLength(0);
+            channel = randomAccessFile.getChannel();
+            header = map(0, GazeSessionFormat.HEADER_SIZE);
+            writeHeader(versions, dominantEye);
+            segment = mapSegment(0);
+        } catch (IOException | RuntimeException e) {
+            randomAccessFile.close();
+            throw e;
+        }
+        open = true;
+        flusher = new Thread(this, "InseyeSessionRecorder");
+        flusher.setDaemon(true);
+        flusher.start();
+        Log.i("Gaze session recording started: " + file.getPath());
+    }
+
+    private void writeHeader(String versions, int dominantEye) {
+        byte[] versionBytes = versions.getBytes(StandardCharsets.UTF_8);
+        int versionsLength = Math.min(versionBytes.length, GazeSessionFormat.MAX_VERSIONS_LENGTH);
+        header.putInt(GazeSessionFormat.MAGIC_OFFSET, GazeSessionFormat.MAGIC);
+        header.putInt(GazeSessionFormat.FORMAT_VERSION_OFFSET, GazeSessionFormat.FORMAT_VERSION);
+        header.putInt(GazeSessionFormat.HEADER_SIZE_OFFSET, GazeSessionFormat.HEADER_SIZE);
+        header.putInt(GazeSessionFormat.RECORD_SIZE_OFFSET, GazeSessionFormat.RECORD_SIZE);
+        header.putLong(GazeSessionFormat.RECORD_COUNT_OFFSET, 0);
+        header.putLong(GazeSessionFormat.START_WALL_CLOCK_OFFSET, System.currentTimeMillis());
+        header.putLong(GazeSessionFormat.START_MONOTONIC_OFFSET, SystemClock.elapsedRealtimeNanos());
+        header.putInt(GazeSessionFormat.DOMINANT_EYE_OFFSET, dominantEye);
+        header.putInt(GazeSessionFormat.FLAGS_OFFSET, 0);
+        header.putInt(GazeSessionFormat.VERSIONS_LENGTH_OFFSET, versionsLength);
+        for (int i = 0; i < versionsLength; i++)
+            header.put(GazeSessionFormat.VERSIONS_OFFSET + i, versionBytes[i]);
+        header.force();
+    }
+
+    @Override
+    public synchronized void onGazeBatch(GazeSampleBatch batch) {
+        if (!open)
+            return;
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                if (!segment.hasRemaining())
+                    nextSegment();
+                segment.putLong(batch.timestamps[i]);
+                segment.putFloat(batch.leftX[i]);
+                segment.putFloat(batch.leftY[i]);
+                segment.putFloat(batch.rightX[i]);
+                segment.putFloat(batch.rightY[i]);
+                segment.putInt(batch.gazeEvents[i]);
+                segment.putInt(0);
+                recordCount++;
+            }
+        } catch (IOException e) {
+            Log.e("Failed to grow gaze session file, recording stopped", e);
+            open = false;
+        }
+        // count is stored after records, so reader of crashed file never sees partially written record
+        header.putLong(GazeSessionFormat.RECORD_COUNT_OFFSET, recordCount);
+    }
+
+    private void nextSegment() throws IOException {
+        retiredSegment = segment;
+        segmentIndex++;
+        if (null != spareSegment) {
+            segment = spareSegment;
+            spareSegment = null;
+        } else {
+            segment = mapSegment(segmentIndex);
+        }
+    }
+
+    /*
+     * Flusher loop, maps next segment ahead of time and forces dirty pages to storage.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            // waits on monitor instead of being interrupted, interrupt would close the channel during map
+            synchronized (this) {
+                if (!open)
+                    return;
+                try {
+                    wait(flushIntervalMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            if (!flush())
+                return;
+        }
+    }
+
+    private boolean flush() {
+        MappedByteBuffer current;
+        MappedByteBuffer retired;
+        int spareIndex;
+        synchronized (this) {
+            if (!open)
+                return false;
+            current = segment;
+            retired = retiredSegment;
+            retiredSegment = null;
+            spareIndex = null == spareSegment ? segmentIndex + 1 : -1;
+        }
+        try {
+            if (spareIndex > 0) {
+                MappedByteBuffer spare = mapSegment(spareIndex);
+                synchronized (this) {
+                    if (segmentIndex + 1 == spareIndex)
+                        spareSegment = spare;
+                }
+            }
+        } catch (IOException e) {
+            // receiver thread maps segment itself when spare is missing
+            Log.e("Failed to map next gaze session segment", e);
+        }
+        // forcing takes milliseconds, it is done outside of the lock so receiver thread is never blocked by it
+        if (null != retired)
+            retired.force();
+        current.force();
+        header.force();
+        return true;
+    }
+
+    /*
+     * Finishes recording, forces all records to storage and trims preallocated space of the last segment.
+     */
+    public void close() {
+        synchronized (this) {
+            if (!open && null == segment)
+                return;
+            open = false;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                if (null != retiredSegment)
+                    retiredSegment.force();
+                segment.force();
+                header.putLong(GazeSessionFormat.RECORD_COUNT_OFFSET, recordCount);
+                header.putInt(GazeSessionFormat.FLAGS_OFFSET, GazeSessionFormat.FLAG_CLOSED);
+                header.force();
+                segment = null;
+                retiredSegment = null;
+                spareSegment = null;
+                channel.truncate(GazeSessionFormat.HEADER_SIZE + recordCount * GazeSessionFormat.RECORD_SIZE);
+                randomAccessFile.close();
+            } catch (IOException e) {
+                Log.e("Failed to finish gaze session file", e);
+            }
+        }
+        Log.i("Gaze session recording finished: " + file.getPath() + ", records: " + recordCount);
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        return map(GazeSessionFormat.HEADER_SIZE + (long) index * segmentSize, segmentSize);
+    }
+
+    private MappedByteBuffer map(long position, int size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+}
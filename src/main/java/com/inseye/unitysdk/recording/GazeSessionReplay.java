@@ -0,0 +1,186 @@
+/*
+ * Last edit: 17.10.2026, 02:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.recording;
+
+import androidx.annotation.Nullable;
+
+import com.inseye.unitysdk.Log;
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Re-emits recorded gaze session on dedicated thread to a gaze batch consumer,
+ * e.g. GazeDatagramSender imitating service or gaze pipeline of the plugin.
+ * Emitted timestamps keep recorded spacing but are shifted, so the first sample is stamped with replay start
+ * wall clock time and every loop continues where previous one ended.
+ */
+public class GazeSessionReplay implements Runnable {
+    // replays without waiting, sample timestamps are not related to wall clock
+    public static final float AS_FAST_AS_POSSIBLE = 0;
+    private static final int BATCH_CAPACITY = 256;
+
+    private final GazeSessionReader reader;
+    private final IGazeBatchConsumer target;
+    private final float speed;
+    private final boolean loop;
+    @Nullable
+    private final Runnable finishedListener;
+    private final GazeSampleBatch source = new GazeSampleBatch(BATCH_CAPACITY);
+    private final GazeSampleBatch due = new GazeSampleBatch(BATCH_CAPACITY);
+    private long startNanos;
+    private long startWallClock;
+    private Thread thread;
+    private volatile boolean running;
+    private volatile long replayedCount;
+    private volatile int loopCount;
+
+    /**
+     * @param reader           session to replay, replay takes ownership and closes it
+     * @param target           consumer receiving replayed batches on replay thread
+     * @param speed            1 replays in real time, higher values accelerate, AS_FAST_AS_POSSIBLE does not wait
+     * @param loop             starts session again after it ends
+     * @param finishedListener invoked on replay thread when session ends without loop
+     */
+    public GazeSessionReplay(GazeSessionReader reader, IGazeBatchConsumer target, float speed, boolean loop,
+                             @Nullable Runnable finishedListener) {
+        if (speed < 0 || Float.isNaN(speed))
+            throw new IllegalArgumentException("Invalid replay speed: " + speed);
+        if (reader.getRecordCount() == 0)
+            throw new IllegalArgumentException("Gaze session is empty");
+        this.reader = reader;
+        this.target = target;
+        this.speed = speed;
+        this.loop = loop;
+        this.finishedListener = finishedListener;
+    }
+
+    public void start() {
+        if (running)
+            return;
+        running = true;
+        thread = new Thread(this, "InseyeGazeReplay");
+        thread.setDaemon(true);
+        thread.start();
+        Log.i("Gaze session replay started, records: " + reader.getRecordCount() + " speed: " + speed + " loop: " + loop);
+    }
+
+    public void stop() {
+        if (null == thread)
+            return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Log.i("Gaze session replay stopped, replayed samples: " + replayedCount);
+    }
+
+    @Override
+    public void run() {
+        boolean finished = false;
+        try {
+            startNanos = System.nanoTime();
+            startWallClock = System.currentTimeMillis();
+            // recorded time of the first sample in the current loop
+            long loopOrigin = 0;
+            // session time at which current loop starts
+            long loopOffset = 0;
+            long lastSessionTime = 0;
+            long record = 0;
+            while (running) {
+                source.clear();
+                reader.read(record, source);
+                int size = source.size();
+                if (record == 0)
+                    loopOrigin = source.timestamps[0];
+                for (int i = 0; i < size; i++) {
+                    lastSessionTime = loopOffset + source.timestamps[i] - loopOrigin;
+                    source.timestamps[i] = startWallClock + lastSessionTime;
+                }
+                emit();
+                record += size;
+                if (record < reader.getRecordCount())
+                    continue;
+                if (!loop) {
+                    finished = running;
+                    break;
+                }
+                // next loop starts one average sample interval after last sample of the session
+                long sessionDuration = lastSessionTime - loopOffset;
+                loopOffset = lastSessionTime + Math.max(1, sessionDuration / Math.max(1, record - 1));
+                record = 0;
+                loopCount++;
+            }
+        } catch (IOException e) {
+            Log.e("Gaze session replay failed", e);
+        } finally {
+            running = false;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                Log.e("Failed to close gaze session", e);
+            }
+        }
+        if (finished) {
+            Log.i("Gaze session replay finished, replayed samples: " + replayedCount);
+            if (null != finishedListener)
+                finishedListener.run();
+        }
+    }
+
+    /*
+     * Passes samples of source batch to target as soon as they are due, samples due at the same time share one batch.
+     */
+    private void emit() {
+        if (speed == AS_FAST_AS_POSSIBLE) {
+            target.onGazeBatch(source);
+            replayedCount += source.size();
+            return;
+        }
+        int next = 0;
+        while (next < source.size() && running) {
+            long nowNanos = System.nanoTime();
+            long dueNanos = dueNanos(source.timestamps[next]);
+            if (dueNanos > nowNanos) {
+                LockSupport.parkNanos(dueNanos - nowNanos);
+                continue;
+            }
+            due.clear();
+            while (next < source.size() && dueNanos(source.timestamps[next]) <= nowNanos) {
+                due.add(source.timestamps[next], source.leftX[next], source.leftY[next], source.rightX[next],
+                        source.rightY[next], source.gazeEvents[next]);
+                next++;
+            }
+            target.onGazeBatch(due);
+            replayedCount += due.size();
+        }
+    }
+
+    private long dueNanos(long timestamp) {
+        return startNanos + (long) ((timestamp - startWallClock) * 1_000_000L / (double) speed);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getReplayedCount() {
+        return replayedCount;
+    }
+
+    public int getLoopCount() {
+        return loopCount;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Last edit: 17.10.2026, 03:36
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.tests;
+
+import android.os.Debug;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+
+import java.util.Locale;
+
+/*
+ * Measures gaze stream produced by SyntheticGazeGenerator of service proxy at the end of gaze pipeline:
+ * throughput, samples lost between generator and pipeline, latency percentiles and garbage collections.
+ * Latency is measured from sample timestamp, which has millisecond resolution, so it is reported in whole
+ * milliseconds, percentiles are upper bounds of 1 ms buckets.
+ * Registered as last gaze pipeline consumer, so latency covers transport, decoding, filters and all other consumers.
+ * Proxy creates new generator every time gaze stream is restarted, counters of previous generators are kept.
+ */
+public class GazeSoakTest implements IGazeBatchConsumer {
+    private static final int LATENCY_BUCKETS = 1000;
+
+    private final ServiceConnectionProxy proxy;
+    private final long[] latencyHistogram = new long[LATENCY_BUCKETS + 1];
+    private SyntheticGazeGenerator generator;
+    private long startNanos;
+    // generator counters at start or reset, 0 for generators created later
+    private long startSentSamples;
+    private long startLostSamples;
+    private long startDuplicatedSamples;
+    // counters of generators replaced since start or reset
+    private long previousSentSamples;
+    private long previousLostSamples;
+    private long previousDuplicatedSamples;
+    private long generatorRestarts;
+    private long startGcCount;
+    private long startGcTimeMs;
+    private long receivedSamples;
+    private long receivedBatches;
+    private long receivedDuplicates;
+    private double maxLatencyMs;
+    // generator sends duplicated packet right after the original, so duplicate repeats timestamps of previous batch
+    private int lastBatchSize;
+    private long lastBatchFirst;
+    private long lastBatchLast;
+
+    /**
+     * @param proxy service proxy streaming synthetic gaze, its generator must be running
+     */
+    public GazeSoakTest(ServiceConnectionProxy proxy) {
+        SyntheticGazeGenerator current = proxy.getSyntheticGazeGenerator();
+        if (null == current)
+            throw new IllegalStateException("Synthetic gaze is not streamed by service proxy");
+        this.proxy = proxy;
+        this.generator = current;
+        reset();
+    }
+
+    public synchronized void reset() {
+        startNanos = System.nanoTime();
+        startSentSamples = generator.getSentSamples();
+        startLostSamples = generator.getLostSamples();
+        startDuplicatedSamples = generator.getDuplicatedSamples();
+        previousSentSamples = 0;
+        previousLostSamples = 0;
+        previousDuplicatedSamples = 0;
+        generatorRestarts = 0;
+        startGcCount = runtimeStat("art.gc.gc-count");
+        startGcTimeMs = runtimeStat("art.gc.gc-time");
+        receivedSamples = 0;
+        receivedBatches = 0;
+        receivedDuplicates = 0;
+        lastBatchSize = 0;
+        maxLatencyMs = 0;
+        for (int i = 0; i < latencyHistogram.length; i++)
+            latencyHistogram[i] = 0;
+    }
+
+    @Override
+    public synchronized void onGazeBatch(GazeSampleBatch batch) {
+        followGenerator();
+        double now = generator.toWallClockMs(System.nanoTime());
+        int size = batch.size();
+        for (int i = 0; i < size; i++) {
+            double latencyMs = now - batch.timestamps[i];
+            if (latencyMs > maxLatencyMs)
+                maxLatencyMs = latencyMs;
+            int bucket = (int) Math.max(0, latencyMs);
+            latencyHistogram[Math.min(bucket, LATENCY_BUCKETS)]++;
+        }
+        if (size == lastBatchSize && batch.timestamps[0] == lastBatchFirst && batch.timestamps[size - 1] == lastBatchLast)
+            receivedDuplicates += size;
+        lastBatchSize = size;
+        lastBatchFirst = batch.timestamps[0];
+        lastBatchLast = batch.timestamps[size - 1];
+        receivedSamples += size;
+        receivedBatches++;
+    }
+
+    /*
+     * Moves counters of generator replaced by restarted gaze stream to previous counters.
+     */
+    private void followGenerator() {
+        SyntheticGazeGenerator current = proxy.getSyntheticGazeGenerator();
+        if (null == current || current == generator)
+            return;
+        previousSentSamples += generator.getSentSamples() - startSentSamples;
+        previousLostSamples += generator.getLostSamples() - startLostSamples;
+        previousDuplicatedSamples += generator.getDuplicatedSamples() - startDuplicatedSamples;
+        startSentSamples = 0;
+        startLostSamples = 0;
+        startDuplicatedSamples = 0;
+        generatorRestarts++;
+        generator = current;
+    }
+
+    /*
+     * Returns report of measurements since start or last reset, samples still in flight are counted as dropped.
+     * Duplicates are left out of dropped samples on both sides, whether integrity monitor dropped them or not.
+     */
+    public synchronized String getReport() {
+        followGenerator();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long sent = previousSentSamples + generator.getSentSamples() - startSentSamples;
+        long duplicated = previousDuplicatedSamples + generator.getDuplicatedSamples() - startDuplicatedSamples;
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.US, "duration_s %.1f\n", seconds));
+        builder.append("generator_restarts ").append(generatorRestarts).append('\n');
+        builder.append("sent_samples ").append(sent).append('\n');
+        builder.append("lost_by_generator ").append(previousLostSamples + generator.getLostSamples() - startLostSamples).append('\n');
+        builder.append("duplicated_by_generator ").append(duplicated).append('\n');
+        builder.append("received_samples ").append(receivedSamples).append('\n');
+        builder.append("received_duplicates ").append(receivedDuplicates).append('\n');
+        builder.append("received_batches ").append(receivedBatches).append('\n');
+        builder.append("dropped_samples ").append(sent - duplicated - (receivedSamples - receivedDuplicates)).append('\n');
+        builder.append(String.format(Locale.US, "throughput_samples_per_s %.1f\n", receivedSamples / seconds));
+        builder.append(String.format(Locale.US, "latency_ms p50 %.0f p90 %.0f p99 %.0f p999 %.0f max %.0f\n",
+                percentile(0.5), percentile(0.9), percentile(0.99), percentile(0.999), Math.ceil(maxLatencyMs)));
+        builder.append("gc_count ").append(runtimeStat("art.gc.gc-count") - startGcCount).append('\n');
+        builder.append("gc_time_ms ").append(runtimeStat("art.gc.gc-time") - startGcTimeMs).append('\n');
+        return builder.toString();
+    }
+
+    private double percentile(double fraction) {
+        long total = 0;
+        for (long count : latencyHistogram)
+            total += count;
+        if (total == 0)
+            return Double.NaN;
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += latencyHistogram[i];
+            if (seen >= rank)
+                return i + 1;
+        }
+        return maxLatencyMs;
+    }
+
+    private static long runtimeStat(String name) {
+        String value = Debug.getRuntimeStat(name);
+        if (null == value)
+            return 0;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Last edit: 28.11.2023, 16:59
+ * Last edit: 17.10.2026, 03:28
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -16,17 +16,24 @@ import androidx.annotation.Nullable;
 
 import com.inseye.shared.communication.ActionResult;
 import com.inseye.shared.communication.CalibrationPoint;
+import com.inseye.shared.communication.CalibrationPointResponse;
 import com.inseye.shared.communication.ICalibrationCallback;
 import com.inseye.shared.communication.IServiceCalibrationCallback;
 import com.inseye.unitysdk.Log;
 
-class MockCalibrationProcedure implements IServiceCalibrationCallback {
+import java.util.ArrayList;
+import java.util.List;
+
+public class MockCalibrationProcedure implements IServiceCalibrationCallback {
 
     @Nullable
     private ICalibrationCallback calibrationCallback;
     private ActionResult onReadyToReceiveCalibrationPoint, onAbortCalibrationProcedure;
     private CalibrationPoint calibrationPointOnReady;
-    MockCalibrationProcedure() {
+    private final List<CalibrationPointResponse> receivedResponses = new ArrayList<>();
+    @Nullable
+    private Thread playbackThread;
+    public MockCalibrationProcedure() {
         onReadyToReceiveCalibrationPoint = ActionResult.success();
         calibrationPointOnReady = new CalibrationPoint(0, 0);
         onAbortCalibrationProcedure = ActionResult.success();
@@ -51,6 +58,54 @@ class MockCalibrationProcedure implements IServiceCalibrationCallback {
         return calibrationCallback;
     }
 
+    /*
+     * Acts as service that sends calibration points back to back, with optional pause between them,
+     * and finishes calibration with given result when all points were sent.
+     */
+    public synchronized void playCalibrationPoints(float[] coordinates, long intervalMs, ActionResult finishResult) {
+        if (null == calibrationCallback)
+            throw new RuntimeException("Callback is null.");
+        if (null != playbackThread && playbackThread.isAlive())
+            throw new RuntimeException("Calibration points are already played.");
+        ICalibrationCallback callback = calibrationCallback;
+        synchronized (receivedResponses) {
+            receivedResponses.clear();
+        }
+        playbackThread = new Thread(() -> {
+            try {
+                for (int i = 0; i + 1 < coordinates.length; i += 2) {
+                    CalibrationPointResponse response = callback.showNextCalibrationPoint(new CalibrationPoint(coordinates[i], coordinates[i + 1]));
+                    synchronized (receivedResponses) {
+                        receivedResponses.add(response);
+                    }
+                    if (intervalMs > 0)
+                        Thread.sleep(intervalMs);
+                }
+                callback.finishCalibration(finishResult);
+            } catch (RemoteException | RuntimeException e) {
+                Log.e("mock: calibration playback failed", e);
+            } catch (InterruptedException e) {
+                Log.i("mock: calibration playback interrupted");
+            }
+        }, "InseyeMockCalibration");
+        playbackThread.start();
+    }
+
+    /*
+     * Waits until all played points were sent and calibration was finished or playback failed.
+     */
+    public void awaitPlayback(long timeoutMs) throws InterruptedException {
+        Thread thread = playbackThread;
+        if (null != thread)
+            thread.join(timeoutMs);
+    }
+
+    public List<CalibrationPointResponse> getReceivedResponses() {
+        synchronized (receivedResponses) {
+            return new ArrayList<>(receivedResponses);
+        }
+    }
+
     @Override
     public ActionResult readyToRecieveCalibrationPoint(CalibrationPoint initialCalibrationPoint) {
         initialCalibrationPoint.x = calibrationPointOnReady.x;
@@ -60,6 +115,9 @@ class MockCalibrationProcedure implements IServiceCalibrationCallback {
 
     @Override
     public ActionResult abortCalibrationProcedure() {
+        Thread thread = playbackThread;
+        if (null != thread)
+            thread.interrupt();
         return onAbortCalibrationProcedure;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Last edit: 28.11.2023, 16:59
+ * Last edit: 17.10.2026, 03:36
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -31,6 +31,9 @@ import com.inseye.shared.communication.TrackerAvailability;
 import com.inseye.shared.communication.Version;
 import com.inseye.shared.communication.VisibleFov;
 import com.inseye.unitysdk.Log;
+import com.inseye.unitysdk.gaze.GazeDatagramSender;
+import com.inseye.unitysdk.recording.GazeSessionReader;
+import com.inseye.unitysdk.recording.GazeSessionReplay;
 import com.inseye.unitysdk.utils.BindingDiedDelegate;
 import com.inseye.unitysdk.utils.IPluggableServiceConnection;
 import com.inseye.unitysdk.utils.NullBindingDelegate;
@@ -39,13 +42,32 @@ import com.inseye.unitysdk.utils.ServiceDisconnectedDelegate;
 import com.unity3d.player.UnityPlayer;
 import com.inseye.shared.R;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
 public class ServiceConnectionProxy extends ISharedService.Stub implements IPluggableServiceConnection {
 
     static class GazeDataSourceMockArguments {
         public final int port;
+        @Nullable
+        public final String replaySessionPath;
+        public final float replaySpeed;
+        public final boolean replayLoop;
+        @Nullable
+        public final SyntheticGazeConfig syntheticGazeConfig;
 
         public GazeDataSourceMockArguments(int port) {
+            this(port, null, 1, false, null);
+        }
+
+        public GazeDataSourceMockArguments(int port, @Nullable String replaySessionPath, float replaySpeed, boolean replayLoop,
+                                           @Nullable SyntheticGazeConfig syntheticGazeConfig) {
             this.port = port;
+            this.replaySessionPath = replaySessionPath;
+            this.replaySpeed = replaySpeed;
+            this.replayLoop = replayLoop;
+            this.syntheticGazeConfig = syntheticGazeConfig;
         }
     }
 
@@ -54,6 +76,13 @@ public class ServiceConnectionProxy extends ISharedService.Stub implements IPlug
     @Nullable
     private GazeDataSourceMockArguments gazeDataSourceMockArguments;
 
+    @Nullable
+    private GazeSessionReplay gazeSessionReplay;
+    @Nullable
+    private volatile SyntheticGazeGenerator syntheticGazeGenerator;
+    @Nullable
+    private GazeDatagramSender gazeDatagramSender;
+
     @Nullable
     private MockCalibrationProcedure mockCalibrationProcedure;
 
@@ -119,27 +148,111 @@ public class ServiceConnectionProxy extends ISharedService.Stub implements IPlug
     }
 
     /*
-     * Disables mock implementation enabled with 'enableMockServiceGazeDataSource'
+     * Same as 'enableMockServiceGazeDataSource', but while gaze data is streamed gaze session
+     * recorded with GazeSessionRecorder is replayed to the port as service datagrams.
+     * Speed 1 replays in real time, higher values accelerate, 0 replays as fast as possible.
+     */
+    public void enableMockServiceGazeSessionReplay(int portReturnedFromStartStreamingGazeData, String sessionPath, float speed, boolean loop) {
+        Log.i("Enabled mock service gaze session replay: " + portReturnedFromStartStreamingGazeData + " session: " + sessionPath);
+        stopMockGazeSource();
+        gazeDataSourceMockArguments = new GazeDataSourceMockArguments(portReturnedFromStartStreamingGazeData, sessionPath, speed, loop, null);
+    }
+
+    /*
+     * Same as 'enableMockServiceGazeDataSource', but while gaze data is streamed synthetic gaze
+     * is generated and sent to the port as service datagrams.
+     */
+    public void enableMockServiceSyntheticGaze(int portReturnedFromStartStreamingGazeData, SyntheticGazeConfig config) {
+        Log.i("Enabled mock service synthetic gaze: " + portReturnedFromStartStreamingGazeData);
+        stopMockGazeSource();
+        gazeDataSourceMockArguments = new GazeDataSourceMockArguments(portReturnedFromStartStreamingGazeData, null, 1, false, config);
+    }
+
+    /*
+     * Disables mock implementation enabled with any of 'enableMockService...' methods
      */
     public void disableMockServiceGazeDataSource() {
+        stopMockGazeSource();
         gazeDataSourceMockArguments = null;
     }
 
+    public boolean isReplayingGazeSession() {
+        GazeSessionReplay replay = gazeSessionReplay;
+        return null != replay && replay.isRunning();
+    }
+
+    /*
+     * Generator of synthetic gaze sending data while gaze data is streamed, null otherwise.
+     */
+    @Nullable
+    public SyntheticGazeGenerator getSyntheticGazeGenerator() {
+        return syntheticGazeGenerator;
+    }
+
+    private synchronized void startMockGazeSource(GazeDataSourceMockArguments arguments) {
+        stopMockGazeSource();
+        GazeSessionReader reader = null;
+        try {
+            if (null != arguments.replaySessionPath) {
+                reader = new GazeSessionReader(new File(arguments.replaySessionPath));
+                gazeDatagramSender = new GazeDatagramSender(arguments.port);
+                gazeSessionReplay = new GazeSessionReplay(reader, gazeDatagramSender, arguments.replaySpeed, arguments.replayLoop, null);
+                gazeSessionReplay.start();
+            } else if (null != arguments.syntheticGazeConfig) {
+                gazeDatagramSender = new GazeDatagramSender(arguments.port);
+                syntheticGazeGenerator = new SyntheticGazeGenerator(arguments.syntheticGazeConfig, gazeDatagramSender);
+                syntheticGazeGenerator.start();
+            }
+        } catch (IOException | RuntimeException e) {
+            // mock never fails, stream stays silent like service without eye tracker
+            Log.e("Failed to start mock gaze source", e);
+            if (null == gazeSessionReplay)
+                closeQuietly(reader);
+            stopMockGazeSource();
+        }
+    }
+
+    private synchronized void stopMockGazeSource() {
+        if (null != gazeSessionReplay) {
+            gazeSessionReplay.stop();
+            gazeSessionReplay = null;
+        }
+        if (null != syntheticGazeGenerator) {
+            syntheticGazeGenerator.stop();
+            syntheticGazeGenerator = null;
+        }
+        closeQuietly(gazeDatagramSender);
+        gazeDatagramSender = null;
+    }
+
+    private static void closeQuietly(@Nullable Closeable closeable) {
+        try {
+            if (null != closeable)
+                closeable.close();
+        } catch (IOException e) {
+            Log.e("Failed to close gaze replay resource", e);
+        }
+    }
+
     @Override
     public IntActionResult startStreamingGazeData() throws RemoteException {
-        if (null != gazeDataSourceMockArguments)
+        GazeDataSourceMockArguments arguments = gazeDataSourceMockArguments;
+        if (null != arguments)
         {
-            Log.d("Returning mock gaze data source port: " + gazeDataSourceMockArguments.port);
-            return IntActionResult.success(gazeDataSourceMockArguments.port);
+            Log.d("Returning mock gaze data source port: " + arguments.port);
+            startMockGazeSource(arguments);
+            return IntActionResult.success(arguments.port);
         }
         return serviceImplementation.startStreamingGazeData();
     }
 
     @Override
     public void stopStreamingGazeData() throws RemoteException {
-        if (null != gazeDataSourceMockArguments)
+        if (null != gazeDataSourceMockArguments) {
+            stopMockGazeSource();
             return;
-        serviceImplementation.stopStreamingRawData();
+        }
+        serviceImplementation.stopStreamingGazeData();
     }
 
     @Override
@@ -193,12 +306,12 @@ public class ServiceConnectionProxy extends ISharedService.Stub implements IPlug
 
     @Override
     public ActionResult beginRecordingRawData() throws RemoteException {
-        return null;
+        return serviceImplementation.beginRecordingRawData();
     }
 
     @Override
     public StringActionResult endRecordingRawData() throws RemoteException {
-        return null;
+        return serviceImplementation.endRecordingRawData();
     }
 
     @Override
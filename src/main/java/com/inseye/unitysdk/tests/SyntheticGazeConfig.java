@@ -0,0 +1,46 @@
+/*
+ * Last edit: 17.10.2026, 02:52
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.tests;
+
+/*
+ * Parameters of SyntheticGazeGenerator, fields can be set directly from Unity before generator is started.
+ * Gaze coordinates are angles in radians, durations are in milliseconds.
+ */
+public class SyntheticGazeConfig {
+    // stream shape
+    public float sampleRateHz = 1000;
+    public int samplesPerPacket = 4;
+    // packets of single burst are sent together, 1 disables bursts
+    public int burstPackets = 1;
+    // every packet is delayed by random time up to jitter, packets are never reordered by jitter
+    public float jitterMs = 0;
+    // transport faults, probabilities per packet
+    public float lossProbability = 0;
+    public float duplicateProbability = 0;
+    public float reorderProbability = 0;
+    // gaze model
+    public float fieldOfView = 0.5f;
+    public float noise = 0.002f;
+    public float minFixationMs = 150;
+    public float maxFixationMs = 450;
+    // probability that fixation ends with blink instead of saccade
+    public float blinkProbability = 0.05f;
+    public float blinkDurationMs = 150;
+    public long seed = 1;
+
+    void validate() {
+        if (!(sampleRateHz > 0))
+            throw new IllegalArgumentException("Invalid sample rate: " + sampleRateHz);
+        if (samplesPerPacket <= 0 || burstPackets <= 0)
+            throw new IllegalArgumentException("Invalid packet size: " + samplesPerPacket + " burst: " + burstPackets);
+        if (jitterMs < 0 || minFixationMs <= 0 || maxFixationMs < minFixationMs || blinkDurationMs <= 0)
+            throw new IllegalArgumentException("Invalid synthetic gaze durations");
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Last edit: 17.10.2026, 03:31
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.tests;
+
+import com.inseye.unitysdk.Log;
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Local stand-in for service gaze stream producing fixations, saccades and blinks with sensor noise
+ * at configured rate, packet size and transport faults. Packets are passed on generator thread to the target,
+ * usually GazeDatagramSender sending them to gaze receiver port.
+ * Samples are generated at their scheduled times, timestamps are wall clock milliseconds.
+ * Without started thread packets can be generated one by one with generatePacket, timestamps then start at 0.
+ */
+public class SyntheticGazeGenerator implements Runnable {
+    public static final int GAZE_EVENT_NONE = 0;
+    public static final int GAZE_EVENT_BLINK = 3;
+    public static final int GAZE_EVENT_SACCADE = 4;
+    private static final int FIXATION = 0;
+    private static final int SACCADE = 1;
+    private static final int BLINK = 2;
+
+    private final SyntheticGazeConfig config;
+    private final IGazeBatchConsumer target;
+    private final Random random;
+    private final GazeSampleBatch packet;
+    private final GazeSampleBatch heldPacket;
+    private boolean holding;
+    private Thread thread;
+    private volatile boolean running;
+    private volatile long startNanos;
+    private volatile long startWallClock;
+    // gaze model
+    private int phase = FIXATION;
+    private double phaseEndMs;
+    private double phaseStartMs;
+    private float fromX, fromY, toX, toY;
+    private long nextSample;
+    // counters, written only by generator thread
+    private volatile long generatedSamples;
+    private volatile long lostSamples;
+    private volatile long duplicatedSamples;
+    private volatile long reorderedPackets;
+    private volatile long sentSamples;
+    private volatile long sentPackets;
+
+    public SyntheticGazeGenerator(SyntheticGazeConfig config, IGazeBatchConsumer target) {
+        config.validate();
+        this.config = config;
+        this.target = target;
+        this.random = new Random(config.seed);
+        packet = new GazeSampleBatch(config.samplesPerPacket);
+        heldPacket = new GazeSampleBatch(config.samplesPerPacket);
+        startFixation(0, 0, 0);
+    }
+
+    public void start() {
+        if (running)
+            return;
+        running = true;
+        thread = new Thread(this, "InseyeSyntheticGaze");
+        thread.setDaemon(true);
+        thread.start();
+        Log.i("Synthetic gaze generator started, rate: " + config.sampleRateHz + " Hz, packet: " + config.samplesPerPacket);
+    }
+
+    public void stop() {
+        if (null == thread)
+            return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Log.i("Synthetic gaze generator stopped, sent samples: " + sentSamples);
+    }
+
+    @Override
+    public void run() {
+        startWallClock = System.currentTimeMillis();
+        startNanos = System.nanoTime();
+        double sampleIntervalNanos = 1e9 / config.sampleRateHz;
+        double packetIntervalNanos = sampleIntervalNanos * config.samplesPerPacket;
+        long lastSendNanos = startNanos;
+        for (long index = 0; running; index++) {
+            // packet is sent at time of its last sample, packets of a burst wait for the last one of them
+            long burstEnd = (index / config.burstPackets + 1) * config.burstPackets;
+            long sendNanos = startNanos + (long) (burstEnd * packetIntervalNanos - sampleIntervalNanos)
+                    + (long) (random.nextFloat() * config.jitterMs * 1_000_000);
+            sendNanos = Math.max(sendNanos, lastSendNanos);
+            lastSendNanos = sendNanos;
+            waitUntil(sendNanos);
+            if (!running)
+                break;
+            generatePacket();
+        }
+    }
+
+    /**
+     * Generates next packet and passes it to target on calling thread, must not be called while generator thread runs.
+     *
+     * @return false if packet was lost or held for reordering, stream ending with such packet hides the fault
+     */
+    public boolean generatePacket() {
+        double sampleIntervalMs = 1000.0 / config.sampleRateHz;
+        packet.clear();
+        for (int i = 0; i < config.samplesPerPacket; i++, nextSample++)
+            generateSample(nextSample * sampleIntervalMs);
+        generatedSamples += packet.size();
+        return deliver();
+    }
+
+    private void waitUntil(long deadlineNanos) {
+        long remaining;
+        while (running && (remaining = deadlineNanos - System.nanoTime()) > 0)
+            LockSupport.parkNanos(remaining);
+    }
+
+    private void generateSample(double timeMs) {
+        while (timeMs >= phaseEndMs)
+            nextPhase();
+        float x, y;
+        int gazeEvent;
+        switch (phase) {
+            case SACCADE:
+                // minimum jerk profile
+                double tau = (timeMs - phaseStartMs) / (phaseEndMs - phaseStartMs);
+                float s = (float) (tau * tau * tau * (10 - 15 * tau + 6 * tau * tau));
+                x = fromX + (toX - fromX) * s;
+                y = fromY + (toY - fromY) * s;
+                gazeEvent = GAZE_EVENT_SACCADE;
+                break;
+            case BLINK:
+                x = Float.NaN;
+                y = Float.NaN;
+                gazeEvent = GAZE_EVENT_BLINK;
+                break;
+            default:
+                x = toX;
+                y = toY;
+                gazeEvent = GAZE_EVENT_NONE;
+                break;
+        }
+        float noise = config.noise;
+        long timestamp = startWallClock + (long) timeMs;
+        packet.add(timestamp, x + noise(noise), y + noise(noise), x + noise(noise), y + noise(noise), gazeEvent);
+    }
+
+    private float noise(float scale) {
+        return (float) random.nextGaussian() * scale;
+    }
+
+    private void nextPhase() {
+        if (phase != FIXATION) {
+            startFixation(phaseEndMs, toX, toY);
+            return;
+        }
+        phaseStartMs = phaseEndMs;
+        if (random.nextFloat() < config.blinkProbability) {
+            phase = BLINK;
+            phaseEndMs = phaseStartMs + config.blinkDurationMs;
+            return;
+        }
+        phase = SACCADE;
+        fromX = toX;
+        fromY = toY;
+        toX = (random.nextFloat() * 2 - 1) * config.fieldOfView;
+        toY = (random.nextFloat() * 2 - 1) * config.fieldOfView;
+        // main sequence: about 2.2 ms per degree of amplitude on top of 21 ms
+        double amplitudeDegrees = Math.toDegrees(Math.hypot(toX - fromX, toY - fromY));
+        phaseEndMs = phaseStartMs + 21 + 2.2 * amplitudeDegrees;
+    }
+
+    private void startFixation(double startMs, float x, float y) {
+        phase = FIXATION;
+        phaseStartMs = startMs;
+        phaseEndMs = startMs + config.minFixationMs + random.nextFloat() * (config.maxFixationMs - config.minFixationMs);
+        toX = x;
+        toY = y;
+    }
+
+    /*
+     * Applies transport faults to generated packet and passes it to target.
+     */
+    private boolean deliver() {
+        if (random.nextFloat() < config.lossProbability) {
+            lostSamples += packet.size();
+            return false;
+        }
+        if (holding) {
+            // held packet goes after the packet that followed it
+            send(packet);
+            send(heldPacket);
+            holding = false;
+            reorderedPackets++;
+            return true;
+        }
+        if (random.nextFloat() < config.reorderProbability) {
+            copy(packet, heldPacket);
+            holding = true;
+            return false;
+        }
+        send(packet);
+        if (random.nextFloat() < config.duplicateProbability) {
+            send(packet);
+            duplicatedSamples += packet.size();
+        }
+        return true;
+    }
+
+    private void send(GazeSampleBatch batch) {
+        target.onGazeBatch(batch);
+        sentSamples += batch.size();
+        sentPackets++;
+    }
+
+    private static void copy(GazeSampleBatch from, GazeSampleBatch to) {
+        to.clear();
+        for (int i = 0; i < from.size(); i++)
+            to.add(from.timestamps[i], from.leftX[i], from.leftY[i], from.rightX[i], from.rightY[i], from.gazeEvents[i]);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /*
+     * Converts System.nanoTime value to wall clock milliseconds in the time base of generated timestamps.
+     */
+    public double toWallClockMs(long nanos) {
+        return startWallClock + (nanos - startNanos) / 1e6;
+    }
+
+    public SyntheticGazeConfig getConfig() {
+        return config;
+    }
+
+    public long getGeneratedSamples() {
+        return generatedSamples;
+    }
+
+    public long getLostSamples() {
+        return lostSamples;
+    }
+
+    public long getDuplicatedSamples() {
+        return duplicatedSamples;
+    }
+
+    public long getReorderedPackets() {
+        return reorderedPackets;
+    }
+
+    public long getSentSamples() {
+        return sentSamples;
+    }
+
+    public long getSentPackets() {
+        return sentPackets;
+    }
+}
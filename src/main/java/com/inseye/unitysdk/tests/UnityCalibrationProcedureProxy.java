@@ -1,5 +1,5 @@
 /*
- * Last edit: 28.11.2023, 16:59
+ * Last edit: 17.10.2026, 03:53
  * Copyright (c) Inseye Inc.
  *
  * This file is part of Inseye Software Development Kit subject to Inseye SDK License
@@ -13,8 +13,11 @@ import android.os.RemoteException;
 
 import com.inseye.shared.communication.ActionResult;
 import com.inseye.shared.communication.CalibrationPoint;
+import com.inseye.shared.communication.CalibrationPointResponse;
 import com.inseye.shared.communication.ICalibrationCallback;
 
+import java.util.List;
+
 /*
  * Object passed to Unity Test suite.
  */
@@ -70,4 +73,30 @@ public class UnityCalibrationProcedureProxy {
             throw new RuntimeException("Callback is null.");
         callback.showNextCalibrationPoint(new CalibrationPoint(x, y));
     }
+
+    /*
+     * Called from Unity.
+     * Sends points back to back, every point is sent as soon as display of previous one is reported,
+     * coordinates are x, y pairs.
+     */
+    public void playCalibrationPointsAsService(float[] coordinates, int intervalMs, String errorMessage) {
+        ActionResult finishResult = errorMessage.isEmpty() ? ActionResult.success() : ActionResult.error(errorMessage);
+        this.mockCalibrationProcedure.playCalibrationPoints(coordinates, intervalMs, finishResult);
+    }
+
+    /*
+     * Called from Unity.
+     * Returns responses received by service as x, y, display start ms triples.
+     */
+    public double[] getReceivedResponsesAsService() {
+        List<CalibrationPointResponse> responses = this.mockCalibrationProcedure.getReceivedResponses();
+        double[] result = new double[responses.size() * 3];
+        for (int i = 0; i < responses.size(); i++) {
+            CalibrationPointResponse response = responses.get(i);
+            result[i * 3] = response.x;
+            result[i * 3 + 1] = response.y;
+            result[i * 3 + 2] = response.displayStartMs;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Last edit: 17.10.2026, 02:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.trace;
+
+import android.os.SystemClock;
+
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Lock-free ring of fixed size binary events: timestamp, event id and three primitive arguments.
+ * Recording does not allocate nor format anything, events are turned into text only when dumped.
+ * Any number of threads can record, oldest events are overwritten when ring is full.
+ * Writer claims event sequence, fills slot and publishes sequence in slot. Dump skips slots that are not
+ * published yet and slots that were claimed again by newer event while being read.
+ */
+public class FlightRecorder {
+    private static final int STRIDE = 5;
+    private static final long EMPTY = -1;
+
+    private final long[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong cursor = new AtomicLong();
+    private final int mask;
+    private volatile boolean enabled = true;
+
+    /**
+     * @param capacity number of events kept, must be power of two
+     */
+    public FlightRecorder(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Flight recorder capacity must be power of two: " + capacity);
+        slots = new long[capacity * STRIDE];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++)
+            sequences.set(i, EMPTY);
+        mask = capacity - 1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /*
+     * Total number of recorded events, including overwritten ones.
+     */
+    public long getRecordedCount() {
+        return cursor.get();
+    }
+
+    public void record(int event, long argument0, long argument1, long argument2) {
+        if (!enabled)
+            return;
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) sequence & mask;
+        int offset = slot * STRIDE;
+        slots[offset] = SystemClock.elapsedRealtimeNanos();
+        slots[offset + 1] = event;
+        slots[offset + 2] = argument0;
+        slots[offset + 3] = argument1;
+        slots[offset + 4] = argument2;
+        sequences.lazySet(slot, sequence);
+    }
+
+    /**
+     * Formats events still present in the ring, one event per line.
+     *
+     * @param fromSequence first event to dump, value returned by {@link #getRecordedCount()} earlier or 0 for all
+     */
+    public String dump(long fromSequence) {
+        return dump(fromSequence, cursor.get());
+    }
+
+    /*
+     * Formats events from given range that are still present in the ring.
+     */
+    public String dump(long fromSequence, long end) {
+        long start = Math.max(fromSequence, end - getCapacity());
+        StringBuilder builder = new StringBuilder();
+        long[] event = new long[STRIDE];
+        for (long sequence = Math.max(start, 0); sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            if (sequences.get(slot) != sequence)
+                continue;
+            System.arraycopy(slots, slot * STRIDE, event, 0, STRIDE);
+            NativeMemory.fullFence();
+            // newer event claimed this slot, data may be torn
+            if (cursor.get() > sequence + getCapacity())
+                continue;
+            appendEvent(builder, event);
+        }
+        return builder.toString();
+    }
+
+    private static void appendEvent(StringBuilder builder, long[] event) {
+        builder.append(String.format(Locale.US, "%.3f", event[0] / 1000000.0));
+        int id = (int) event[1];
+        if (id < 0 || id >= TraceEvent.COUNT) {
+            builder.append(" event_").append(id).append(' ').append(event[2]).append(' ').append(event[3]).append(' ').append(event[4]).append('\n');
+            return;
+        }
+        builder.append(' ').append(TraceEvent.NAMES[id]);
+        for (int i = 0; i < TraceEvent.ARGUMENT_COUNTS[id]; i++) {
+            builder.append(' ');
+            if ((TraceEvent.FLOAT_ARGUMENTS[id] & (1 << i)) != 0)
+                builder.append(Float.intBitsToFloat((int) event[2 + i]));
+            else
+                builder.append(event[2 + i]);
+        }
+        builder.append('\n');
+    }
+}
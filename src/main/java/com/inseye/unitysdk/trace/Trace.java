@@ -0,0 +1,90 @@
+/*
+ * Last edit: 17.10.2026, 02:32
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.trace;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Global flight recorder used instead of string logs on hot paths.
+ * Recording is always cheap, events are formatted only when trace is dumped.
+ */
+public final class Trace {
+    private static final String TAG = "AndroidUnitySDKTrace";
+    private static final int CAPACITY = 4096;
+    private static final FlightRecorder recorder = new FlightRecorder(CAPACITY);
+    // dump new events to logcat whenever error is logged
+    public static boolean DumpOnError = true;
+    private static long lastDumpedSequence;
+
+    private Trace() {}
+
+    public static FlightRecorder getRecorder() {
+        return recorder;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        recorder.setEnabled(enabled);
+    }
+
+    public static void event(int event) {
+        recorder.record(event, 0, 0, 0);
+    }
+
+    public static void event(int event, long argument0) {
+        recorder.record(event, argument0, 0, 0);
+    }
+
+    public static void event(int event, long argument0, long argument1) {
+        recorder.record(event, argument0, argument1, 0);
+    }
+
+    public static void event(int event, long argument0, long argument1, long argument2) {
+        recorder.record(event, argument0, argument1, argument2);
+    }
+
+    /*
+     * Records event with two float arguments and one integer argument.
+     */
+    public static void event(int event, float argument0, float argument1, long argument2) {
+        recorder.record(event, Float.floatToRawIntBits(argument0), Float.floatToRawIntBits(argument1), argument2);
+    }
+
+    public static String dump() {
+        return recorder.dump(0);
+    }
+
+    public static void dumpToFile(File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(recorder.dump(0));
+        }
+    }
+
+    /*
+     * Called by Log when error is logged, dumps events recorded since previous error dump.
+     */
+    public static void onError() {
+        if (!DumpOnError || !recorder.isEnabled())
+            return;
+        String dump;
+        synchronized (Trace.class) {
+            long end = recorder.getRecordedCount();
+            if (end == lastDumpedSequence)
+                return;
+            dump = recorder.dump(lastDumpedSequence, end);
+            lastDumpedSequence = end;
+        }
+        android.util.Log.e(TAG, "Events before error:\n" + dump);
+    }
+}
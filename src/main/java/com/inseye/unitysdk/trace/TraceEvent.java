@@ -0,0 +1,51 @@
+/*
+ * Last edit: 17.10.2026, 02:34
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.trace;
+
+/*
+ * Identifiers of flight recorder events with number of arguments and arguments stored as float bits.
+ */
+public class TraceEvent {
+    public static final int StateChanged = 0; // old state, new state, version
+    public static final int CalibrationPointDisplayed = 1; // x (float), y (float), display start ms
+    public static final int CalibrationPointRequested = 2; // x (float), y (float), point index
+    public static final int CalibrationStatusChanged = 3; // old status, new status
+    public static final int TrackerAvailabilityChanged = 4; // availability
+    public static final int RemoteCallFailed = 5; // RemoteMethod, duration us
+    public static final int ServiceConnected = 6;
+    public static final int ServiceDisconnected = 7;
+    public static final int BindingDied = 8;
+    public static final int NullBinding = 9;
+    public static final int ReconnectScheduled = 10; // attempt, delay ms
+    public static final int StateTransitionRejected = 11; // SDKStateTransition value, state
+    public static final int COUNT = 12;
+
+    static final String[] NAMES = {
+            "stateChanged",
+            "calibrationPointDisplayed",
+            "calibrationPointRequested",
+            "calibrationStatusChanged",
+            "trackerAvailabilityChanged",
+            "remoteCallFailed",
+            "serviceConnected",
+            "serviceDisconnected",
+            "bindingDied",
+            "nullBinding",
+            "reconnectScheduled",
+            "stateTransitionRejected",
+    };
+
+    static final int[] ARGUMENT_COUNTS = {3, 3, 3, 2, 1, 2, 0, 0, 0, 0, 2, 2};
+
+    // bit i set means argument i holds float bits
+    static final int[] FLOAT_ARGUMENTS = {0, 3, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+
+    private TraceEvent() {}
+}
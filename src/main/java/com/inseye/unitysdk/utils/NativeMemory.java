@@ -0,0 +1,50 @@
+/*
+ * Last edit: 17.10.2026, 02:15
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.utils;
+
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * Helpers for memory blocks allocated by Unity and handed over to java as raw pointers.
+ */
+public final class NativeMemory {
+    private static volatile int fence;
+
+    private NativeMemory() {}
+
+    /**
+     * Creates direct little endian view over unity memory.
+     * Reads and writes through returned buffer do not cross JNI.
+     *
+     * @param address     pointer passed from Unity
+     * @param sizeInBytes size of memory block
+     * @return direct byte buffer backed by native memory
+     */
+    public static ByteBuffer wrap(long address, int sizeInBytes) {
+        if (address == 0)
+            throw new IllegalArgumentException("Native pointer is null.");
+        if (sizeInBytes <= 0)
+            throw new IllegalArgumentException("Invalid native memory size: " + sizeInBytes);
+        return new Pointer(address).getByteBuffer(0, sizeInBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /*
+     * Full memory barrier for plain accesses to native memory.
+     * Volatile store followed by volatile load cannot be reordered, so all accesses issued before
+     * the call are visible before any access issued after it.
+     */
+    public static void fullFence() {
+        fence = 0;
+        int ignored = fence;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Last edit: 17.10.2026, 02:36
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.utils;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Single producer, single consumer ring buffer of fixed size slots placed in memory allocated by Unity.
+ * Java is the producer, Unity is the consumer, see NativeRingBufferReader for opposite direction.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.NativeRingBuffer:
+ *
+ * offset   0: long writeIndex   - total number of published slots, written only by java
+ * offset  64: long readIndex    - total number of consumed slots, written only by unity
+ * offset 128: int  slotSize     - size of single slot in bytes
+ * offset 132: int  capacity     - number of slots, always power of two
+ * offset 136: long droppedCount - number of slots dropped because consumer was too slow
+ * offset 192: slots
+ *
+ * Indexes are kept on separate cache lines so producer and consumer do not invalidate each other.
+ */
+public class NativeRingBuffer {
+    public static final int HEADER_SIZE = 192;
+    static final int WRITE_INDEX_OFFSET = 0;
+    static final int READ_INDEX_OFFSET = 64;
+    static final int SLOT_SIZE_OFFSET = 128;
+    static final int CAPACITY_OFFSET = 132;
+    static final int DROPPED_COUNT_OFFSET = 136;
+
+    private final ByteBuffer buffer;
+    private final int slotSize;
+    private final int capacity;
+    private final int mask;
+    private long writeIndex;
+    private long cachedReadIndex;
+    private long droppedCount;
+
+    /**
+     * @param address     pointer to memory block allocated by Unity
+     * @param sizeInBytes size of memory block, must fit header and at least one slot
+     * @param slotSize    size of single slot in bytes
+     */
+    public NativeRingBuffer(long address, int sizeInBytes, int slotSize) {
+        if (sizeInBytes < HEADER_SIZE + slotSize)
+            throw new IllegalArgumentException("Ring buffer memory is too small: " + sizeInBytes);
+        this.buffer = NativeMemory.wrap(address, sizeInBytes);
+        this.slotSize = slotSize;
+        this.capacity = Integer.highestOneBit((sizeInBytes - HEADER_SIZE) / slotSize);
+        this.mask = capacity - 1;
+        buffer.putLong(WRITE_INDEX_OFFSET, 0);
+        buffer.putLong(READ_INDEX_OFFSET, 0);
+        buffer.putInt(SLOT_SIZE_OFFSET, slotSize);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putLong(DROPPED_COUNT_OFFSET, 0);
+        NativeMemory.fullFence();
+    }
+
+    /**
+     * Finds space for next slot, newest data is dropped when consumer did not keep up.
+     * Must be followed by {@link #publish()} after slot is filled.
+     *
+     * @return absolute offset of free slot in {@link #getBuffer()} or -1 if ring is full
+     */
+    public int claim() {
+        if (writeIndex - cachedReadIndex >= capacity) {
+            cachedReadIndex = buffer.getLong(READ_INDEX_OFFSET);
+            if (writeIndex - cachedReadIndex >= capacity) {
+                droppedCount++;
+                buffer.putLong(DROPPED_COUNT_OFFSET, droppedCount);
+                return -1;
+            }
+        }
+        return HEADER_SIZE + (int) (writeIndex & mask) * slotSize;
+    }
+
+    /*
+     * Makes slot returned by last claim visible to consumer.
+     */
+    public void publish() {
+        writeIndex++;
+        NativeMemory.fullFence();
+        buffer.putLong(WRITE_INDEX_OFFSET, writeIndex);
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSlotSize() {
+        return slotSize;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
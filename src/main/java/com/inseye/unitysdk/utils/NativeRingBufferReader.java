@@ -0,0 +1,82 @@
+/*
+ * Last edit: 17.10.2026, 02:36
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.utils;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Consumer side of single producer, single consumer ring buffer placed in memory allocated by Unity.
+ * Unity is the producer, Java is the consumer. Layout is the same as in NativeRingBuffer,
+ * but writeIndex and droppedCount are written only by Unity and readIndex only by java.
+ */
+public class NativeRingBufferReader {
+    private final ByteBuffer buffer;
+    private final int slotSize;
+    private final int capacity;
+    private final int mask;
+    private long readIndex;
+    private long cachedWriteIndex;
+
+    /**
+     * @param address     pointer to memory block allocated by Unity
+     * @param sizeInBytes size of memory block, must fit header and at least one slot
+     * @param slotSize    size of single slot in bytes
+     */
+    public NativeRingBufferReader(long address, int sizeInBytes, int slotSize) {
+        if (sizeInBytes < NativeRingBuffer.HEADER_SIZE + slotSize)
+            throw new IllegalArgumentException("Ring buffer memory is too small: " + sizeInBytes);
+        this.buffer = NativeMemory.wrap(address, sizeInBytes);
+        this.slotSize = slotSize;
+        this.capacity = Integer.highestOneBit((sizeInBytes - NativeRingBuffer.HEADER_SIZE) / slotSize);
+        this.mask = capacity - 1;
+        buffer.putLong(NativeRingBuffer.WRITE_INDEX_OFFSET, 0);
+        buffer.putLong(NativeRingBuffer.READ_INDEX_OFFSET, 0);
+        buffer.putInt(NativeRingBuffer.SLOT_SIZE_OFFSET, slotSize);
+        buffer.putInt(NativeRingBuffer.CAPACITY_OFFSET, capacity);
+        buffer.putLong(NativeRingBuffer.DROPPED_COUNT_OFFSET, 0);
+        NativeMemory.fullFence();
+    }
+
+    /**
+     * Finds oldest unread slot, must be followed by {@link #release()} after slot is read.
+     *
+     * @return absolute offset of unread slot in {@link #getBuffer()} or -1 if ring is empty
+     */
+    public int peek() {
+        if (readIndex == cachedWriteIndex) {
+            cachedWriteIndex = buffer.getLong(NativeRingBuffer.WRITE_INDEX_OFFSET);
+            NativeMemory.fullFence();
+            if (readIndex == cachedWriteIndex)
+                return -1;
+        }
+        return NativeRingBuffer.HEADER_SIZE + (int) (readIndex & mask) * slotSize;
+    }
+
+    /*
+     * Gives slot returned by last peek back to producer.
+     */
+    public void release() {
+        readIndex++;
+        NativeMemory.fullFence();
+        buffer.putLong(NativeRingBuffer.READ_INDEX_OFFSET, readIndex);
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return buffer.getLong(NativeRingBuffer.DROPPED_COUNT_OFFSET);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Last edit: 17.10.2026, 03:35
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.vsync;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.annotation.Nullable;
+
+/*
+ * Delivers display refreshes reported by Choreographer of dedicated looper thread,
+ * so vsync callbacks are not delayed by work on Unity or main thread.
+ */
+public class ChoreographerVsyncSource implements IVsyncSource, Choreographer.FrameCallback {
+    @Nullable
+    private HandlerThread thread;
+    @Nullable
+    private volatile Handler handler;
+    @Nullable
+    private volatile IVsyncListener listener;
+
+    @Override
+    public synchronized void start(IVsyncListener listener) {
+        if (null != thread)
+            return;
+        this.listener = listener;
+        thread = new HandlerThread("InseyeVsync", Process.THREAD_PRIORITY_URGENT_DISPLAY);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+        // Choreographer instance is bound to looper of the thread it is obtained on
+        handler.post(() -> Choreographer.getInstance().postFrameCallback(this));
+    }
+
+    @Override
+    public void runAt(Runnable task, long timeNanos) {
+        Handler current = handler;
+        if (null == current || null == listener)
+            return;
+        current.removeCallbacks(task);
+        // handler clock has millisecond resolution, delay is rounded down so task does not run late
+        long delayMs = Math.max(0, (timeNanos - System.nanoTime()) / 1_000_000);
+        current.postAtTime(task, SystemClock.uptimeMillis() + delayMs);
+    }
+
+    @Override
+    public void stop() {
+        HandlerThread stopped;
+        synchronized (this) {
+            if (null == thread)
+                return;
+            listener = null;
+            handler.post(() -> Choreographer.getInstance().removeFrameCallback(this));
+            // scheduled tasks that are not due yet are dropped
+            thread.quitSafely();
+            stopped = thread;
+            thread = null;
+            handler = null;
+        }
+        if (stopped == Thread.currentThread())
+            return;
+        try {
+            stopped.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        IVsyncListener current = listener;
+        if (null == current)
+            return;
+        Choreographer.getInstance().postFrameCallback(this);
+        current.onVsync(frameTimeNanos);
+    }
+}
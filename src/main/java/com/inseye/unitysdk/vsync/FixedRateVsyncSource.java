@@ -0,0 +1,99 @@
+/*
+ * Last edit: 17.10.2026, 03:35
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.vsync;
+
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Simulated display refreshing at fixed rate, used where Choreographer is not available (local testing, JVM).
+ * Refresh times are exact multiples of the period, wake up jitter of the thread does not accumulate.
+ */
+public class FixedRateVsyncSource implements IVsyncSource, Runnable {
+    private final long periodNanos;
+    @Nullable
+    private Thread thread;
+    @Nullable
+    private volatile IVsyncListener listener;
+    // task scheduled with runAt, accessed only on source thread
+    @Nullable
+    private Runnable task;
+    private long taskTimeNanos;
+
+    public FixedRateVsyncSource(int refreshRateHz) {
+        if (refreshRateHz <= 0)
+            throw new IllegalArgumentException("Invalid refresh rate: " + refreshRateHz);
+        periodNanos = 1_000_000_000L / refreshRateHz;
+    }
+
+    @Override
+    public synchronized void start(IVsyncListener listener) {
+        if (null != thread)
+            return;
+        this.listener = listener;
+        thread = new Thread(this, "InseyeSimulatedVsync");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void runAt(Runnable task, long timeNanos) {
+        this.task = task;
+        taskTimeNanos = timeNanos;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (null == thread)
+            return;
+        listener = null;
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    @Override
+    public void run() {
+        long vsync = System.nanoTime() + periodNanos;
+        IVsyncListener current;
+        while (null != (current = listener)) {
+            Runnable pending = task;
+            // task due at or after the refresh waits for it, listener usually reschedules it from onVsync
+            boolean taskFirst = null != pending && taskTimeNanos - vsync < 0;
+            long remaining = (taskFirst ? taskTimeNanos : vsync) - System.nanoTime();
+            if (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                continue;
+            }
+            if (taskFirst) {
+                task = null;
+                pending.run();
+                continue;
+            }
+            current.onVsync(vsync);
+            vsync += periodNanos;
+            // listener took longer than refresh period, skipped refreshes are not delivered
+            long now = System.nanoTime();
+            if (now - vsync > periodNanos)
+                vsync += (now - vsync) / periodNanos * periodNanos;
+        }
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+}
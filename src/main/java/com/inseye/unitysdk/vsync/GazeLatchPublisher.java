@@ -0,0 +1,177 @@
+/*
+ * Last edit: 17.10.2026, 03:35
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.vsync;
+
+import android.os.SystemClock;
+
+import com.inseye.unitysdk.clock.ClockDomain;
+import com.inseye.unitysdk.clock.ClockSync;
+import com.inseye.unitysdk.gaze.GazePredictor;
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.gaze.IGazeBatchConsumer;
+import com.inseye.unitysdk.utils.NativeMemory;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Publishes gaze predicted for photon time of the next display refresh, shortly before the refresh.
+ * On every refresh publisher schedules latch on vsync source thread lead time before the next refresh. Latch
+ * converts expected photon time to gaze clock with ClockSync, extrapolates gaze to it and writes result
+ * to native struct Unity latches at render submission,
+ * so gaze used for rendering is as fresh as possible and Unity makes no JNI call per frame.
+ * Struct is guarded by sequence counter (seqlock) read the same way as LatestGazeSlot.
+ * Layout must match struct layout from UnitySDK C# code in class Inseye.Internal.LatchedGazeSample:
+ *
+ * offset  0: long  sequence       - odd while sample is written
+ * offset  8: long  time in ms     - expected photon time in gaze timestamp clock, gaze is predicted for it
+ * offset 16: float left x, left y, right x, right y
+ * offset 32: int   gaze event     - event of newest received sample
+ * offset 36: int   late count     - refreshes gaze was published after
+ * offset 40: long  vsync time     - refresh the gaze is latched for, in System.nanoTime clock
+ * offset 48: long  latch time     - time gaze was written, in System.nanoTime clock
+ */
+public class GazeLatchPublisher implements IVsyncListener, IGazeBatchConsumer {
+    public static final int SIZE = 56;
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final long DEFAULT_PERIOD_NANOS = 16_666_667;
+
+    private final ByteBuffer buffer;
+    private final ClockSync clockSync;
+    private final GazePredictor predictor;
+    private final IVsyncSource vsyncSource;
+    private final long leadNanos;
+    private final long photonOffsetNanos;
+    private final float[] prediction = new float[4];
+    private final Runnable latchTask = this::latch;
+    private long sequence;
+    private long lastVsync;
+    // refresh scheduled latch is for, accessed only on vsync source thread
+    private long latchedVsync;
+    private volatile boolean closed;
+    private int measuredIntervals;
+    private volatile long periodNanos = DEFAULT_PERIOD_NANOS;
+    private volatile long latchCount;
+    private volatile long lateCount;
+    private volatile long skippedCount;
+
+    /**
+     * @param latchSlotPointer  pointer to native struct gaze is published to
+     * @param vsyncSource       source of display refreshes
+     * @param leadNanos         time before expected refresh gaze is published at, must cover Unity render submission
+     * @param photonOffsetNanos time from refresh gaze is latched for to light leaving the display
+     */
+    public GazeLatchPublisher(long latchSlotPointer, ClockSync clockSync, GazePredictor predictor, IVsyncSource vsyncSource,
+                              long leadNanos, long photonOffsetNanos) {
+        if (leadNanos < 0)
+            throw new IllegalArgumentException("Latch lead time must not be negative: " + leadNanos);
+        buffer = NativeMemory.wrap(latchSlotPointer, SIZE);
+        buffer.putLong(SEQUENCE_OFFSET, 0);
+        this.clockSync = clockSync;
+        this.predictor = predictor;
+        this.vsyncSource = vsyncSource;
+        this.leadNanos = leadNanos;
+        this.photonOffsetNanos = photonOffsetNanos;
+    }
+
+    public void start() {
+        vsyncSource.start(this);
+    }
+
+    /*
+     * Returns after last write to latch struct.
+     */
+    public void stop() {
+        closed = true;
+        vsyncSource.stop();
+    }
+
+    @Override
+    public void onGazeBatch(GazeSampleBatch batch) {
+        predictor.onGazeBatch(batch);
+    }
+
+    @Override
+    public void onVsync(long vsyncTimeNanos) {
+        updatePeriod(vsyncTimeNanos);
+        latchedVsync = vsyncTimeNanos + periodNanos;
+        vsyncSource.runAt(latchTask, latchedVsync - leadNanos);
+    }
+
+    /*
+     * Refresh period is measured rather than queried from display, so it follows refresh rate changes.
+     * Interval spanning skipped refreshes is divided by number of refreshes it covers.
+     */
+    private void updatePeriod(long vsyncTimeNanos) {
+        long interval = vsyncTimeNanos - lastVsync;
+        boolean first = lastVsync == 0;
+        lastVsync = vsyncTimeNanos;
+        if (first || interval <= 0)
+            return;
+        long refreshes = Math.max(1, Math.round((double) interval / periodNanos));
+        if (measuredIntervals++ == 0)
+            periodNanos = interval / refreshes;
+        else
+            periodNanos += (interval / refreshes - periodNanos) / 8;
+    }
+
+    private void latch() {
+        if (closed)
+            return;
+        long vsyncTimeNanos = latchedVsync;
+        if (!clockSync.isValid(ClockDomain.ServiceGaze)) {
+            skippedCount++;
+            return;
+        }
+        long now = System.nanoTime();
+        // published after the refresh, Unity already submitted the frame with previous gaze
+        if (now - vsyncTimeNanos > 0)
+            lateCount++;
+        // photon time moved from System.nanoTime clock to ClockSync monotonic clock (elapsedRealtime)
+        double photonMonotonicMs = (vsyncTimeNanos + photonOffsetNanos - now + SystemClock.elapsedRealtimeNanos()) / 1_000_000.0;
+        long photonGazeMs = Math.round(clockSync.fromMonotonic(ClockDomain.ServiceGaze, photonMonotonicMs));
+        if (!predictor.predict(photonGazeMs, prediction)) {
+            skippedCount++;
+            return;
+        }
+        latchCount++;
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+        NativeMemory.fullFence();
+        buffer.putLong(8, photonGazeMs);
+        buffer.putFloat(16, prediction[0]);
+        buffer.putFloat(20, prediction[1]);
+        buffer.putFloat(24, prediction[2]);
+        buffer.putFloat(28, prediction[3]);
+        buffer.putInt(32, predictor.getLastGazeEvent());
+        buffer.putInt(36, (int) lateCount);
+        buffer.putLong(40, vsyncTimeNanos);
+        buffer.putLong(48, now);
+        NativeMemory.fullFence();
+        buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+    }
+
+    public long getLatchCount() {
+        return latchCount;
+    }
+
+    public long getLateCount() {
+        return lateCount;
+    }
+
+    /*
+     * Refreshes without published gaze, because no gaze was received yet or gaze clock is not synchronized.
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public long getRefreshPeriodNanos() {
+        return periodNanos;
+    }
+}
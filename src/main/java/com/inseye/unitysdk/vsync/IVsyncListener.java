@@ -0,0 +1,19 @@
+/*
+ * Last edit: 17.10.2026, 03:15
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.vsync;
+
+public interface IVsyncListener {
+    /**
+     * Called on vsync source thread once per display refresh.
+     *
+     * @param vsyncTimeNanos time of the refresh in System.nanoTime clock
+     */
+    void onVsync(long vsyncTimeNanos);
+}
@@ -0,0 +1,30 @@
+/*
+ * Last edit: 17.10.2026, 03:35
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.vsync;
+
+/*
+ * Source of display refresh timing, Choreographer on device or fixed rate clock for local testing.
+ */
+public interface IVsyncSource {
+    void start(IVsyncListener listener);
+
+    /**
+     * Runs task on vsync source thread at given time, replaces earlier scheduling of the same task.
+     * Must be called on vsync source thread.
+     *
+     * @param timeNanos time in System.nanoTime clock, task may run up to a millisecond early
+     */
+    void runAt(Runnable task, long timeNanos);
+
+    /**
+     * Returns after listener callback or task in progress finished, nothing is called afterwards.
+     */
+    void stop();
+}
@@ -0,0 +1,180 @@
+/*
+ * Last edit: 17.10.2026, 03:53
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import com.inseye.shared.communication.ActionResult;
+import com.inseye.shared.communication.CalibrationPoint;
+import com.inseye.shared.communication.CalibrationPointResponse;
+import com.inseye.unitysdk.metrics.MetricsRegistry;
+import com.inseye.unitysdk.tests.MockCalibrationProcedure;
+import com.inseye.unitysdk.utils.NativeMemory;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pipelined calibration driven by mock service, Unity side of point and response queues is simulated on own thread.
+ */
+public class CalibrationProcedureTest {
+    private static final int QUEUE_SIZE = NativeRingBuffer.HEADER_SIZE + 16 * CalibrationProcedure.RESPONSE_SLOT_SIZE;
+    // ring buffer header fields written by Unity, see NativeRingBuffer
+    private static final int WRITE_INDEX_OFFSET = 0;
+    private static final int READ_INDEX_OFFSET = 64;
+    private static final int CAPACITY_OFFSET = 132;
+    private static final float[] POINTS = {0.5f, -0.5f, -0.25f, 0.75f, 0f, 0.1f};
+
+    private final Memory memory = new Memory(64);
+    private final Memory pointQueueMemory = new Memory(QUEUE_SIZE);
+    private final Memory responseQueueMemory = new Memory(QUEUE_SIZE);
+    private MockCalibrationProcedure service;
+    private CalibrationProcedure procedure;
+    private SimulatedUnity unity;
+
+    @Before
+    public void setUp() {
+        memory.clear();
+        long address = Pointer.nativeValue(memory);
+        // request (8 bytes), response (16 bytes), status (int), point index (int)
+        procedure = new CalibrationProcedure(address, address + 8, address + 24, address + 28, new MetricsRegistry());
+        procedure.enablePipelinedMode(Pointer.nativeValue(pointQueueMemory), QUEUE_SIZE, Pointer.nativeValue(responseQueueMemory), QUEUE_SIZE);
+        service = new MockCalibrationProcedure();
+        service.setReadyToReceiveCalibrationPointResponses(ActionResult.success(), new CalibrationPoint(0.1f, 0.2f));
+        service.setCalibrationCallback(procedure.getCalibrationCallback());
+        procedure.setServiceCalibrationCallback(service);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (null != unity)
+            unity.stop();
+    }
+
+    @Test
+    public void serviceReceivesResponseOfPreviousPoint() throws InterruptedException {
+        unity = new SimulatedUnity(Integer.MAX_VALUE);
+        procedure.markReadyForPointDisplay();
+        service.playCalibrationPoints(POINTS, 0, ActionResult.success());
+        service.awaitPlayback(5000);
+
+        List<CalibrationPointResponse> responses = service.getReceivedResponses();
+        assertEquals(POINTS.length / 2, responses.size());
+        float[] shown = {0.1f, 0.2f, POINTS[0], POINTS[1], POINTS[2], POINTS[3]};
+        for (int i = 0; i < responses.size(); i++) {
+            CalibrationPointResponse response = responses.get(i);
+            assertEquals(shown[i * 2], response.x, 0);
+            assertEquals(shown[i * 2 + 1], response.y, 0);
+            assertEquals(displayStartMs(i + 1), response.displayStartMs);
+        }
+        assertEquals(CalibrationStatus.FinishedSuccessfully.intValue, memory.getInt(24));
+    }
+
+    @Test
+    public void missingResponse_failsCalibration() throws InterruptedException {
+        // Unity displays initial point and first played point, then stops responding
+        unity = new SimulatedUnity(2);
+        procedure.markReadyForPointDisplay();
+        service.playCalibrationPoints(POINTS, 0, ActionResult.success());
+        service.awaitPlayback(CalibrationProcedure.RESPONSE_TIMEOUT_MS + 5000);
+
+        List<CalibrationPointResponse> responses = service.getReceivedResponses();
+        assertEquals(2, responses.size());
+        assertEquals(displayStartMs(2), responses.get(1).displayStartMs);
+        assertEquals(CalibrationStatus.FinishedFailed.intValue, memory.getInt(24));
+        assertNotNull(procedure.readOptionalErrorMessage());
+    }
+
+    @Test
+    public void waitingForResponse_doesNotBlockUnityCalls() throws InterruptedException {
+        // Unity never responds, service call waits for display of first point
+        procedure.markReadyForPointDisplay();
+        service.playCalibrationPoints(POINTS, 0, ActionResult.success());
+        Thread.sleep(100);
+        long start = System.nanoTime();
+        try {
+            procedure.enablePipelinedMode(Pointer.nativeValue(pointQueueMemory), QUEUE_SIZE, Pointer.nativeValue(responseQueueMemory), QUEUE_SIZE);
+            fail("Pipelined mode enabled after first point");
+        } catch (RuntimeException expected) {
+            // pipelined mode is enabled only before first point
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(CalibrationProcedure.RESPONSE_TIMEOUT_MS / 2));
+        service.awaitPlayback(CalibrationProcedure.RESPONSE_TIMEOUT_MS + 5000);
+        assertEquals(CalibrationStatus.FinishedFailed.intValue, memory.getInt(24));
+    }
+
+    private static long displayStartMs(int pointIndex) {
+        return 1000 + pointIndex;
+    }
+
+    /*
+     * Consumes queued points and reports their display after a short delay, like Unity rendering a frame.
+     */
+    private class SimulatedUnity implements Runnable {
+        private final int respondedPoints;
+        private final Thread thread = new Thread(this, "SimulatedUnity");
+        private volatile boolean running = true;
+
+        SimulatedUnity(int respondedPoints) {
+            this.respondedPoints = respondedPoints;
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        @Override
+        public void run() {
+            ByteBuffer points = NativeMemory.wrap(Pointer.nativeValue(pointQueueMemory), QUEUE_SIZE);
+            ByteBuffer responses = NativeMemory.wrap(Pointer.nativeValue(responseQueueMemory), QUEUE_SIZE);
+            int pointMask = points.getInt(CAPACITY_OFFSET) - 1;
+            int responseMask = responses.getInt(CAPACITY_OFFSET) - 1;
+            long readIndex = 0;
+            long responseIndex = 0;
+            int responded = 0;
+            while (running) {
+                NativeMemory.fullFence();
+                if (readIndex == points.getLong(WRITE_INDEX_OFFSET)) {
+                    Thread.yield();
+                    continue;
+                }
+                int pointSlot = NativeRingBuffer.HEADER_SIZE + (int) (readIndex & pointMask) * CalibrationProcedure.POINT_SLOT_SIZE;
+                int pointIndex = points.getInt(pointSlot);
+                float x = points.getFloat(pointSlot + 4);
+                float y = points.getFloat(pointSlot + 8);
+                points.putLong(READ_INDEX_OFFSET, ++readIndex);
+                if (responded++ >= respondedPoints)
+                    continue;
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int slot = NativeRingBuffer.HEADER_SIZE + (int) (responseIndex & responseMask) * CalibrationProcedure.RESPONSE_SLOT_SIZE;
+                responses.putInt(slot, pointIndex);
+                responses.putFloat(slot + 4, x);
+                responses.putFloat(slot + 8, y);
+                responses.putLong(slot + 16, displayStartMs(pointIndex));
+                NativeMemory.fullFence();
+                responses.putLong(WRITE_INDEX_OFFSET, ++responseIndex);
+            }
+        }
+    }
+}
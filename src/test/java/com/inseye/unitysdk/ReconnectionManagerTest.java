@@ -0,0 +1,51 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of rebind backoff, run on the development machine (host).
+ */
+public class ReconnectionManagerTest {
+    private static final long INITIAL_DELAY_MS = 100;
+    private static final long MAX_DELAY_MS = 10000;
+    private static final int DRAWS = 1000;
+
+    @Test
+    public void delay_staysWithinJitteredBackoff() {
+        ReconnectionManager manager = new ReconnectionManager(null, INITIAL_DELAY_MS, MAX_DELAY_MS, 5000);
+        for (int attempts = 0; attempts < 80; attempts++) {
+            long backoff = Math.min(INITIAL_DELAY_MS << Math.min(attempts, 16), MAX_DELAY_MS);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < DRAWS; i++) {
+                long delay = manager.delayOf(attempts);
+                assertTrue("attempt " + attempts + " delay " + delay, delay >= backoff / 2 && delay <= backoff);
+                min = Math.min(min, delay);
+                max = Math.max(max, delay);
+            }
+            // delays are spread over the whole range, not pinned to one of the bounds
+            assertTrue(max - min > backoff / 4);
+        }
+    }
+
+    @Test
+    public void delay_growsUntilMaximum() {
+        ReconnectionManager manager = new ReconnectionManager(null, INITIAL_DELAY_MS, MAX_DELAY_MS, 5000);
+        assertTrue(manager.delayOf(0) <= INITIAL_DELAY_MS);
+        // 100 << 7 is past maximum, so every later attempt waits at least half of maximum
+        for (int attempts = 7; attempts < 1000; attempts += 97)
+            assertTrue(manager.delayOf(attempts) >= MAX_DELAY_MS / 2);
+        assertTrue(manager.delayOf(Integer.MAX_VALUE) <= MAX_DELAY_MS);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Last edit: 17.10.2026, 02:34
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * Concurrency stress tests of SDKState, run on the development machine (host).
+ */
+public class SDKStateStressTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    public void transitionTable_isEnforced() {
+        SDKState state = new SDKState();
+        assertTrue(state.isInState(SDKState.NOT_CONNECTED));
+        assertFalse(state.transition(SDKStateTransition.AttachGazeStream));
+        assertFalse(state.transition(SDKStateTransition.Disconnect));
+        assertTrue(state.transition(SDKStateTransition.Connect));
+        assertFalse(state.transition(SDKStateTransition.Connect));
+        assertTrue(state.transition(SDKStateTransition.StartCalibration));
+        assertFalse(state.transition(SDKStateTransition.StartCalibration));
+        assertTrue(state.transition(SDKStateTransition.SubscribeToEvents));
+        assertTrue(state.isInState(SDKState.CALIBRATING));
+        assertTrue(state.isInState(SDKState.SUBSCRIBED_TO_EVENTS));
+        assertTrue(state.transition(SDKStateTransition.Disconnect));
+        assertTrue(state.isInState(SDKState.NOT_CONNECTED));
+        assertFalse(state.transition(SDKStateTransition.FinishCalibration));
+        assertEquals(4, state.getVersion());
+    }
+
+    @Test
+    public void concurrentClaims_haveSingleWinner() throws Exception {
+        SDKState state = new SDKState();
+        state.transition(SDKStateTransition.Connect);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (!state.transition(SDKStateTransition.StartCalibration))
+                    continue;
+                winners.incrementAndGet();
+                if (inside.incrementAndGet() != 1)
+                    overlaps.incrementAndGet();
+                inside.decrementAndGet();
+                assertTrue(state.transition(SDKStateTransition.FinishCalibration));
+            }
+        });
+        assertEquals(0, overlaps.get());
+        assertTrue(winners.get() > 0);
+        assertEquals(1 + 2 * winners.get(), state.getVersion());
+        assertFalse(state.isInState(SDKState.CALIBRATING));
+    }
+
+    @Test
+    public void independentFlags_areNotLost() throws Exception {
+        SDKState state = new SDKState();
+        state.transition(SDKStateTransition.Connect);
+        SDKStateTransition[][] pairs = {
+                {SDKStateTransition.StartCalibration, SDKStateTransition.FinishCalibration},
+                {SDKStateTransition.AttachGazeStream, SDKStateTransition.DetachGazeStream},
+                {SDKStateTransition.SubscribeToEvents, SDKStateTransition.UnsubscribeFromEvents},
+        };
+        runConcurrently(thread -> {
+            // every flag is owned by single thread, so each of its transitions must succeed
+            SDKStateTransition[] pair = pairs[thread % pairs.length];
+            if (thread >= pairs.length)
+                return;
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertTrue(state.transition(pair[0]));
+                assertTrue(state.transition(pair[1]));
+            }
+        });
+        assertEquals(SDKState.FLAG_CONNECTED, state.getState());
+        assertEquals(1 + pairs.length * 2 * ITERATIONS, state.getVersion());
+    }
+
+    @Test
+    public void listeners_receiveEveryVersionOnce() throws Exception {
+        SDKState state = new SDKState();
+        int expectedTransitions = 1 + THREADS * ITERATIONS * 2;
+        AtomicIntegerArray seen = new AtomicIntegerArray(expectedTransitions + 1);
+        AtomicInteger invalid = new AtomicInteger();
+        state.addListener((oldState, newState, version) -> {
+            seen.incrementAndGet(version);
+            if ((newState & SDKState.FLAG_CONNECTED) == 0)
+                invalid.incrementAndGet();
+        });
+        state.transition(SDKStateTransition.Connect);
+        runConcurrently(thread -> {
+            SDKStateTransition claim = thread % 2 == 0 ? SDKStateTransition.AttachGazeStream : SDKStateTransition.SubscribeToEvents;
+            SDKStateTransition release = thread % 2 == 0 ? SDKStateTransition.DetachGazeStream : SDKStateTransition.UnsubscribeFromEvents;
+            int done = 0;
+            while (done < ITERATIONS) {
+                if (state.transition(claim)) {
+                    assertTrue(state.transition(release));
+                    done++;
+                }
+            }
+        });
+        assertEquals(0, invalid.get());
+        assertEquals(expectedTransitions, state.getVersion());
+        for (int version = 1; version <= expectedTransitions; version++)
+            assertEquals("version " + version, 1, seen.get(version));
+    }
+
+    @Test
+    public void nativePointers_convergeToNewestWord() throws Exception {
+        Memory stateMemory = new Memory(4);
+        Memory wordMemory = new Memory(8);
+        SDKState state = new SDKState();
+        state.setUnityPointer(Pointer.nativeValue(stateMemory));
+        state.setUnityStateWordPointer(Pointer.nativeValue(wordMemory));
+        state.transition(SDKStateTransition.Connect);
+        runConcurrently(thread -> {
+            SDKStateTransition claim = thread % 2 == 0 ? SDKStateTransition.AttachGazeStream : SDKStateTransition.StartCalibration;
+            SDKStateTransition release = thread % 2 == 0 ? SDKStateTransition.DetachGazeStream : SDKStateTransition.FinishCalibration;
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (state.transition(claim))
+                    state.transition(release);
+            }
+        });
+        assertEquals(state.getState(), stateMemory.getInt(0));
+        assertEquals(state.getStateWord(), wordMemory.getLong(0));
+        state.transition(SDKStateTransition.SubscribeToEvents);
+        assertEquals(state.getState(), stateMemory.getInt(0));
+        assertEquals(state.getStateWord(), wordMemory.getLong(0));
+        assertEquals(SDKState.FLAG_CONNECTED | SDKState.FLAG_SUBSCRIBED_TO_EVENTS, stateMemory.getInt(0));
+        state.clearUnityPointer();
+    }
+
+    @Test
+    public void disconnect_racesWithClaims() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            SDKState state = new SDKState();
+            state.transition(SDKStateTransition.Connect);
+            runConcurrently(thread -> {
+                if (thread == 0) {
+                    state.transition(SDKStateTransition.Disconnect);
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    state.transition(SDKStateTransition.AttachGazeStream);
+                    state.transition(SDKStateTransition.SubscribeToEvents);
+                }
+            });
+            // no flag can survive disconnect, transitions requiring connection are rejected after it
+            assertEquals(0, state.getState());
+        }
+    }
+
+    private interface IWorker {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(IWorker worker) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        CountDownLatch finished = new CountDownLatch(THREADS);
+        Throwable[] failures = new Throwable[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(thread);
+                } catch (Throwable e) {
+                    failures[thread] = e;
+                } finally {
+                    finished.countDown();
+                }
+            }).start();
+        }
+        finished.await();
+        for (Throwable failure : failures) {
+            if (null != failure)
+                throw new AssertionError(failure);
+        }
+    }
+}
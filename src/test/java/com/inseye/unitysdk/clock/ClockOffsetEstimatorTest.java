@@ -0,0 +1,77 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.clock;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of clock offset and drift estimation with simulated transport delay, run on the development machine (host).
+ * Foreign clock is observed every millisecond, local = foreign + offset + drift * foreign + delay.
+ */
+public class ClockOffsetEstimatorTest {
+    private static final double WINDOW_MS = 500;
+    private static final double STEP_THRESHOLD_MS = 50;
+    private static final double OFFSET_MS = 1234.5;
+    private static final double DRIFT = 100e-6;
+
+    private final Random random = new Random(11);
+
+    @Test
+    public void offsetAndDrift_areEstimatedFromMinimalDelays() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(WINDOW_MS, STEP_THRESHOLD_MS);
+        assertFalse(estimator.isValid());
+        observe(estimator, 0, 30_000, 0);
+        assertTrue(estimator.isValid());
+        assertEquals(DRIFT, estimator.getDrift(), 5e-6);
+        for (double foreign = 0; foreign < 30_000; foreign += 1000)
+            assertEquals(local(foreign, 0), estimator.toLocal(foreign), 0.2);
+        double local = local(20_000, 0);
+        assertEquals(20_000, estimator.fromLocal(local), 0.2);
+        assertEquals(0, estimator.getResetCount());
+    }
+
+    @Test
+    public void provisionalEstimate_isValidBeforeFirstWindowCloses() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(WINDOW_MS, STEP_THRESHOLD_MS);
+        observe(estimator, 0, 100, 0);
+        assertTrue(estimator.isValid());
+        assertEquals(0, estimator.getWindowCount());
+        assertEquals(0, estimator.getDrift(), 0);
+        assertEquals(local(50, 0), estimator.toLocal(50), 1);
+    }
+
+    @Test
+    public void steppedClock_restartsEstimation() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(WINDOW_MS, STEP_THRESHOLD_MS);
+        observe(estimator, 0, 20_000, 0);
+        // foreign clock jumps back by 300 ms relative to local clock, like service restarting with new time base
+        observe(estimator, 20_000, 40_000, 300);
+        assertEquals(1, estimator.getResetCount());
+        assertEquals(local(39_000, 300), estimator.toLocal(39_000), 0.5);
+    }
+
+    /*
+     * Observes foreign times [from, to) with delay of 0 - 5 ms, step moves foreign clock back by given time.
+     */
+    private void observe(ClockOffsetEstimator estimator, double from, double to, double stepMs) {
+        for (double foreign = from; foreign < to; foreign++) {
+            double delay = random.nextDouble() * 5;
+            estimator.observe(foreign - stepMs, local(foreign, 0) + delay);
+        }
+    }
+
+    private static double local(double foreign, double stepMs) {
+        return foreign + stepMs + OFFSET_MS + DRIFT * foreign;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze datagram decoding, run on the development machine (host).
+ */
+public class GazeBatchDecoderTest {
+    private static final int SAMPLE_SIZE = GazeBatchDecoder.GAZE_DATA_SERIALIZER.getSizeInBytes();
+
+    @Test
+    public void encodedSamples_roundTrip() {
+        GazeSampleBatch source = new GazeSampleBatch(8);
+        source.add(1000, 0.1f, -0.2f, 0.3f, -0.4f, 0);
+        source.add(1001, Float.NaN, Float.NaN, Float.NaN, Float.NaN, 3);
+        source.add(Long.MAX_VALUE, -1, 1, Float.MIN_VALUE, Float.MAX_VALUE, 4);
+        ByteBuffer datagram = encode(source);
+        // trailing partial sample is ignored
+        datagram.limit(datagram.limit() + SAMPLE_SIZE - 1);
+
+        GazeSampleBatch decoded = new GazeSampleBatch(8);
+        assertEquals(3, GazeBatchDecoder.decode(datagram, decoded));
+        assertEquals(3, decoded.size());
+        for (int i = 0; i < source.size(); i++) {
+            assertEquals(source.timestamps[i], decoded.timestamps[i]);
+            assertEquals(source.leftX[i], decoded.leftX[i], 0);
+            assertEquals(source.leftY[i], decoded.leftY[i], 0);
+            assertEquals(source.rightX[i], decoded.rightX[i], 0);
+            assertEquals(source.rightY[i], decoded.rightY[i], 0);
+            assertEquals(source.gazeEvents[i], decoded.gazeEvents[i]);
+        }
+    }
+
+    @Test
+    public void decoding_stopsWhenBatchIsFull() {
+        GazeSampleBatch source = new GazeSampleBatch(4);
+        for (int i = 0; i < 4; i++)
+            source.add(i, i, i, i, i, 0);
+        ByteBuffer datagram = encode(source);
+        GazeSampleBatch decoded = new GazeSampleBatch(3);
+        assertEquals(3, GazeBatchDecoder.decode(datagram, decoded));
+        assertTrue(decoded.isFull());
+        // undecoded sample stays in the datagram
+        assertEquals(SAMPLE_SIZE, datagram.remaining());
+        assertEquals(2, decoded.timestamps[2]);
+    }
+
+    @Test
+    public void bigEndianBuffer_isDecodedAsLittleEndian() {
+        GazeSampleBatch source = new GazeSampleBatch(1);
+        source.add(123456789L, 0.5f, 0.25f, -0.5f, -0.25f, 4);
+        ByteBuffer datagram = encode(source).order(ByteOrder.BIG_ENDIAN);
+        GazeSampleBatch decoded = new GazeSampleBatch(1);
+        GazeBatchDecoder.decode(datagram, decoded);
+        assertEquals(123456789L, decoded.timestamps[0]);
+        assertEquals(0.25f, decoded.leftY[0], 0);
+    }
+
+    private static ByteBuffer encode(GazeSampleBatch batch) {
+        ByteBuffer buffer = ByteBuffer.allocate((batch.size() + 1) * SAMPLE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < batch.size(); i++)
+            GazeBatchDecoder.writeSample(batch, i, buffer);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of broadcast ring decimation and overflow accounting, run on the development machine (host).
+ * Consumers are simulated by reading and writing consumer table directly, timestamps are in milliseconds.
+ */
+public class GazeBroadcastRingTest {
+    private static final int CAPACITY = 8;
+    private static final int SIZE = GazeBroadcastRing.HEADER_SIZE + CAPACITY * GazeBroadcastRing.SLOT_SIZE;
+
+    private final Memory memory = new Memory(SIZE);
+
+    @Test
+    public void decimatedConsumer_receivesSamplesAtItsInterval() {
+        GazeBroadcastRing ring = new GazeBroadcastRing(Pointer.nativeValue(memory), SIZE, 0);
+        int full = ring.addConsumer(GazeOverflowPolicy.DropOldest, 0);
+        int decimated = ring.addConsumer(GazeOverflowPolicy.DropOldest, 10);
+        int decimatedBit = 1 << decimated;
+        long decimatedRead = 0;
+        long previous = -1;
+        // 1 kHz stream in batches of 4, both consumers read everything after every batch
+        for (int t = 0; t < 1000; t += 4) {
+            ring.onGazeBatch(batch(t, 4));
+            long writeIndex = memory.getLong(GazeBroadcastRing.WRITE_INDEX_OFFSET);
+            for (long index = writeIndex - 4; index < writeIndex; index++) {
+                int slot = slot(index);
+                if ((memory.getInt(slot + GazeBroadcastRing.SLOT_MASK_OFFSET) & decimatedBit) == 0)
+                    continue;
+                long timestamp = memory.getLong(slot);
+                if (previous >= 0)
+                    assertEquals(10, timestamp - previous);
+                previous = timestamp;
+                decimatedRead++;
+            }
+            setReadIndex(full, writeIndex);
+            setReadIndex(decimated, writeIndex);
+        }
+        assertEquals(1000, ring.getSelectedCount(full));
+        assertEquals(100, ring.getSelectedCount(decimated));
+        assertEquals(100, decimatedRead);
+        assertEquals(100, memory.getLong(entry(decimated) + GazeBroadcastRing.CONSUMER_SELECTED_COUNT));
+        assertEquals(0, ring.getDroppedCount(full));
+        assertEquals(0, ring.getDroppedCount());
+    }
+
+    @Test
+    public void unreadSamplesOfDropOldestConsumer_areCountedAsDropped() {
+        GazeBroadcastRing ring = new GazeBroadcastRing(Pointer.nativeValue(memory), SIZE, 0);
+        int id = ring.addConsumer(GazeOverflowPolicy.DropOldest, 0);
+        ring.onGazeBatch(batch(0, 20));
+        assertEquals(20, ring.getWriteIndex());
+        assertEquals(20 - CAPACITY, ring.getDroppedCount(id));
+        assertEquals(20 - CAPACITY, memory.getLong(entry(id) + GazeBroadcastRing.CONSUMER_DROPPED_COUNT));
+        // ring holds the newest samples
+        assertEquals(19, memory.getLong(slot(19)));
+        // consumer catches up, nothing more is dropped
+        setReadIndex(id, 20);
+        ring.onGazeBatch(batch(20, CAPACITY));
+        assertEquals(20 - CAPACITY, ring.getDroppedCount(id));
+    }
+
+    @Test
+    public void stalledBlockingConsumer_dropsNewSamples() {
+        GazeBroadcastRing ring = new GazeBroadcastRing(Pointer.nativeValue(memory), SIZE, 0);
+        int id = ring.addConsumer(GazeOverflowPolicy.Block, 0);
+        ring.onGazeBatch(batch(0, 20));
+        // unread samples are kept, samples that did not fit are dropped for everyone
+        assertEquals(CAPACITY, ring.getWriteIndex());
+        assertEquals(20 - CAPACITY, ring.getDroppedCount());
+        assertEquals(20 - CAPACITY, memory.getLong(GazeBroadcastRing.DROPPED_COUNT_OFFSET));
+        assertEquals(0, memory.getLong(slot(0)));
+        setReadIndex(id, CAPACITY);
+        ring.onGazeBatch(batch(20, 1));
+        assertEquals(CAPACITY + 1, ring.getWriteIndex());
+        assertEquals(20, memory.getLong(slot(CAPACITY)));
+    }
+
+    @Test
+    public void closedRing_isNotWritten() {
+        GazeBroadcastRing ring = new GazeBroadcastRing(Pointer.nativeValue(memory), SIZE, 1000);
+        ring.addConsumer(GazeOverflowPolicy.Block, 0);
+        ring.close();
+        ring.onGazeBatch(batch(0, 20));
+        assertEquals(0, ring.getWriteIndex());
+        assertEquals(0, memory.getLong(GazeBroadcastRing.WRITE_INDEX_OFFSET));
+    }
+
+    private static GazeSampleBatch batch(long firstTimestamp, int size) {
+        GazeSampleBatch batch = new GazeSampleBatch(size);
+        for (int i = 0; i < size; i++)
+            batch.add(firstTimestamp + i, 0, 0, 0, 0, 0);
+        return batch;
+    }
+
+    private void setReadIndex(int id, long readIndex) {
+        memory.setLong(entry(id) + GazeBroadcastRing.CONSUMER_READ_INDEX, readIndex);
+    }
+
+    private static int entry(int id) {
+        return GazeBroadcastRing.CONSUMERS_OFFSET + id * GazeBroadcastRing.CONSUMER_SIZE;
+    }
+
+    private static int slot(long index) {
+        return GazeBroadcastRing.HEADER_SIZE + (int) (index & (CAPACITY - 1)) * GazeBroadcastRing.SLOT_SIZE;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Last edit: 17.10.2026, 03:50
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze receiver lifecycle on loopback socket, run on the development machine (host).
+ */
+public class GazeReceiverTest {
+    private GazeReceiver receiver;
+
+    @After
+    public void tearDown() {
+        if (null != receiver)
+            receiver.stop();
+    }
+
+    @Test
+    public void receiverStoppedByFailingConsumer_releasesPort() throws IOException, InterruptedException {
+        int port = freePort();
+        GazePipeline pipeline = new GazePipeline();
+        pipeline.addConsumer(batch -> {
+            throw new IllegalStateException("consumer failure");
+        });
+        CountDownLatch failed = new CountDownLatch(1);
+        receiver = new GazeReceiver(port, pipeline, exception -> failed.countDown());
+        receiver.start();
+        send(port);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertFalse(receiver.isRunning());
+        receiver.stop();
+
+        // same port is bound again, like when Unity restarts the stream after the failure
+        CountDownLatch received = new CountDownLatch(1);
+        GazePipeline restarted = new GazePipeline();
+        restarted.addConsumer(batch -> received.countDown());
+        receiver = new GazeReceiver(port, restarted, null);
+        receiver.start();
+        send(port);
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void stoppedReceiver_releasesPort() throws IOException {
+        int port = freePort();
+        receiver = new GazeReceiver(port, new GazePipeline(), null);
+        receiver.start();
+        receiver.stop();
+        receiver = new GazeReceiver(port, new GazePipeline(), null);
+        receiver.start();
+        assertTrue(receiver.isRunning());
+    }
+
+    private static int freePort() throws IOException {
+        try (DatagramChannel probe = DatagramChannel.open()) {
+            probe.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            return ((InetSocketAddress) probe.getLocalAddress()).getPort();
+        }
+    }
+
+    private static void send(int port) throws IOException {
+        GazeSampleBatch samples = new GazeSampleBatch(4);
+        for (int i = 0; i < 4; i++)
+            samples.add(1000 + i, 0.1f, 0.1f, 0.1f, 0.1f, 0);
+        ByteBuffer datagram = ByteBuffer.allocate(4 * GazeBatchDecoder.GAZE_DATA_SERIALIZER.getSizeInBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < samples.size(); i++)
+            GazeBatchDecoder.writeSample(samples, i, datagram);
+        datagram.flip();
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            sender.send(datagram, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        }
+    }
+}
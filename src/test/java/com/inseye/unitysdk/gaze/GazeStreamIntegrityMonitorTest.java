@@ -0,0 +1,113 @@
+/*
+ * Last edit: 17.10.2026, 03:31
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze;
+
+import com.inseye.unitysdk.tests.SyntheticGazeConfig;
+import com.inseye.unitysdk.tests.SyntheticGazeGenerator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze stream integrity monitor, run on the development machine (host).
+ */
+public class GazeStreamIntegrityMonitorTest {
+
+    @Test
+    public void orderedStream_hasNoFaults() {
+        GazeStreamIntegrityMonitor monitor = new GazeStreamIntegrityMonitor();
+        monitor.apply(batch(0, 1, 2, 3, 4, 5, 6, 7));
+        monitor.apply(batch(8, 9, 10, 11));
+        assertEquals(12, monitor.getCounter(GazeStreamIntegrityMonitor.RECEIVED));
+        for (int counter = GazeStreamIntegrityMonitor.GAPS; counter < GazeStreamIntegrityMonitor.COUNTER_COUNT; counter++)
+            assertEquals(GazeStreamIntegrityMonitor.NAMES[counter], 0, monitor.getCounter(counter));
+    }
+
+    @Test
+    public void faults_areCounted() {
+        GazeStreamIntegrityMonitor monitor = new GazeStreamIntegrityMonitor();
+        // 5..8 missing, then 6 arrives reordered, 9 is duplicated
+        monitor.apply(batch(0, 1, 2, 3, 4, 9, 9, 6, 10));
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.GAPS));
+        assertEquals(5, monitor.getCounter(GazeStreamIntegrityMonitor.MAX_GAP_MS));
+        assertEquals(3, monitor.getCounter(GazeStreamIntegrityMonitor.MISSING));
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.DUPLICATES));
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.REORDERED));
+        // without reorder window every reordered sample is late
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.LATE));
+        // batch is not modified when only counting
+        assertEquals(9, monitor.getCounter(GazeStreamIntegrityMonitor.RECEIVED));
+    }
+
+    @Test
+    public void timestampJumpingBack_restartsStream() {
+        GazeStreamIntegrityMonitor monitor = new GazeStreamIntegrityMonitor();
+        monitor.apply(batch(5000, 5001, 5002));
+        monitor.apply(batch(0, 1, 2));
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.STREAM_RESTARTS));
+        assertEquals(0, monitor.getCounter(GazeStreamIntegrityMonitor.LATE));
+        assertEquals(0, monitor.getCounter(GazeStreamIntegrityMonitor.GAPS));
+    }
+
+    @Test
+    public void reorderWindow_releasesSamplesInOrder() {
+        GazeStreamIntegrityMonitor monitor = new GazeStreamIntegrityMonitor();
+        monitor.setReorderWindow(3);
+        GazeSampleBatch first = batch(0, 2, 3, 3, 5, 4);
+        monitor.apply(first);
+        // samples older than newest (5) by window are released
+        assertTimestamps(first, 0, 2);
+        GazeSampleBatch second = batch(6, 8, 7, 1, 9);
+        monitor.apply(second);
+        // duplicate of 3 and late 1 are dropped
+        assertTimestamps(second, 3, 4, 5, 6);
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.DUPLICATES));
+        assertEquals(1, monitor.getCounter(GazeStreamIntegrityMonitor.LATE));
+        assertEquals(3, monitor.getCounter(GazeStreamIntegrityMonitor.REORDERED));
+    }
+
+    @Test
+    public void lossyStandIn_countersMatchInjectedFaults() {
+        SyntheticGazeConfig config = new SyntheticGazeConfig();
+        config.sampleRateHz = 1000;
+        config.samplesPerPacket = 4;
+        config.lossProbability = 0.03f;
+        config.duplicateProbability = 0.03f;
+        config.reorderProbability = 0.03f;
+        config.seed = 7;
+        GazeStreamIntegrityMonitor monitor = new GazeStreamIntegrityMonitor();
+        SyntheticGazeGenerator generator = new SyntheticGazeGenerator(config, monitor::apply);
+        for (int i = 0; i < 400; i++)
+            generator.generatePacket();
+        // lost or held packet at the end of stream is not visible to the monitor until next packet arrives
+        while (!generator.generatePacket())
+            ;
+        assertTrue(generator.getLostSamples() > 0);
+        assertTrue(generator.getReorderedPackets() > 0);
+        assertEquals(generator.getSentSamples(), monitor.getCounter(GazeStreamIntegrityMonitor.RECEIVED));
+        assertEquals(generator.getDuplicatedSamples(), monitor.getCounter(GazeStreamIntegrityMonitor.DUPLICATES));
+        assertEquals(generator.getLostSamples(), monitor.getCounter(GazeStreamIntegrityMonitor.MISSING));
+        assertEquals(generator.getReorderedPackets() * config.samplesPerPacket, monitor.getCounter(GazeStreamIntegrityMonitor.REORDERED));
+    }
+
+    private static GazeSampleBatch batch(long... timestamps) {
+        GazeSampleBatch batch = new GazeSampleBatch(64);
+        for (long timestamp : timestamps)
+            batch.add(timestamp, timestamp, -timestamp, timestamp * 0.5f, 1, 0);
+        return batch;
+    }
+
+    private static void assertTimestamps(GazeSampleBatch batch, long... expected) {
+        assertEquals(expected.length, batch.size());
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], batch.timestamps[i]);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.filters;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze filters on 1 kHz signals, run on the development machine (host).
+ */
+public class GazeFilterTest {
+    private static final int SAMPLES = 1000;
+
+    @Test
+    public void median_removesSingleSampleSpike() {
+        MedianFilter filter = new MedianFilter(3);
+        GazeSampleBatch batch = batch(0, 0.2f, 0.2f, 5f, 0.2f, 0.2f);
+        filter.apply(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(0.2f, batch.leftX[i], 0);
+            assertEquals(0.2f, batch.rightY[i], 0);
+        }
+    }
+
+    @Test
+    public void median_followsStepAfterHalfWindow() {
+        MedianFilter filter = new MedianFilter(5);
+        GazeSampleBatch batch = batch(0, 0, 0, 0, 0, 0, 1, 1, 1, 1);
+        filter.apply(batch);
+        assertEquals(0, batch.leftX[5], 0);
+        assertEquals(0, batch.leftX[6], 0);
+        assertEquals(1, batch.leftX[7], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void median_rejectsEvenWindow() {
+        new MedianFilter(4);
+    }
+
+    @Test
+    public void oneEuro_reducesNoiseOfFixation() {
+        OneEuroFilter filter = new OneEuroFilter(1, 0.01f, 1);
+        GazeSampleBatch batch = noisyConstant(0.3f, 0.01f);
+        double rawDeviation = deviation(batch, 0.3f, SAMPLES / 2);
+        filter.apply(batch);
+        assertTrue(deviation(batch, 0.3f, SAMPLES / 2) < rawDeviation / 4);
+    }
+
+    @Test
+    public void oneEuro_followsFastMovement() {
+        // high beta raises cutoff with speed, so saccade is followed with little lag
+        OneEuroFilter slow = new OneEuroFilter(1, 0, 1);
+        OneEuroFilter adaptive = new OneEuroFilter(1, 10, 1);
+        GazeSampleBatch slowBatch = ramp(100);
+        GazeSampleBatch adaptiveBatch = ramp(100);
+        slow.apply(slowBatch);
+        adaptive.apply(adaptiveBatch);
+        int last = 99;
+        float target = slowBatch.timestamps[last] * 0.01f;
+        assertTrue(Math.abs(adaptiveBatch.leftX[last] - target) < Math.abs(slowBatch.leftX[last] - target) / 4);
+    }
+
+    @Test
+    public void kalman_tracksConstantVelocity() {
+        KalmanFilter filter = new KalmanFilter(1, 0.0001f);
+        GazeSampleBatch batch = ramp(SAMPLES);
+        filter.apply(batch);
+        // constant velocity model has no lag once velocity is estimated
+        for (int i = SAMPLES / 2; i < SAMPLES; i++)
+            assertEquals(batch.timestamps[i] * 0.01f, batch.leftX[i], 0.001f);
+    }
+
+    @Test
+    public void kalman_reducesNoiseOfFixation() {
+        KalmanFilter filter = new KalmanFilter(0.01f, 0.0001f);
+        GazeSampleBatch batch = noisyConstant(-0.2f, 0.01f);
+        double rawDeviation = deviation(batch, -0.2f, SAMPLES / 2);
+        filter.apply(batch);
+        assertTrue(deviation(batch, -0.2f, SAMPLES / 2) < rawDeviation / 4);
+    }
+
+    @Test
+    public void gapInStream_resetsFilter() {
+        KalmanFilter filter = new KalmanFilter(0.01f, 0.0001f);
+        GazeSampleBatch batch = new GazeSampleBatch(2);
+        batch.add(0, 0, 0, 0, 0, 0);
+        batch.add(1, 0, 0, 0, 0, 0);
+        filter.apply(batch);
+        batch.clear();
+        // first sample after gap longer than 100 ms is passed through
+        batch.add(200, 0.7f, 0.7f, 0.7f, 0.7f, 0);
+        filter.apply(batch);
+        assertEquals(0.7f, batch.leftX[0], 0);
+    }
+
+    private static GazeSampleBatch batch(long startTimestamp, float... values) {
+        GazeSampleBatch batch = new GazeSampleBatch(values.length);
+        for (int i = 0; i < values.length; i++)
+            batch.add(startTimestamp + i, values[i], values[i], values[i], values[i], 0);
+        return batch;
+    }
+
+    /*
+     * Gaze moving by 0.01 per millisecond.
+     */
+    private static GazeSampleBatch ramp(int samples) {
+        GazeSampleBatch batch = new GazeSampleBatch(samples);
+        for (int i = 0; i < samples; i++)
+            batch.add(i, i * 0.01f, i * 0.01f, i * 0.01f, i * 0.01f, 0);
+        return batch;
+    }
+
+    private static GazeSampleBatch noisyConstant(float value, float noise) {
+        Random random = new Random(3);
+        GazeSampleBatch batch = new GazeSampleBatch(SAMPLES);
+        for (int i = 0; i < SAMPLES; i++) {
+            float x = value + (float) random.nextGaussian() * noise;
+            batch.add(i, x, x, x, x, 0);
+        }
+        return batch;
+    }
+
+    private static double deviation(GazeSampleBatch batch, float value, int from) {
+        double sum = 0;
+        for (int i = from; i < batch.size(); i++)
+            sum += (batch.leftX[i] - value) * (batch.leftX[i] - value);
+        return Math.sqrt(sum / (batch.size() - from));
+    }
+}
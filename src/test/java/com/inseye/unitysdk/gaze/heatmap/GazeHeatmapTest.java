@@ -0,0 +1,108 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.heatmap;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze heatmap accumulation and decay, run on the development machine (host).
+ * Samples are placed away from viewport border, so no splat mass is lost.
+ */
+public class GazeHeatmapTest {
+    private static final int SIZE = 64;
+
+    @Test
+    public void splats_conserveMassOnEveryLevel() {
+        GazeHeatmap heatmap = new GazeHeatmap(SIZE, SIZE, 2.5f, 0);
+        Random random = new Random(3);
+        GazeSampleBatch batch = new GazeSampleBatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            float x = 0.2f + random.nextFloat() * 0.6f;
+            float y = 0.2f + random.nextFloat() * 0.6f;
+            batch.add(i, x, y, x, y, 0);
+        }
+        heatmap.onGazeBatch(batch);
+        assertEquals(1000, heatmap.getSampleCount());
+        assertEquals(1000, heatmap.getTotalWeight(), 1000 * 1e-5);
+        Memory texture = new Memory(SIZE * SIZE * 4);
+        for (int level = 0; level < heatmap.getLevelCount(); level++) {
+            heatmap.copyTo(Pointer.nativeValue(texture), (int) texture.size(), level, HeatmapTextureFormat.RFloat);
+            double sum = 0;
+            int cells = heatmap.getLevelWidth(level) * heatmap.getLevelHeight(level);
+            for (int i = 0; i < cells; i++)
+                sum += texture.getFloat(i * 4);
+            // cells hold mean per cell of full resolution level
+            assertEquals("level " + level, 1000, sum * (1L << (2 * level)), 1000 * 1e-4);
+        }
+    }
+
+    @Test
+    public void r8Copy_isNormalizedToMaximum() {
+        GazeHeatmap heatmap = new GazeHeatmap(SIZE, SIZE, 1, 0);
+        heatmap.onGazeBatch(batch(0, 1, 0.5f));
+        Memory texture = new Memory(SIZE * SIZE);
+        heatmap.copyTo(Pointer.nativeValue(texture), SIZE * SIZE, 0, HeatmapTextureFormat.R8);
+        assertEquals(255, texture.getByte(32 * SIZE + 32) & 0xFF);
+        assertEquals(0, texture.getByte(0));
+    }
+
+    @Test
+    public void samples_decayWithHalfLife() {
+        GazeHeatmap heatmap = new GazeHeatmap(SIZE, SIZE, 2, 100);
+        heatmap.onGazeBatch(batch(0, 1, 0.5f));
+        heatmap.onGazeBatch(batch(100, 1, 0.5f));
+        assertEquals(1.5, heatmap.getTotalWeight(), 1e-5);
+        heatmap.onGazeBatch(batch(300, 1, 0.5f));
+        assertEquals(1.375, heatmap.getTotalWeight(), 1e-5);
+    }
+
+    @Test
+    public void longDecayingSession_convergesToSteadyState() {
+        GazeHeatmap heatmap = new GazeHeatmap(SIZE, SIZE, 2, 100);
+        // 10 s at 1 kHz, gain grows past its limit and grid is rescaled many times
+        for (int t = 0; t < 10_000; t += 100)
+            heatmap.onGazeBatch(batch(t, 100, 0.5f));
+        double steadyState = 1 / (1 - Math.pow(0.5, 1 / 100.0));
+        assertEquals(steadyState, heatmap.getTotalWeight(), steadyState * 1e-4);
+        heatmap.clear();
+        assertEquals(0, heatmap.getTotalWeight(), 0);
+        assertEquals(0, heatmap.getSampleCount());
+    }
+
+    @Test
+    public void samplesOutsideViewport_areSkipped() {
+        GazeHeatmap heatmap = new GazeHeatmap(SIZE, SIZE, 2, 0);
+        GazeSampleBatch batch = new GazeSampleBatch(3);
+        batch.add(0, 1.5f, 0.5f, 1.5f, 0.5f, 0);
+        batch.add(1, Float.NaN, Float.NaN, Float.NaN, Float.NaN, 0);
+        batch.add(2, 0.5f, -0.1f, 0.5f, -0.1f, 0);
+        heatmap.onGazeBatch(batch);
+        assertEquals(0, heatmap.getSampleCount());
+        assertEquals(0, heatmap.getTotalWeight(), 0);
+    }
+
+    /*
+     * Samples at 1 kHz starting at given timestamp, both eyes at (position, position).
+     */
+    private static GazeSampleBatch batch(long firstTimestamp, int size, float position) {
+        GazeSampleBatch batch = new GazeSampleBatch(size);
+        for (int i = 0; i < size; i++)
+            batch.add(firstTimestamp + i, position, position, position, position, 0);
+        return batch;
+    }
+}
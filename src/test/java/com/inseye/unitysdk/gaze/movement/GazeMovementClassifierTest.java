@@ -0,0 +1,121 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.movement;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of I-VT and I-DT classification of fixation, saccade, fixation sequence at 1 kHz,
+ * run on the development machine (host).
+ */
+public class GazeMovementClassifierTest {
+    private static final int QUEUE_SIZE = NativeRingBuffer.HEADER_SIZE + 64 * GazeMovementEventQueue.SLOT_SIZE;
+    private static final int[] EXPECTED_EVENTS = {
+            GazeMovementEventQueue.FIXATION_START,
+            GazeMovementEventQueue.FIXATION_END,
+            GazeMovementEventQueue.SACCADE_START,
+            GazeMovementEventQueue.SACCADE_END,
+            GazeMovementEventQueue.FIXATION_START,
+    };
+
+    private final Memory memory = new Memory(QUEUE_SIZE);
+
+    @Test
+    public void velocityThreshold_classifiesSaccadeBetweenFixations() {
+        GazeMovementEventQueue queue = new GazeMovementEventQueue(Pointer.nativeValue(memory), QUEUE_SIZE);
+        NativeRingBufferReader reader = new NativeRingBufferReader(Pointer.nativeValue(memory), QUEUE_SIZE, GazeMovementEventQueue.SLOT_SIZE);
+        // noise moves gaze by 0.4 units per second, saccade by 10
+        new VelocityThresholdClassifier(queue, 1, 50).onGazeBatch(fixationSaccadeFixation());
+        assertEvents(readEvents(reader));
+    }
+
+    @Test
+    public void dispersionThreshold_classifiesSaccadeBetweenFixations() {
+        GazeMovementEventQueue queue = new GazeMovementEventQueue(Pointer.nativeValue(memory), QUEUE_SIZE);
+        NativeRingBufferReader reader = new NativeRingBufferReader(Pointer.nativeValue(memory), QUEUE_SIZE, GazeMovementEventQueue.SLOT_SIZE);
+        new DispersionThresholdClassifier(queue, 0.01f, 50).onGazeBatch(fixationSaccadeFixation());
+        assertEvents(readEvents(reader));
+    }
+
+    @Test
+    public void shortFixation_isNotReported() {
+        GazeMovementEventQueue queue = new GazeMovementEventQueue(Pointer.nativeValue(memory), QUEUE_SIZE);
+        NativeRingBufferReader reader = new NativeRingBufferReader(Pointer.nativeValue(memory), QUEUE_SIZE, GazeMovementEventQueue.SLOT_SIZE);
+        GazeSampleBatch batch = new GazeSampleBatch(40);
+        for (int t = 0; t < 40; t++)
+            batch.add(t, 0.5f, 0.5f, 0.5f, 0.5f, 0);
+        new VelocityThresholdClassifier(queue, 1, 50).onGazeBatch(batch);
+        new DispersionThresholdClassifier(queue, 0.01f, 50).onGazeBatch(batch);
+        assertEquals(0, readEvents(reader).size());
+    }
+
+    /*
+     * Fixation at x = 0.1 for 200 ms, 30 ms saccade, fixation at x = 0.4 for 200 ms.
+     */
+    private static GazeSampleBatch fixationSaccadeFixation() {
+        GazeSampleBatch batch = new GazeSampleBatch(430);
+        for (int t = 0; t < 430; t++) {
+            float x;
+            if (t < 200)
+                x = 0.1f;
+            else if (t < 230)
+                x = 0.1f + (t - 199) * 0.01f;
+            else
+                x = 0.4f;
+            float noise = t % 2 == 0 ? 0.0002f : -0.0002f;
+            if (t >= 200 && t < 230)
+                noise = 0;
+            batch.add(t, x + noise, 0.1f, x + noise, 0.1f, 0);
+        }
+        return batch;
+    }
+
+    private static void assertEvents(List<long[]> events) {
+        assertEquals(EXPECTED_EVENTS.length, events.size());
+        for (int i = 0; i < EXPECTED_EVENTS.length; i++)
+            assertEquals(EXPECTED_EVENTS[i], events.get(i)[1]);
+        assertEquals(0, events.get(0)[0]);
+        assertEquals(0.1f, Float.intBitsToFloat((int) events.get(0)[2]), 0.001f);
+        // fixation ends with its last sample
+        assertEquals(199, events.get(1)[0]);
+        assertEquals(199, events.get(1)[3]);
+        assertEquals(199, events.get(2)[0]);
+        long saccadeDuration = events.get(3)[3];
+        assertTrue("saccade duration " + saccadeDuration, saccadeDuration >= 30 && saccadeDuration <= 32);
+        assertEquals(0.4f, Float.intBitsToFloat((int) events.get(4)[2]), 0.001f);
+    }
+
+    /*
+     * Returns time, type, x bits and duration of every queued event.
+     */
+    private static List<long[]> readEvents(NativeRingBufferReader reader) {
+        List<long[]> events = new ArrayList<>();
+        ByteBuffer buffer = reader.getBuffer();
+        int slot;
+        while ((slot = reader.peek()) >= 0) {
+            events.add(new long[]{buffer.getLong(slot), buffer.getInt(slot + 8),
+                    Float.floatToRawIntBits(buffer.getFloat(slot + 12)), buffer.getInt(slot + 20)});
+            reader.release();
+        }
+        return events;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.gaze.targets;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+import com.inseye.unitysdk.utils.NativeRingBuffer;
+import com.inseye.unitysdk.utils.NativeRingBufferReader;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of gaze target grid and hit testing hysteresis, run on the development machine (host).
+ * Unity side of command and event queues is simulated with java ring buffer writer and reader.
+ */
+public class GazeHitTesterTest {
+    private static final int QUEUE_SIZE = NativeRingBuffer.HEADER_SIZE + 64 * 32;
+    private static final float EXIT_MARGIN = 0.05f;
+    private static final int EXIT_DELAY_MS = 50;
+
+    private final Memory commandMemory = new Memory(QUEUE_SIZE);
+    private final Memory eventMemory = new Memory(QUEUE_SIZE);
+    private NativeRingBuffer commands;
+    private NativeRingBufferReader events;
+    private GazeHitTester hitTester;
+
+    @Before
+    public void setUp() {
+        long commandAddress = Pointer.nativeValue(commandMemory);
+        long eventAddress = Pointer.nativeValue(eventMemory);
+        commands = new NativeRingBuffer(commandAddress, QUEUE_SIZE, GazeHitTester.COMMAND_SLOT_SIZE);
+        NativeRingBufferReader commandReader = new NativeRingBufferReader(commandAddress, QUEUE_SIZE, GazeHitTester.COMMAND_SLOT_SIZE);
+        GazeHitEventQueue eventQueue = new GazeHitEventQueue(eventAddress, QUEUE_SIZE);
+        events = new NativeRingBufferReader(eventAddress, QUEUE_SIZE, GazeHitEventQueue.SLOT_SIZE);
+        hitTester = new GazeHitTester(commandReader, eventQueue, new GazeTargetGrid(16, 8, 8), EXIT_MARGIN, EXIT_DELAY_MS);
+    }
+
+    @Test
+    public void grid_hitsSmallestContainingTarget() {
+        GazeTargetGrid grid = new GazeTargetGrid(8, 4, 4);
+        assertTrue(grid.set(0, GazeTargetShape.Rectangle, 0.1f, 0.1f, 0.9f, 0.9f, 0));
+        assertTrue(grid.set(1, GazeTargetShape.Rectangle, 0.4f, 0.4f, 0.6f, 0.6f, 0));
+        assertTrue(grid.set(2, GazeTargetShape.Circle, 0.8f, 0.2f, 0.05f, 0, 0));
+        assertEquals(3, grid.getTargetCount());
+        assertEquals(1, grid.hit(0.5f, 0.5f));
+        assertEquals(0, grid.hit(0.3f, 0.5f));
+        assertEquals(2, grid.hit(0.8f, 0.2f));
+        // inside bounding box of the circle, but outside of the circle
+        assertEquals(0, grid.hit(0.84f, 0.24f));
+        assertEquals(-1, grid.hit(0.95f, 0.5f));
+        assertEquals(-1, grid.hit(1.5f, 0.5f));
+        assertEquals(-1, grid.hit(Float.NaN, 0.5f));
+        // target spanning many cells is found in each of them and removed from all of them
+        for (float x = 0.15f; x < 0.9f; x += 0.1f)
+            assertNotEquals(-1, grid.hit(x, 0.15f));
+        grid.remove(0);
+        assertEquals(-1, grid.hit(0.3f, 0.5f));
+        assertEquals(1, grid.hit(0.5f, 0.5f));
+        // replaced target moves
+        assertTrue(grid.set(1, GazeTargetShape.Rectangle, 0, 0, 0.1f, 0.1f, 0));
+        assertEquals(-1, grid.hit(0.5f, 0.5f));
+        assertEquals(1, grid.hit(0.05f, 0.05f));
+        assertEquals(2, grid.getTargetCount());
+        grid.clear();
+        assertEquals(0, grid.getTargetCount());
+        assertEquals(-1, grid.hit(0.05f, 0.05f));
+    }
+
+    @Test
+    public void grid_rejectsInvalidTargets() {
+        GazeTargetGrid grid = new GazeTargetGrid(4, 4, 4);
+        assertFalse(grid.set(4, GazeTargetShape.Rectangle, 0, 0, 1, 1, 0));
+        assertFalse(grid.set(0, GazeTargetShape.Rectangle, 0.5f, 0, 0.4f, 1, 0));
+        assertFalse(grid.set(0, GazeTargetShape.Rectangle, Float.NaN, 0, 1, 1, 0));
+        assertFalse(grid.set(0, 7, 0, 0, 1, 1, 0));
+        assertFalse(grid.set(0, GazeTargetShape.Rectangle, 0, 0, 1, 1, -1));
+        assertEquals(0, grid.getTargetCount());
+    }
+
+    @Test
+    public void focus_hasSpatialAndTemporalHysteresis() {
+        setTarget(3, 0.4f, 0.4f, 0.6f, 0.6f, 100);
+        gaze(0, 100, 0.5f);
+        assertEvent(GazeHitEventQueue.ENTER, 0, 3, 0);
+        assertNoEvent();
+        // jitter out of the target but within exit margin does not exit
+        gaze(100, 150, 0.63f);
+        assertEvent(GazeHitEventQueue.DWELL_COMPLETE, 100, 3, 100);
+        assertNoEvent();
+        // gaze off all targets exits after exit delay, time in exit delay is not counted
+        gaze(150, 198, 0.9f);
+        assertNoEvent();
+        gaze(198, 250, 0.9f);
+        assertEvent(GazeHitEventQueue.EXIT, 149 + EXIT_DELAY_MS, 3, 149);
+        assertNoEvent();
+    }
+
+    @Test
+    public void shortLossOfTarget_keepsDwell() {
+        setTarget(3, 0.4f, 0.4f, 0.6f, 0.6f, 100);
+        gaze(0, 40, 0.5f);
+        gaze(40, 70, 0.9f);
+        gaze(70, 120, 0.5f);
+        assertEvent(GazeHitEventQueue.ENTER, 0, 3, 0);
+        assertEvent(GazeHitEventQueue.DWELL_COMPLETE, 100, 3, 100);
+        assertNoEvent();
+    }
+
+    @Test
+    public void smallerTargetInsideFocusedOne_takesFocusImmediately() {
+        setTarget(0, 0.1f, 0.1f, 0.9f, 0.9f, 0);
+        setTarget(1, 0.4f, 0.4f, 0.6f, 0.6f, 0);
+        gaze(0, 10, 0.2f);
+        gaze(10, 20, 0.5f);
+        assertEvent(GazeHitEventQueue.ENTER, 0, 0, 0);
+        assertEvent(GazeHitEventQueue.EXIT, 10, 0, 9);
+        assertEvent(GazeHitEventQueue.ENTER, 10, 1, 0);
+        // panel around the button is not focused again while gaze is within button exit margin
+        gaze(20, 100, 0.62f);
+        assertNoEvent();
+    }
+
+    @Test
+    public void removingFocusedTarget_exitsIt() {
+        setTarget(2, 0.4f, 0.4f, 0.6f, 0.6f, 0);
+        gaze(0, 10, 0.5f);
+        assertEvent(GazeHitEventQueue.ENTER, 0, 2, 0);
+        writeCommand(GazeHitTester.REMOVE_TARGET, 2, 0, 0, 0, 0, 0, 0);
+        writeCommand(42, 2, 0, 0, 0, 0, 0, 0);
+        gaze(10, 11, 0.5f);
+        assertEvent(GazeHitEventQueue.EXIT, 9, 2, 9);
+        assertNoEvent();
+        assertEquals(1, hitTester.getRejectedCommandCount());
+    }
+
+    /*
+     * Feeds 1 kHz gaze at (x, 0.5) with timestamps [from, to).
+     */
+    private void gaze(long from, long to, float x) {
+        GazeSampleBatch batch = new GazeSampleBatch((int) (to - from));
+        for (long t = from; t < to; t++)
+            batch.add(t, x, 0.5f, x, 0.5f, 0);
+        hitTester.onGazeBatch(batch);
+    }
+
+    private void setTarget(int id, float x0, float y0, float x1, float y1, int dwellMs) {
+        writeCommand(GazeHitTester.SET_TARGET, id, GazeTargetShape.Rectangle, dwellMs, x0, y0, x1, y1);
+    }
+
+    private void writeCommand(int command, int id, int shape, int dwellMs, float a, float b, float c, float d) {
+        int slot = commands.claim();
+        assertTrue(slot >= 0);
+        ByteBuffer buffer = commands.getBuffer();
+        buffer.putInt(slot, command);
+        buffer.putInt(slot + 4, id);
+        buffer.putInt(slot + 8, shape);
+        buffer.putInt(slot + 12, dwellMs);
+        buffer.putFloat(slot + 16, a);
+        buffer.putFloat(slot + 20, b);
+        buffer.putFloat(slot + 24, c);
+        buffer.putFloat(slot + 28, d);
+        commands.publish();
+    }
+
+    private void assertEvent(int type, long timestamp, int targetId, int durationMs) {
+        int slot = events.peek();
+        assertTrue("missing event", slot >= 0);
+        ByteBuffer buffer = events.getBuffer();
+        assertEquals(type, buffer.getInt(slot + 8));
+        assertEquals(timestamp, buffer.getLong(slot));
+        assertEquals(targetId, buffer.getInt(slot + 12));
+        assertEquals(durationMs, buffer.getInt(slot + 24));
+        events.release();
+    }
+
+    private void assertNoEvent() {
+        assertEquals(-1, events.peek());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Last edit: 17.10.2026, 03:53
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.metrics;
+
+import android.os.RemoteException;
+
+import com.inseye.shared.communication.ActionResult;
+import com.inseye.shared.communication.BinaryStreamActionResult;
+import com.inseye.shared.communication.ISharedService;
+import com.inseye.shared.communication.IntActionResult;
+import com.inseye.shared.communication.StringActionResult;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of remote call metrics, run on the development machine (host).
+ * Calls are recorded with start time in the past, latencies are chosen far from bucket bounds.
+ */
+public class MetricsRegistryTest {
+    private static final int PAGE_HEADER_SIZE = 64;
+    private static final int ROW_LONGS = 16;
+    private static final int FIRST_BUCKET = 4;
+
+    private final Memory page = new Memory(MetricsRegistry.PAGE_SIZE);
+
+    @Test
+    public void latencies_fallIntoBuckets() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.setNativePage(Pointer.nativeValue(page), MetricsRegistry.PAGE_SIZE);
+        int method = RemoteMethod.GetVersions;
+        // < 50 us bucket would need sub 50 us call overhead, smallest checked latency is in [50, 100) us
+        record(registry, method, 70_000, false);
+        record(registry, method, 3_500_000, false);
+        record(registry, method, 3_600_000, true);
+        record(registry, method, 400_000_000, true);
+
+        assertEquals(4, registry.getCount(method));
+        assertEquals(0, registry.getCount(RemoteMethod.IsCalibrated));
+        assertEquals(RemoteMethod.COUNT, page.getInt(8));
+        assertEquals(MetricsRegistry.BUCKET_COUNT, page.getInt(12));
+        assertEquals(4, row(method, 0));
+        assertEquals(2, row(method, 1));
+        assertTrue(row(method, 3) >= 400_000_000);
+        long[] expected = new long[MetricsRegistry.BUCKET_COUNT];
+        expected[1] = 1; // [50, 100)
+        expected[6] = 2; // [2500, 5000)
+        expected[MetricsRegistry.BUCKET_COUNT - 1] = 1; // >= 100 ms
+        for (int bucket = 0; bucket < MetricsRegistry.BUCKET_COUNT; bucket++)
+            assertEquals("bucket " + bucket, expected[bucket], row(method, FIRST_BUCKET + bucket));
+        // page sequence is even when page is not being written
+        assertEquals(0, page.getLong(0) & 1);
+    }
+
+    @Test
+    public void reset_clearsCountersAndPage() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.setNativePage(Pointer.nativeValue(page), MetricsRegistry.PAGE_SIZE);
+        record(registry, RemoteMethod.IsCalibrated, 70_000, true);
+        registry.reset();
+        assertEquals(0, registry.getCount(RemoteMethod.IsCalibrated));
+        for (int i = 0; i < ROW_LONGS; i++)
+            assertEquals(0, row(RemoteMethod.IsCalibrated, i));
+    }
+
+    @Test
+    public void unsuccessfulResults_areCountedAsErrors() throws RemoteException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.setNativePage(Pointer.nativeValue(page), MetricsRegistry.PAGE_SIZE);
+        // service answering every call with unsuccessful result
+        ISharedService failing = (ISharedService) Proxy.newProxyInstance(ISharedService.class.getClassLoader(),
+                new Class<?>[]{ISharedService.class}, (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == ActionResult.class)
+                        return ActionResult.error("failed");
+                    if (type == IntActionResult.class)
+                        return new IntActionResult();
+                    if (type == StringActionResult.class)
+                        return new StringActionResult();
+                    if (type == BinaryStreamActionResult.class)
+                        return new BinaryStreamActionResult();
+                    return null;
+                });
+        MeasuredSharedService service = new MeasuredSharedService(failing, registry);
+        service.startStreamingGazeData();
+        service.subscribeToEyetrackerEvents(null);
+        service.beginRecordingRawData();
+        service.endRecordingRawData();
+        service.startStreamingRawData(1);
+        service.startCalibrationProcedure(ActionResult.error("failed"), null);
+        int[] methods = {RemoteMethod.StartStreamingGazeData, RemoteMethod.SubscribeToEyetrackerEvents,
+                RemoteMethod.BeginRecordingRawData, RemoteMethod.EndRecordingRawData,
+                RemoteMethod.StartStreamingRawData, RemoteMethod.StartCalibrationProcedure};
+        for (int method : methods) {
+            assertEquals(RemoteMethod.NAMES[method], 1, row(method, 0));
+            assertEquals(RemoteMethod.NAMES[method], 1, row(method, 1));
+        }
+    }
+
+    private static void record(MetricsRegistry registry, int method, long latencyNanos, boolean failed) {
+        registry.record(method, MetricsRegistry.start() - latencyNanos, failed);
+    }
+
+    private long row(int method, int index) {
+        return page.getLong(PAGE_HEADER_SIZE + (method * ROW_LONGS + index) * 8);
+    }
+}
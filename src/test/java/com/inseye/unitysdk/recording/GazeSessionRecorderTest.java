@@ -0,0 +1,139 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.recording;
+
+import com.inseye.unitysdk.gaze.GazeSampleBatch;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of session recording and reading back, run on the development machine (host).
+ */
+public class GazeSessionRecorderTest {
+    private static final String VERSIONS = "service 1.2.3, firmware 4.5";
+    private static final int DOMINANT_EYE = 2;
+    // small segments, so recording spans many of them
+    private static final int SEGMENT_SIZE = 10 * GazeSessionFormat.RECORD_SIZE;
+    private static final int SAMPLES = 1000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private GazeSessionRecorder recorder;
+
+    @After
+    public void tearDown() {
+        if (null != recorder)
+            recorder.close();
+    }
+
+    @Test
+    public void recordedSession_isReadBack() throws IOException {
+        File file = folder.newFile("session.igz");
+        recorder = new GazeSessionRecorder(file, VERSIONS, DOMINANT_EYE, SEGMENT_SIZE, 5);
+        record(recorder, SAMPLES);
+        recorder.close();
+        assertEquals(GazeSessionFormat.HEADER_SIZE + SAMPLES * GazeSessionFormat.RECORD_SIZE, file.length());
+
+        try (GazeSessionReader reader = new GazeSessionReader(file)) {
+            assertEquals(SAMPLES, reader.getRecordCount());
+            assertTrue(reader.isClosedCleanly());
+            assertEquals(DOMINANT_EYE, reader.getDominantEye());
+            assertEquals(VERSIONS, reader.getVersions());
+            // read in chunks not aligned to segments or reader buffer
+            GazeSampleBatch batch = new GazeSampleBatch(333);
+            long position = 0;
+            while (position < SAMPLES) {
+                batch.clear();
+                int read = reader.read(position, batch);
+                assertEquals(Math.min(333, SAMPLES - position), read);
+                for (int i = 0; i < read; i++)
+                    assertSample(position + i, batch, i);
+                position += read;
+            }
+            batch.clear();
+            assertEquals(0, reader.read(SAMPLES, batch));
+        }
+    }
+
+    @Test
+    public void crashedSession_readsRecordedSamplesOnly() throws IOException {
+        File file = folder.newFile("crashed.igz");
+        // recording is never closed before the file is read, like after crash of the application
+        recorder = new GazeSessionRecorder(file, VERSIONS, DOMINANT_EYE, 1000 * GazeSessionFormat.RECORD_SIZE, 5);
+        record(recorder, 150);
+        assertTrue(file.length() > GazeSessionFormat.HEADER_SIZE + 150 * GazeSessionFormat.RECORD_SIZE);
+
+        try (GazeSessionReader reader = new GazeSessionReader(file)) {
+            assertEquals(150, reader.getRecordCount());
+            assertFalse(reader.isClosedCleanly());
+            GazeSampleBatch batch = new GazeSampleBatch(200);
+            assertEquals(150, reader.read(0, batch));
+            assertSample(149, batch, 149);
+        }
+    }
+
+    @Test
+    public void truncatedSession_readsWholeRecordsOnly() throws IOException {
+        File file = folder.newFile("truncated.igz");
+        recorder = new GazeSessionRecorder(file, VERSIONS, DOMINANT_EYE, SEGMENT_SIZE, 5);
+        record(recorder, 100);
+        recorder.close();
+        // storage lost the tail of the file, last record is cut in half
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(GazeSessionFormat.HEADER_SIZE + 10 * GazeSessionFormat.RECORD_SIZE + 5);
+        }
+        try (GazeSessionReader reader = new GazeSessionReader(file)) {
+            assertEquals(10, reader.getRecordCount());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void foreignFile_isRejected() throws IOException {
+        File file = folder.newFile("foreign.bin");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(GazeSessionFormat.HEADER_SIZE * 2);
+        }
+        new GazeSessionReader(file).close();
+    }
+
+    /*
+     * Records samples in batches of varying size, values are derived from sample index.
+     */
+    private static void record(GazeSessionRecorder recorder, int samples) {
+        GazeSampleBatch batch = new GazeSampleBatch(17);
+        int index = 0;
+        while (index < samples) {
+            batch.clear();
+            int size = Math.min(1 + index % 17, samples - index);
+            for (int i = 0; i < size; i++, index++)
+                batch.add(1000L * index, index, -index, index * 0.5f, index * 0.25f, index % 5);
+            recorder.onGazeBatch(batch);
+        }
+        assertEquals(samples, recorder.getRecordCount());
+    }
+
+    private static void assertSample(long index, GazeSampleBatch batch, int i) {
+        assertEquals(1000L * index, batch.timestamps[i]);
+        assertEquals(index, batch.leftX[i], 0);
+        assertEquals(-index, batch.leftY[i], 0);
+        assertEquals(index * 0.5f, batch.rightX[i], 0);
+        assertEquals(index * 0.25f, batch.rightY[i], 0);
+        assertEquals(index % 5, batch.gazeEvents[i]);
+    }
+}
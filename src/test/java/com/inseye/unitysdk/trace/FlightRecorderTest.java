@@ -0,0 +1,63 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.trace;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of flight recorder ring, run on the development machine (host).
+ * Events with unknown id are dumped with all three arguments, so dump can be checked without TraceEvent names.
+ */
+public class FlightRecorderTest {
+    private static final int UNKNOWN_EVENT = 1000;
+
+    @Test
+    public void oldestEvents_areOverwritten() {
+        FlightRecorder recorder = new FlightRecorder(8);
+        for (int i = 0; i < 20; i++)
+            recorder.record(UNKNOWN_EVENT, i, -i, 7);
+        assertEquals(20, recorder.getRecordedCount());
+        String[] lines = recorder.dump(0).split("\n");
+        assertEquals(8, lines.length);
+        for (int i = 0; i < lines.length; i++)
+            assertTrue(lines[i], lines[i].endsWith(" event_1000 " + (12 + i) + " " + -(12 + i) + " 7"));
+    }
+
+    @Test
+    public void dump_startsAtGivenSequence() {
+        FlightRecorder recorder = new FlightRecorder(8);
+        for (int i = 0; i < 6; i++)
+            recorder.record(UNKNOWN_EVENT, i, 0, 0);
+        long mark = recorder.getRecordedCount();
+        for (int i = 6; i < 10; i++)
+            recorder.record(UNKNOWN_EVENT, i, 0, 0);
+        String[] lines = recorder.dump(mark).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0], lines[0].endsWith(" event_1000 6 0 0"));
+        // events before the mark are already overwritten anyway
+        assertEquals(8, recorder.dump(0).split("\n").length);
+    }
+
+    @Test
+    public void disabledRecorder_recordsNothing() {
+        FlightRecorder recorder = new FlightRecorder(4);
+        recorder.setEnabled(false);
+        recorder.record(UNKNOWN_EVENT, 1, 2, 3);
+        assertEquals(0, recorder.getRecordedCount());
+        assertEquals("", recorder.dump(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacity_mustBePowerOfTwo() {
+        new FlightRecorder(12);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Last edit: 17.10.2026, 03:49
+ * Copyright (c) Inseye Inc.
+ *
+ * This file is part of Inseye Software Development Kit subject to Inseye SDK License
+ * See  https://github.com/Inseye/Licenses/blob/master/SDKLicense.txt.
+ * All other rights reserved.
+ */
+
+package com.inseye.unitysdk.utils;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of native ring buffer with java on both sides, run on the development machine (host).
+ */
+public class NativeRingBufferTest {
+    private static final int SLOT_SIZE = 16;
+    // capacity is rounded down to power of two, so 10 slots of memory give 8 slots
+    private static final int SIZE = NativeRingBuffer.HEADER_SIZE + 10 * SLOT_SIZE;
+
+    private final Memory memory = new Memory(SIZE);
+
+    @Test
+    public void slots_wrapAround() {
+        long address = Pointer.nativeValue(memory);
+        NativeRingBuffer writer = new NativeRingBuffer(address, SIZE, SLOT_SIZE);
+        NativeRingBufferReader reader = new NativeRingBufferReader(address, SIZE, SLOT_SIZE);
+        assertEquals(8, writer.getCapacity());
+        assertEquals(8, reader.getCapacity());
+        assertEquals(-1, reader.peek());
+        long next = 0;
+        for (long value = 0; value < 100; value++) {
+            write(writer, value);
+            // reader falls behind by up to 5 slots
+            if (value % 5 == 4) {
+                int slot;
+                while ((slot = reader.peek()) >= 0) {
+                    assertEquals(next++, reader.getBuffer().getLong(slot));
+                    reader.release();
+                }
+            }
+        }
+        assertEquals(100, next);
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    public void fullRing_dropsNewestSlots() {
+        long address = Pointer.nativeValue(memory);
+        NativeRingBuffer writer = new NativeRingBuffer(address, SIZE, SLOT_SIZE);
+        NativeRingBufferReader reader = new NativeRingBufferReader(address, SIZE, SLOT_SIZE);
+        for (long value = 0; value < 11; value++) {
+            if (!write(writer, value))
+                assertTrue(value >= 8);
+        }
+        assertEquals(3, writer.getDroppedCount());
+        assertEquals(3, reader.getDroppedCount());
+        // released slot is reused
+        int slot = reader.peek();
+        assertEquals(0, reader.getBuffer().getLong(slot));
+        reader.release();
+        assertTrue(write(writer, 11));
+        for (long expected = 1; expected < 8; expected++) {
+            slot = reader.peek();
+            assertEquals(expected, reader.getBuffer().getLong(slot));
+            reader.release();
+        }
+        assertEquals(11, reader.getBuffer().getLong(reader.peek()));
+    }
+
+    private static boolean write(NativeRingBuffer writer, long value) {
+        int slot = writer.claim();
+        if (slot < 0)
+            return false;
+        ByteBuffer buffer = writer.getBuffer();
+        buffer.putLong(slot, value);
+        writer.publish();
+        return true;
+    }
+}